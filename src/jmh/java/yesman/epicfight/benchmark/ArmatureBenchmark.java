@@ -0,0 +1,66 @@
+package yesman.epicfight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.animation.TransformScratch;
+import yesman.epicfight.api.model.Armature;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+
+/**
+ * Skinning matrices of the biped armature posed by a bundled clip, and of synthetic armatures of increasing size.
+ * A joint number of 0 stands for the biped.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArmatureBenchmark {
+	@Param({ "0", "64", "256" })
+	public int jointNumber;
+	
+	private Armature armature;
+	private Pose pose;
+	private OpenMatrix4f[] matrices;
+	private TransformScratch scratch;
+	
+	@Setup
+	public void setup() {
+		if (this.jointNumber == 0) {
+			this.armature = BenchmarkFixtures.loadBipedArmature();
+			AnimationClip clip = BenchmarkFixtures.loadClip(this.armature, BenchmarkFixtures.BIPED_SWORD_AUTO);
+			this.pose = clip.getPoseInTime(clip.getClipTime() * 0.5F);
+		} else {
+			this.armature = BenchmarkFixtures.createSyntheticArmature(this.jointNumber, 42L);
+			this.pose = BenchmarkFixtures.createRandomPose(this.armature, 42L);
+		}
+		
+		this.scratch = new TransformScratch();
+		this.matrices = this.scratch.getJointMatrices(this.armature.getJointNumber());
+	}
+	
+	@Benchmark
+	public OpenMatrix4f[] getPoseAsTransformMatrix() {
+		return this.armature.getPoseAsTransformMatrix(this.pose, true, this.matrices, this.scratch);
+	}
+	
+	@Benchmark
+	public OpenMatrix4f[] getPoseAsTransformMatrixAllocating() {
+		return this.armature.getPoseAsTransformMatrix(this.pose, true);
+	}
+}
@@ -0,0 +1,119 @@
+package yesman.epicfight.benchmark;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.joml.Quaternionf;
+
+import com.google.common.collect.Maps;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.PathPackResources;
+import net.minecraft.server.packs.resources.MultiPackResourceManager;
+import net.minecraft.server.packs.resources.ResourceManager;
+import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.Joint;
+import yesman.epicfight.api.animation.JointTransform;
+import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.model.Armature;
+import yesman.epicfight.api.model.JsonModelLoader;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+import yesman.epicfight.api.utils.math.Vec3f;
+import yesman.epicfight.model.armature.HumanoidArmature;
+
+/**
+ * Loads armatures and clips from the mod resources without starting the game, and builds synthetic ones
+ */
+public class BenchmarkFixtures {
+	public static final String BIPED_ARMATURE = "animmodels/entity/biped.json";
+	public static final String BIPED_WALK = "animmodels/animations/biped/living/walk.json";
+	public static final String BIPED_SWORD_AUTO = "animmodels/animations/biped/combat/sword_auto1.json";
+	
+	private static ResourceManager resourceManager;
+	
+	/**
+	 * A resource manager over the built resources directory, given by the epicfight.resources system property
+	 * or located through the class path
+	 */
+	public static synchronized ResourceManager getResourceManager() {
+		if (resourceManager == null) {
+			resourceManager = new MultiPackResourceManager(PackType.CLIENT_RESOURCES, List.of(new PathPackResources("epicfight", getResourceRoot(), true)));
+		}
+		
+		return resourceManager;
+	}
+	
+	public static HumanoidArmature loadBipedArmature() {
+		return new JsonModelLoader(getResourceManager(), new ResourceLocation("epicfight", BIPED_ARMATURE)).loadArmature(HumanoidArmature::new);
+	}
+	
+	public static AnimationClip loadClip(Armature armature, String path) {
+		return new JsonModelLoader(getResourceManager(), new ResourceLocation("epicfight", path)).loadAnimationClip(armature);
+	}
+	
+	/**
+	 * Builds an armature of the given size where joint i is a child of joint (i - 1) / 2
+	 */
+	public static Armature createSyntheticArmature(int jointNumber, long seed) {
+		Random random = new Random(seed);
+		Map<String, Joint> jointMap = Maps.newLinkedHashMap();
+		Joint[] joints = new Joint[jointNumber];
+		
+		for (int i = 0; i < jointNumber; i++) {
+			OpenMatrix4f localTransform = OpenMatrix4f.createTranslation(random.nextFloat() - 0.5F, random.nextFloat(), random.nextFloat() - 0.5F);
+			localTransform.rotateDeg(random.nextFloat() * 90.0F, Vec3f.Y_AXIS);
+			joints[i] = new Joint("SyntheticJoint" + i, i, localTransform);
+			jointMap.put(joints[i].getName(), joints[i]);
+			
+			if (i > 0) {
+				joints[(i - 1) / 2].addSubJoint(joints[i]);
+			}
+		}
+		
+		joints[0].initOriginTransform(new OpenMatrix4f());
+		
+		return new Armature("benchmark:synthetic" + jointNumber, jointNumber, joints[0], jointMap);
+	}
+	
+	/**
+	 * A pose that moves every joint of the armature
+	 */
+	public static Pose createRandomPose(Armature armature, long seed) {
+		Random random = new Random(seed);
+		Pose pose = new Pose();
+		
+		for (Joint joint : armature.getRootJoint().getAllJoints()) {
+			Quaternionf rotation = new Quaternionf().rotateXYZ(random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F);
+			pose.putJointData(joint.getName(), JointTransform.translationRotation(new Vec3f(random.nextFloat() * 0.1F, random.nextFloat() * 0.1F, random.nextFloat() * 0.1F), rotation));
+		}
+		
+		return pose;
+	}
+	
+	private static Path getResourceRoot() {
+		String property = System.getProperty("epicfight.resources");
+		
+		if (property != null) {
+			return Paths.get(property);
+		}
+		
+		URL armature = BenchmarkFixtures.class.getResource("/assets/epicfight/" + BIPED_ARMATURE);
+		
+		if (armature == null) {
+			throw new IllegalStateException("Can't find the mod resources, set -Depicfight.resources to the resources directory");
+		}
+		
+		try {
+			// assets/epicfight/animmodels/entity/biped.json
+			return Paths.get(armature.toURI()).getParent().getParent().getParent().getParent().getParent();
+		} catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
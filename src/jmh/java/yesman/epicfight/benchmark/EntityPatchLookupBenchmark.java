@@ -0,0 +1,143 @@
+package yesman.epicfight.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityDispatcher;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+import yesman.epicfight.world.capabilities.EpicFightCapabilities;
+import yesman.epicfight.world.capabilities.entitypatch.EntityPatch;
+import yesman.epicfight.world.capabilities.entitypatch.EntityPatchHolder;
+
+/**
+ * Compares the entity patch lookup through the capability dispatcher of an entity with the field of {@link EntityPatchHolder}.
+ * Mixins aren't applied here, so the dispatcher and the field are held by stand-ins of the entity. Other providers are
+ * attached before ours, as other mods do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityPatchLookupBenchmark {
+	@Param({ "0", "4" })
+	private int otherProviders;
+	
+	private CapabilityDispatcher dispatcher;
+	private EntityPatchHolder holder;
+	
+	@Setup
+	public void setup() {
+		BenchmarkPatch entitypatch = new BenchmarkPatch();
+		LazyOptional<EntityPatch<?>> optional = LazyOptional.of(() -> entitypatch);
+		Map<ResourceLocation, ICapabilityProvider> providers = Maps.newLinkedHashMap();
+		
+		for (int i = 0; i < this.otherProviders; i++) {
+			providers.put(new ResourceLocation("benchmark", "other_" + i), new ICapabilityProvider() {
+				@Override
+				public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
+					return LazyOptional.empty();
+				}
+			});
+		}
+		
+		providers.put(new ResourceLocation("epicfight", "entity_cap"), new ICapabilityProvider() {
+			@Override
+			public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
+				return cap == EpicFightCapabilities.CAPABILITY_ENTITY ? optional.cast() : LazyOptional.empty();
+			}
+		});
+		
+		this.dispatcher = new CapabilityDispatcher(providers, Lists.newArrayList());
+		this.holder = new FieldHolder();
+		this.holder.epicfight_setEntityPatch(entitypatch);
+	}
+	
+	/**
+	 * The lookup of {@link EpicFightCapabilities#getEntityPatch} before the field
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T getByCapability(Class<T> type) {
+		EntityPatch<?> entitypatch = this.dispatcher.getCapability(EpicFightCapabilities.CAPABILITY_ENTITY).orElse(null);
+		
+		if (entitypatch != null && type.isAssignableFrom(entitypatch.getClass())) {
+			return (T)entitypatch;
+		}
+		
+		return null;
+	}
+	
+	@Benchmark
+	public BenchmarkPatch capability() {
+		return this.getByCapability(BenchmarkPatch.class);
+	}
+	
+	@Benchmark
+	public SubPatch capabilityMismatch() {
+		return this.getByCapability(SubPatch.class);
+	}
+	
+	@Benchmark
+	public BenchmarkPatch field() {
+		return this.holder.epicfight_getEntityPatch(BenchmarkPatch.class);
+	}
+	
+	@Benchmark
+	public SubPatch fieldMismatch() {
+		return this.holder.epicfight_getEntityPatch(SubPatch.class);
+	}
+	
+	/**
+	 * Holds the entity patch like {@link yesman.epicfight.mixin.MixinEntity} does in entities
+	 */
+	private static class FieldHolder implements EntityPatchHolder {
+		private EntityPatch<?> entitypatch;
+		
+		@Override
+		public EntityPatch<?> epicfight_getEntityPatch() {
+			return this.entitypatch;
+		}
+		
+		@Override
+		public void epicfight_setEntityPatch(EntityPatch<?> entitypatch) {
+			this.entitypatch = entitypatch;
+		}
+	}
+	
+	public static class BenchmarkPatch extends EntityPatch<Entity> {
+		@Override
+		public boolean overrideRender() {
+			return false;
+		}
+		
+		@Override
+		public OpenMatrix4f getModelMatrix(float partialTicks) {
+			return null;
+		}
+	}
+	
+	public static class SubPatch extends BenchmarkPatch {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package yesman.epicfight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import yesman.epicfight.api.collider.OBBCollider;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+import yesman.epicfight.api.utils.math.Vec3f;
+
+/**
+ * Separating axis tests between a weapon sized box and an entity sized box, either overlapping or rejected
+ * at different axes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OBBColliderBenchmark {
+	@Param({ "0.0", "0.9", "3.0" })
+	public float distance;
+	
+	private OBBCollider weapon;
+	private OBBCollider target;
+	private OpenMatrix4f weaponTransform;
+	
+	@Setup
+	public void setup() {
+		this.weapon = new OBBCollider(0.2D, 0.2D, 0.9D, 0.0D, 0.0D, -0.9D);
+		this.target = new OBBCollider(0.3D, 0.9D, 0.3D, 0.0D, 0.0D, 0.0D);
+		this.weaponTransform = OpenMatrix4f.createTranslation(this.distance, 0.8F, 0.4F).rotateDeg(40.0F, Vec3f.Y_AXIS).rotateDeg(-25.0F, Vec3f.X_AXIS);
+		this.target.transform(OpenMatrix4f.createTranslation(0.0F, 0.9F, 0.0F));
+	}
+	
+	@Benchmark
+	public boolean isCollide() {
+		return this.weapon.isCollide(this.target);
+	}
+	
+	@Benchmark
+	public boolean transformAndCollide() {
+		this.weapon.transform(this.weaponTransform);
+		return this.weapon.isCollide(this.target);
+	}
+}
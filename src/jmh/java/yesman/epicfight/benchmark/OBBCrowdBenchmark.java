@@ -0,0 +1,79 @@
+package yesman.epicfight.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.world.phys.AABB;
+import yesman.epicfight.api.collider.OBBCollider;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+import yesman.epicfight.api.utils.math.Vec3f;
+
+/**
+ * Narrowphase of a weapon box against the bounding boxes of a mob crowd around the attacker, testing the boxes
+ * directly against converting every box to an obb first as entity tests did before
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OBBCrowdBenchmark {
+	@Param({ "64", "1024" })
+	public int crowdSize;
+	
+	private OBBCollider weapon;
+	private AABB[] crowd;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(31L);
+		this.weapon = new OBBCollider(0.2D, 0.2D, 0.9D, 0.0D, 0.0D, -0.9D);
+		this.weapon.transform(OpenMatrix4f.createTranslation(0.0F, 0.8F, 0.4F).rotateDeg(40.0F, Vec3f.Y_AXIS).rotateDeg(-25.0F, Vec3f.X_AXIS));
+		this.crowd = new AABB[this.crowdSize];
+		
+		for (int i = 0; i < this.crowdSize; i++) {
+			double x = (random.nextDouble() - 0.5D) * 8.0D;
+			double z = (random.nextDouble() - 0.5D) * 8.0D;
+			this.crowd[i] = new AABB(x - 0.3D, 0.0D, z - 0.3D, x + 0.3D, 1.8D, z + 0.3D);
+		}
+	}
+	
+	@Benchmark
+	public int aabbTest() {
+		int hits = 0;
+		
+		for (AABB aabb : this.crowd) {
+			if (this.weapon.isCollide(aabb)) {
+				hits++;
+			}
+		}
+		
+		return hits;
+	}
+	
+	@Benchmark
+	public int obbFromAabbTest() {
+		int hits = 0;
+		
+		for (AABB aabb : this.crowd) {
+			if (this.weapon.isCollide(new OBBCollider(aabb))) {
+				hits++;
+			}
+		}
+		
+		return hits;
+	}
+}
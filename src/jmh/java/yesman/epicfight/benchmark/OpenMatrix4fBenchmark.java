@@ -0,0 +1,64 @@
+package yesman.epicfight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joml.Quaternionf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+import yesman.epicfight.api.utils.math.Vec3f;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenMatrix4fBenchmark {
+	private OpenMatrix4f left;
+	private OpenMatrix4f right;
+	private OpenMatrix4f dest;
+	private Quaternionf quaternion;
+	
+	@Setup
+	public void setup() {
+		this.left = OpenMatrix4f.createTranslation(0.3F, 1.2F, -0.5F).rotateDeg(35.0F, Vec3f.Y_AXIS);
+		this.right = OpenMatrix4f.createRotatorDeg(-70.0F, Vec3f.X_AXIS).translate(0.0F, 0.4F, 0.1F);
+		this.dest = new OpenMatrix4f();
+		this.quaternion = new Quaternionf().rotateXYZ(0.4F, -0.2F, 1.1F);
+	}
+	
+	@Benchmark
+	public OpenMatrix4f mul() {
+		return OpenMatrix4f.mul(this.left, this.right, this.dest);
+	}
+	
+	@Benchmark
+	public OpenMatrix4f mulAllocating() {
+		return OpenMatrix4f.mul(this.left, this.right, null);
+	}
+	
+	@Benchmark
+	public OpenMatrix4f invert() {
+		return OpenMatrix4f.invert(this.left, this.dest);
+	}
+	
+	@Benchmark
+	public OpenMatrix4f fromQuaternion() {
+		return OpenMatrix4f.fromQuaternion(this.quaternion, this.dest);
+	}
+	
+	@Benchmark
+	public Quaternionf toQuaternion() {
+		return OpenMatrix4f.toQuaternion(this.left);
+	}
+}
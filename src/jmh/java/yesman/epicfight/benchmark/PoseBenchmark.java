@@ -0,0 +1,43 @@
+package yesman.epicfight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.model.Armature;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoseBenchmark {
+	private Pose walkPose;
+	private Pose attackPose;
+	
+	@Setup
+	public void setup() {
+		Armature armature = BenchmarkFixtures.loadBipedArmature();
+		AnimationClip walk = BenchmarkFixtures.loadClip(armature, BenchmarkFixtures.BIPED_WALK);
+		AnimationClip attack = BenchmarkFixtures.loadClip(armature, BenchmarkFixtures.BIPED_SWORD_AUTO);
+		this.walkPose = walk.getPoseInTime(walk.getClipTime() * 0.3F);
+		this.attackPose = attack.getPoseInTime(attack.getClipTime() * 0.5F);
+	}
+	
+	@Benchmark
+	public Pose interpolatePose() {
+		return Pose.interpolatePose(this.walkPose, this.attackPose, 0.35F);
+	}
+}
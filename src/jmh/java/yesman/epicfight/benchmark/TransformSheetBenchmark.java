@@ -0,0 +1,108 @@
+package yesman.epicfight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.JointTransform;
+import yesman.epicfight.api.animation.Keyframe;
+import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.animation.TransformSheet;
+import yesman.epicfight.api.model.Armature;
+
+/**
+ * Compares the keyframe lookups of a sheet played forward one frame at a time: the linear scan sheets used before,
+ * the binary search alone and the binary search with the previous segment as a hint
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformSheetBenchmark {
+	private static final float FRAME_TIME = 1.0F / 60.0F;
+	
+	@Param({ BenchmarkFixtures.BIPED_WALK, BenchmarkFixtures.BIPED_SWORD_AUTO })
+	public String clipPath;
+	
+	@Param({ "Tool_R", "Arm_L" })
+	public String jointName;
+	
+	private AnimationClip clip;
+	private TransformSheet sheet;
+	private Keyframe[] keyframes;
+	private JointTransform dest;
+	private float time;
+	private int segment;
+	
+	@Setup
+	public void setup() {
+		Armature armature = BenchmarkFixtures.loadBipedArmature();
+		this.clip = BenchmarkFixtures.loadClip(armature, this.clipPath);
+		this.sheet = this.clip.getJointTransform(this.jointName);
+		this.keyframes = this.sheet.getKeyframes();
+		this.dest = JointTransform.empty();
+	}
+	
+	private float nextTime() {
+		this.time += FRAME_TIME;
+		
+		if (this.time > this.clip.getClipTime()) {
+			this.time = 0.0F;
+		}
+		
+		return this.time;
+	}
+	
+	@Benchmark
+	public int linearScan() {
+		float currentTime = this.nextTime();
+		int prev = 0;
+		
+		for (int i = 1; i < this.keyframes.length - 1; i++) {
+			if (currentTime <= this.keyframes[i].time()) {
+				break;
+			}
+			
+			prev++;
+		}
+		
+		return prev;
+	}
+	
+	@Benchmark
+	public int binarySearch() {
+		return this.sheet.getSegmentIndex(this.nextTime(), -1);
+	}
+	
+	@Benchmark
+	public int hintedSearch() {
+		this.segment = this.sheet.getSegmentIndex(this.nextTime(), this.segment);
+		return this.segment;
+	}
+	
+	@Benchmark
+	public JointTransform interpolate() {
+		float currentTime = this.nextTime();
+		this.segment = this.sheet.getSegmentIndex(currentTime, this.segment);
+		
+		return this.sheet.getInterpolatedTransform(currentTime, this.segment, this.dest);
+	}
+	
+	@Benchmark
+	public Pose sampleClip() {
+		return this.clip.getPoseInTime(this.nextTime());
+	}
+}
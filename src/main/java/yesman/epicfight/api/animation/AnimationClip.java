@@ -1,15 +1,22 @@
 package yesman.epicfight.api.animation;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Map;
 
-import com.google.common.collect.Maps;
+import javax.annotation.Nullable;
 
 public class AnimationClip {
 	public static final AnimationClip EMPTY_CLIP = new AnimationClip();
 	
-	protected Map<String, TransformSheet> jointTransforms = Maps.newHashMap();
+	protected Map<String, TransformSheet> jointTransforms = new JointTransformMap();
 	protected float clipTime;
 	
+	/**
+	 * Sheets and their {@link JointNames} indices, resolved once from {@link #jointTransforms} and rebuilt when it changes
+	 */
+	private volatile IndexedSheets indexedSheets;
+	
 	public void addJointTransform(String jointName, TransformSheet sheet) {
 		this.jointTransforms.put(jointName, sheet);
 	}
@@ -23,10 +30,26 @@ public class AnimationClip {
 	}
 	
 	public final Pose getPoseInTime(float time) {
+		return this.getPoseInTime(time, null);
+	}
+	
+	/**
+	 * Samples only the joints whose {@link JointNames} index is set in the mask, or every joint if the mask is null
+	 */
+	public final Pose getPoseInTime(float time, @Nullable BitSet jointMask) {
 		Pose pose = new Pose();
+		IndexedSheets indexedSheets = this.getIndexedSheets();
+		int segment = 0;
 		
-		for (String jointName : this.jointTransforms.keySet()) {
-			pose.putJointData(jointName, this.jointTransforms.get(jointName).getInterpolatedTransform(time));
+		for (int i = 0; i < indexedSheets.sheets.length; i++) {
+			if (jointMask != null && !jointMask.get(indexedSheets.jointIndices[i])) {
+				continue;
+			}
+			
+			TransformSheet sheet = indexedSheets.sheets[i];
+			// Joints of a clip are mostly keyed at the same times, so the previous joint's segment is a good hint
+			segment = sheet.getSegmentIndex(time, segment);
+			pose.putJointData(indexedSheets.jointIndices[i], sheet.getInterpolatedTransform(time, segment, JointTransform.empty()));
 		}
 		
 		return pose;
@@ -35,6 +58,7 @@ public class AnimationClip {
 	public Map<String, TransformSheet> getJointTransforms() {
 		return this.jointTransforms;
 	}
+	
 	public void setClipTime(float clipTime) {
 		this.clipTime = clipTime;
 	}
@@ -42,4 +66,73 @@ public class AnimationClip {
 	public float getClipTime() {
 		return this.clipTime;
 	}
-}
\ No newline at end of file
+	
+	public void invalidateIndices() {
+		this.indexedSheets = null;
+	}
+	
+	private IndexedSheets getIndexedSheets() {
+		IndexedSheets indexedSheets = this.indexedSheets;
+		
+		// The size check catches edits that bypass JointTransformMap, e.g. through its entry set
+		if (indexedSheets != null && indexedSheets.sheets.length == this.jointTransforms.size()) {
+			return indexedSheets;
+		}
+		
+		int[] jointIndices = new int[this.jointTransforms.size()];
+		TransformSheet[] sheets = new TransformSheet[jointIndices.length];
+		int i = 0;
+		
+		for (Map.Entry<String, TransformSheet> entry : this.jointTransforms.entrySet()) {
+			jointIndices[i] = JointNames.indexOf(entry.getKey());
+			sheets[i] = entry.getValue();
+			i++;
+		}
+		
+		indexedSheets = new IndexedSheets(jointIndices, sheets);
+		this.indexedSheets = indexedSheets;
+		
+		return indexedSheets;
+	}
+	
+	private static class IndexedSheets {
+		private final int[] jointIndices;
+		private final TransformSheet[] sheets;
+		
+		private IndexedSheets(int[] jointIndices, TransformSheet[] sheets) {
+			this.jointIndices = jointIndices;
+			this.sheets = sheets;
+		}
+	}
+	
+	@SuppressWarnings("serial")
+	private class JointTransformMap extends HashMap<String, TransformSheet> {
+		@Override
+		public TransformSheet put(String key, TransformSheet value) {
+			TransformSheet old = super.put(key, value);
+			AnimationClip.this.invalidateIndices();
+			
+			return old;
+		}
+		
+		@Override
+		public void putAll(Map<? extends String, ? extends TransformSheet> m) {
+			super.putAll(m);
+			AnimationClip.this.invalidateIndices();
+		}
+		
+		@Override
+		public TransformSheet remove(Object key) {
+			TransformSheet old = super.remove(key);
+			AnimationClip.this.invalidateIndices();
+			
+			return old;
+		}
+		
+		@Override
+		public void clear() {
+			super.clear();
+			AnimationClip.this.invalidateIndices();
+		}
+	}
+}
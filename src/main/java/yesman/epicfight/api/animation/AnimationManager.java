@@ -1,7 +1,17 @@
 package yesman.epicfight.api.animation;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -26,6 +36,7 @@ import yesman.epicfight.api.data.reloader.SkillManager;
 import yesman.epicfight.api.forgeevent.AnimationRegistryEvent;
 import yesman.epicfight.api.utils.ClearableIdMapper;
 import yesman.epicfight.api.utils.InstantiateInvoker;
+import yesman.epicfight.config.ConfigManager;
 import yesman.epicfight.gameasset.Armatures;
 import yesman.epicfight.main.EpicFightMod;
 
@@ -33,11 +44,17 @@ public class AnimationManager extends SimpleJsonResourceReloadListener {
 	private static final AnimationManager INSTANCE = new AnimationManager();
 	private static ResourceManager resourceManager = null;
 	
+	/**
+	 * Where {@link #loadAnimationClip} puts clips while the current thread is preloading
+	 */
+	private static final ThreadLocal<Map<StaticAnimation, AnimationClip>> PRELOAD_DESTINATION = new ThreadLocal<> ();
+	private static final int MAX_PRELOAD_THREADS = 8;
+	
 	public static AnimationManager getInstance() {
 		return INSTANCE;
 	}
 	
-	private final Map<StaticAnimation, AnimationClip> animationClips = Maps.newHashMap();
+	private volatile Map<StaticAnimation, AnimationClip> animationClips = new ConcurrentHashMap<> ();
 	private final Map<ResourceLocation, StaticAnimation> animationRegistry = Maps.newHashMap();
 	private final Map<ResourceLocation, StaticAnimation> userAnimations = Maps.newHashMap();
 	private final ClearableIdMapper<StaticAnimation> animationIdMap = new ClearableIdMapper<> ();
@@ -72,11 +89,14 @@ public class AnimationManager extends SimpleJsonResourceReloadListener {
 	}
 	
 	public AnimationClip getStaticAnimationClip(StaticAnimation animation) {
-		if (!this.animationClips.containsKey(animation)) {
+		AnimationClip clip = this.getClipDestination().get(animation);
+		
+		if (clip == null) {
 			animation.loadAnimation(resourceManager);
+			clip = this.getClipDestination().get(animation);
 		}
 		
-		return this.animationClips.get(animation);
+		return clip;
 	}
 	
 	public Map<ResourceLocation, StaticAnimation> getAnimations(Predicate<StaticAnimation> filter) {
@@ -132,16 +152,71 @@ public class AnimationManager extends SimpleJsonResourceReloadListener {
 	}
 	
 	public void loadAnimationClip(StaticAnimation animation, Function<StaticAnimation, AnimationClip> clipProvider) {
-		if (!this.animationClips.containsKey(animation)) {
-			AnimationClip animationClip = clipProvider.apply(animation);
-			this.animationClips.put(animation, animationClip);
+		Map<StaticAnimation, AnimationClip> clips = this.getClipDestination();
+		
+		if (!clips.containsKey(animation)) {
+			// Clip holders can be loaded by more than one preload task, e.g. by an aim animation and by themselves
+			synchronized (animation) {
+				if (!clips.containsKey(animation)) {
+					clips.put(animation, clipProvider.apply(animation));
+				}
+			}
 		}
 	}
 	
 	public void onFailed(StaticAnimation animation) {
-		if (!this.animationClips.containsKey(animation)) {
-			this.animationClips.put(animation, AnimationClip.EMPTY_CLIP);
+		this.getClipDestination().putIfAbsent(animation, AnimationClip.EMPTY_CLIP);
+	}
+	
+	private Map<StaticAnimation, AnimationClip> getClipDestination() {
+		Map<StaticAnimation, AnimationClip> destination = PRELOAD_DESTINATION.get();
+		return destination == null ? this.animationClips : destination;
+	}
+	
+	/**
+	 * Loads the clips of the given animations on a bounded pool so that the first play doesn't parse them on the game thread.
+	 * The clips are published together once every animation has been loaded.
+	 */
+	private void preloadAnimationClips(List<StaticAnimation> animations) {
+		Map<StaticAnimation, AnimationClip> loadedClips = new ConcurrentHashMap<> ();
+		Map<String, LongAdder> loadNanosByMod = new ConcurrentHashMap<> ();
+		Map<String, LongAdder> clipCountByMod = new ConcurrentHashMap<> ();
+		ResourceManager clipResourceManager = resourceManager;
+		ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, MAX_PRELOAD_THREADS)), ClipLoaderThread::new, null, false);
+		long startTime = System.nanoTime();
+		
+		try {
+			pool.submit(() -> animations.parallelStream().forEach((animation) -> {
+				String modid = animation.getRegistryName().getNamespace();
+				long taskStart = System.nanoTime();
+				PRELOAD_DESTINATION.set(loadedClips);
+				
+				try {
+					animation.loadAnimation(clipResourceManager);
+				} catch (Exception e) {
+					EpicFightMod.LOGGER.warn("Failed to preload animation " + animation.getRegistryName() + " because of " + e);
+				} finally {
+					PRELOAD_DESTINATION.remove();
+				}
+				
+				loadNanosByMod.computeIfAbsent(modid, (k) -> new LongAdder()).add(System.nanoTime() - taskStart);
+				clipCountByMod.computeIfAbsent(modid, (k) -> new LongAdder()).increment();
+			})).get();
+		} catch (InterruptedException | ExecutionException e) {
+			EpicFightMod.LOGGER.error("Animation clip preloading failed, the rest will be loaded on first play: " + e);
+		} finally {
+			pool.shutdown();
 		}
+		
+		Map<StaticAnimation, AnimationClip> publishedClips = new ConcurrentHashMap<> (this.animationClips);
+		publishedClips.putAll(loadedClips);
+		this.animationClips = publishedClips;
+		
+		EpicFightMod.LOGGER.info(String.format("Preloaded %d animation clips in %d ms", loadedClips.size(), (System.nanoTime() - startTime) / 1000000L));
+		
+		clipCountByMod.forEach((modid, count) -> {
+			EpicFightMod.LOGGER.info(String.format("  %s: %d animations, %d ms", modid, count.intValue(), loadNanosByMod.get(modid).sum() / 1000000L));
+		});
 	}
 	
 	public String workingModId() {
@@ -166,7 +241,7 @@ public class AnimationManager extends SimpleJsonResourceReloadListener {
 		
 		Map<String, Runnable> registryMap = Maps.newLinkedHashMap();
 		ModLoader.get().postEvent(new AnimationRegistryEvent(registryMap));
-		this.animationClips.clear();
+		this.animationClips = new ConcurrentHashMap<> ();
 		
 		registryMap.entrySet().forEach((entry) -> {
 			EpicFightMod.LOGGER.info("Register animations from " + entry.getKey());
@@ -176,6 +251,16 @@ public class AnimationManager extends SimpleJsonResourceReloadListener {
 			this.currentWorkingModid = null;
 		});
 		
+		// Meta animations like selective animations aren't clip holders, loading them would only run their side effects
+		Set<StaticAnimation> clipHolders = Collections.newSetFromMap(new IdentityHashMap<> ());
+		this.animationRegistry.values().forEach((animation) -> clipHolders.addAll(animation.getClipHolders()));
+		ClipOptimizer.reset();
+		this.preloadAnimationClips(Lists.newArrayList(clipHolders));
+		
+		if (ConfigManager.OPTIMIZE_ANIMATION_CLIPS.get()) {
+			EpicFightMod.LOGGER.info(ClipOptimizer.getReport());
+		}
+		
 		return super.prepare(resourceManager, profilerIn);
 	}
 	
@@ -268,4 +353,15 @@ public class AnimationManager extends SimpleJsonResourceReloadListener {
 			}
 		}
 	}
+	
+	private static class ClipLoaderThread extends ForkJoinWorkerThread {
+		private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+		
+		private ClipLoaderThread(ForkJoinPool pool) {
+			super(pool);
+			this.setName("EpicFight-ClipLoader-" + THREAD_COUNT.incrementAndGet());
+			// Mod classes are only visible through the mod class loader
+			this.setContextClassLoader(AnimationManager.class.getClassLoader());
+		}
+	}
 }
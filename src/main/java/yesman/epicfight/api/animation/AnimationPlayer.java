@@ -23,6 +23,13 @@ public class AnimationPlayer {
 	}
 	
 	public void tick(LivingEntityPatch<?> entitypatch) {
+		this.tick(entitypatch, 1.0F);
+	}
+	
+	/**
+	 * Advances the animation by the given number of ticks at once, used by animators that skip ticks
+	 */
+	public void tick(LivingEntityPatch<?> entitypatch, float ticks) {
 		this.prevElapsedTime = this.elapsedTime;
 		
 		float playbackSpeed = this.getAnimation().getPlaySpeed(entitypatch, this.getAnimation());
@@ -32,7 +39,7 @@ public class AnimationPlayer {
 			playbackSpeed = playSpeedModifier.modify(this.getAnimation(), entitypatch, playbackSpeed, this.prevElapsedTime, this.elapsedTime);
 		}
 		
-		this.elapsedTime += EpicFightOptions.A_TICK * playbackSpeed * (this.isReversed() && this.getAnimation().canBePlayedReverse() ? -1.0F : 1.0F);
+		this.elapsedTime += EpicFightOptions.A_TICK * ticks * playbackSpeed * (this.isReversed() && this.getAnimation().canBePlayedReverse() ? -1.0F : 1.0F);
 		PlaybackTimeModifier playTimeModifier = this.getAnimation().getRealAnimation().getProperty(StaticAnimationProperty.ELAPSED_TIME_MODIFIER).orElse(null);
 		
 		if (playTimeModifier != null) {
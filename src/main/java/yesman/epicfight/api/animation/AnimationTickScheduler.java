@@ -0,0 +1,109 @@
+package yesman.epicfight.api.animation;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import yesman.epicfight.world.capabilities.entitypatch.LivingEntityPatch;
+import yesman.epicfight.world.gamerule.EpicFightGamerules;
+
+/**
+ * Spreads the animator ticks of idle mobs on the server. An idle animator, which is paused or plays an animation that
+ * isn't an action, ticks once every {@link EpicFightGamerules#IDLE_ANIMATION_TICK_INTERVAL} ticks. Idle animators are
+ * also put off while the animators of the level have used up {@link EpicFightGamerules#ANIMATION_TICK_BUDGET}
+ * milliseconds in the tick. Acting animators and players always tick.
+ *
+ * Deferred ticks are caught up in a single step before the animator ticks again, plays an animation or gets hurt.
+ * The elapsed time advances by all of them at once, and time stamped events fire for the whole skipped window.
+ */
+public class AnimationTickScheduler {
+	/**
+	 * Ticks an idle animator can be put off by the budget before it ticks anyway
+	 */
+	private static final int MAX_DEFERRED_TICKS = 20;
+	private static final Map<Level, AnimationTickScheduler> SCHEDULERS = new WeakHashMap<> ();
+	
+	private static long ticked;
+	private static long deferred;
+	private static long overBudget;
+	private static long caughtUp;
+	private static long tickNanos;
+	
+	private long gameTime = Long.MIN_VALUE;
+	private long spentNanos;
+	private long budgetNanos;
+	private int interval;
+	
+	public static boolean shouldDefer(LivingEntityPatch<?> entitypatch, boolean idle, int deferredTicks) {
+		if (!idle || entitypatch.getOriginal() instanceof Player || !(entitypatch.getOriginal().level() instanceof ServerLevel serverLevel)) {
+			return false;
+		}
+		
+		return getScheduler(serverLevel).shouldDefer(deferredTicks);
+	}
+	
+	/**
+	 * Called with the time an animator took in its tick, including the caught up ticks
+	 */
+	public static void spent(LivingEntityPatch<?> entitypatch, long nanos) {
+		ticked++;
+		tickNanos += nanos;
+		
+		if (entitypatch.getOriginal().level() instanceof ServerLevel serverLevel) {
+			getScheduler(serverLevel).spentNanos += nanos;
+		}
+	}
+	
+	public static void caughtUp(int ticks) {
+		caughtUp += ticks;
+	}
+	
+	/**
+	 * Returns the scheduler of the level, starting over the budget and reading the gamerules in a new tick
+	 */
+	private static AnimationTickScheduler getScheduler(ServerLevel level) {
+		AnimationTickScheduler scheduler = SCHEDULERS.computeIfAbsent(level, (key) -> new AnimationTickScheduler());
+		
+		if (scheduler.gameTime != level.getGameTime()) {
+			scheduler.gameTime = level.getGameTime();
+			scheduler.spentNanos = 0L;
+			scheduler.budgetNanos = level.getGameRules().getInt(EpicFightGamerules.ANIMATION_TICK_BUDGET) * 1000000L;
+			scheduler.interval = level.getGameRules().getInt(EpicFightGamerules.IDLE_ANIMATION_TICK_INTERVAL);
+		}
+		
+		return scheduler;
+	}
+	
+	private boolean shouldDefer(int deferredTicks) {
+		if (deferredTicks + 1 >= MAX_DEFERRED_TICKS) {
+			return false;
+		}
+		
+		if (deferredTicks + 1 < this.interval) {
+			deferred++;
+			return true;
+		}
+		
+		if (this.budgetNanos > 0L && this.spentNanos >= this.budgetNanos) {
+			deferred++;
+			overBudget++;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	public static String getReport() {
+		return String.format("%d animator ticks (%.3f ms average), deferred %d (%d over budget), caught up %d", ticked, ticked == 0L ? 0.0D : tickNanos / 1000000.0D / ticked, deferred, overBudget, caughtUp);
+	}
+	
+	public static void resetMetrics() {
+		ticked = 0L;
+		deferred = 0L;
+		overBudget = 0L;
+		caughtUp = 0L;
+		tickNanos = 0L;
+	}
+}
@@ -22,6 +22,7 @@ public abstract class Animator {
 	protected final Map<LivingMotion, StaticAnimation> livingAnimations = Maps.newHashMap();
 	protected final TypeFlexibleHashMap<TypeKey<?>> animationVariables = new TypeFlexibleHashMap<> (false);
 	protected LivingEntityPatch<?> entitypatch;
+	protected final TransformScratch transformScratch = new TransformScratch();
 	
 	public Animator() {
 		// Put default variables
@@ -40,6 +41,11 @@ public abstract class Animator {
 	public abstract <T> Pair<AnimationPlayer, T> findFor(Class<T> animationType);
 	public abstract Pose getPose(float partialTicks);
 	
+	/** Reusable buffers for evaluating the poses of this animator, see {@link TransformScratch} **/
+	public TransformScratch getTransformScratch() {
+		return this.transformScratch;
+	}
+	
 	public void init() {
 		this.entitypatch.initAnimator(this);
 	}
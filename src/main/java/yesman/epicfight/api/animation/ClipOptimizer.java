@@ -0,0 +1,169 @@
+package yesman.epicfight.api.animation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.joml.Quaternionf;
+
+import com.google.common.collect.Lists;
+
+import yesman.epicfight.api.utils.math.Vec3f;
+
+/**
+ * Shrinks loaded transform sheets: keyframes that interpolation reproduces within the tolerances are dropped,
+ * constant tracks are reduced to a single keyframe and sheets with identical keyframes are shared between clips.
+ *
+ * Optimized sheets may be shared, so they must be copied before being modified. Sheets read by keyframe index
+ * (root motion, procedural animations) must not be optimized.
+ */
+public class ClipOptimizer {
+	private static final float TRANSLATION_TOLERANCE = 0.001F;
+	private static final float ROTATION_TOLERANCE = (float)Math.toRadians(0.1D);
+	private static final float SCALE_TOLERANCE = 0.001F;
+	
+	/**
+	 * Rough heap size of a keyframe with its transform, two vectors and a quaternion on a 64-bit vm with compressed oops
+	 */
+	private static final int KEYFRAME_BYTES = 152;
+	
+	private static final Map<SheetKey, TransformSheet> SHARED_SHEETS = new ConcurrentHashMap<> ();
+	private static final LongAdder SHEETS = new LongAdder();
+	private static final LongAdder SHARED = new LongAdder();
+	private static final LongAdder KEYFRAMES_BEFORE = new LongAdder();
+	private static final LongAdder KEYFRAMES_AFTER = new LongAdder();
+	
+	public static TransformSheet optimize(TransformSheet sheet) {
+		Keyframe[] keyframes = sheet.getKeyframes();
+		SHEETS.increment();
+		KEYFRAMES_BEFORE.add(keyframes.length);
+		
+		if (keyframes.length == 0) {
+			return sheet;
+		}
+		
+		Keyframe[] reduced = isConstant(keyframes) ? new Keyframe[] { keyframes[0] } : removeRedundantKeyframes(keyframes);
+		TransformSheet optimized = reduced.length == keyframes.length ? sheet : new TransformSheet(reduced);
+		TransformSheet shared = SHARED_SHEETS.putIfAbsent(new SheetKey(reduced), optimized);
+		
+		if (shared != null) {
+			SHARED.increment();
+			return shared;
+		}
+		
+		KEYFRAMES_AFTER.add(reduced.length);
+		
+		return optimized;
+	}
+	
+	/**
+	 * Forgets shared sheets and statistics, called when clips are reloaded
+	 */
+	public static void reset() {
+		SHARED_SHEETS.clear();
+		SHEETS.reset();
+		SHARED.reset();
+		KEYFRAMES_BEFORE.reset();
+		KEYFRAMES_AFTER.reset();
+	}
+	
+	public static String getReport() {
+		long before = KEYFRAMES_BEFORE.sum();
+		long after = KEYFRAMES_AFTER.sum();
+		
+		return String.format("Optimized %d transform sheets (%d shared): %d -> %d keyframes, about %d KiB saved", SHEETS.sum(), SHARED.sum(), before, after, (before - after) * KEYFRAME_BYTES / 1024L);
+	}
+	
+	private static boolean isConstant(Keyframe[] keyframes) {
+		JointTransform first = keyframes[0].transform();
+		
+		for (int i = 1; i < keyframes.length; i++) {
+			if (!isClose(first, keyframes[i].transform())) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Keeps the first and last keyframes and every keyframe that can't be interpolated from the kept neighbors
+	 */
+	private static Keyframe[] removeRedundantKeyframes(Keyframe[] keyframes) {
+		List<Keyframe> kept = Lists.newArrayList();
+		JointTransform interpolated = JointTransform.empty();
+		int anchor = 0;
+		kept.add(keyframes[0]);
+		
+		for (int end = 2; end < keyframes.length; end++) {
+			for (int i = anchor + 1; i < end; i++) {
+				float progression = (keyframes[i].time() - keyframes[anchor].time()) / (keyframes[end].time() - keyframes[anchor].time());
+				JointTransform.interpolate(keyframes[anchor].transform(), keyframes[end].transform(), progression, interpolated);
+				
+				if (!isClose(interpolated, keyframes[i].transform())) {
+					anchor = end - 1;
+					kept.add(keyframes[anchor]);
+					break;
+				}
+			}
+		}
+		
+		if (keyframes.length > 1) {
+			kept.add(keyframes[keyframes.length - 1]);
+		}
+		
+		return kept.toArray(new Keyframe[0]);
+	}
+	
+	private static boolean isClose(JointTransform jt1, JointTransform jt2) {
+		return isClose(jt1.translation(), jt2.translation(), TRANSLATION_TOLERANCE) && isClose(jt1.scale(), jt2.scale(), SCALE_TOLERANCE) && angleBetween(jt1.rotation(), jt2.rotation()) <= ROTATION_TOLERANCE;
+	}
+	
+	private static boolean isClose(Vec3f v1, Vec3f v2, float tolerance) {
+		return Math.abs(v1.x - v2.x) <= tolerance && Math.abs(v1.y - v2.y) <= tolerance && Math.abs(v1.z - v2.z) <= tolerance;
+	}
+	
+	private static float angleBetween(Quaternionf q1, Quaternionf q2) {
+		float dot = Math.abs(q1.x * q2.x + q1.y * q2.y + q1.z * q2.z + q1.w * q2.w) / (q1.length() * q2.length());
+		return 2.0F * (float)Math.acos(Math.min(dot, 1.0F));
+	}
+	
+	private static class SheetKey {
+		private final float[] values;
+		private final int hash;
+		
+		private SheetKey(Keyframe[] keyframes) {
+			this.values = new float[keyframes.length * 11];
+			
+			for (int i = 0; i < keyframes.length; i++) {
+				JointTransform jt = keyframes[i].transform();
+				int offset = i * 11;
+				this.values[offset] = keyframes[i].time();
+				this.values[offset + 1] = jt.translation().x;
+				this.values[offset + 2] = jt.translation().y;
+				this.values[offset + 3] = jt.translation().z;
+				this.values[offset + 4] = jt.rotation().x;
+				this.values[offset + 5] = jt.rotation().y;
+				this.values[offset + 6] = jt.rotation().z;
+				this.values[offset + 7] = jt.rotation().w;
+				this.values[offset + 8] = jt.scale().x;
+				this.values[offset + 9] = jt.scale().y;
+				this.values[offset + 10] = jt.scale().z;
+			}
+			
+			this.hash = Arrays.hashCode(this.values);
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof SheetKey sheetKey && this.hash == sheetKey.hash && Arrays.equals(this.values, sheetKey.values);
+		}
+		
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+}
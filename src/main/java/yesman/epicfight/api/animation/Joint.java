@@ -13,12 +13,14 @@ public class Joint {
 	private final List<Joint> subJoints = Lists.newArrayList();
 	private final int jointId;
 	private final String jointName;
+	private final int nameIndex;
 	private final OpenMatrix4f localTransform;
 	private final OpenMatrix4f toOrigin = new OpenMatrix4f();
 	
 	public Joint(String name, int jointId, OpenMatrix4f localTransform) {
 		this.jointId = jointId;
 		this.jointName = name;
+		this.nameIndex = JointNames.indexOf(name);
 		this.localTransform = localTransform;
 	}
 
@@ -89,6 +91,13 @@ public class Joint {
 		return this.jointId;
 	}
 	
+	/**
+	 * Index of this joint's name in {@link JointNames}, used to read {@link Pose}s without hashing the name
+	 */
+	public int getNameIndex() {
+		return this.nameIndex;
+	}
+	
 	public String searchPath(String path, String joint) {
 		if (joint.equals(this.getName())) {
 			return path;
@@ -0,0 +1,67 @@
+package yesman.epicfight.api.animation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns joint names into dense indices shared by every {@link yesman.epicfight.api.model.Armature} and {@link AnimationClip}.
+ * Clips are reused across armatures that only agree on joint names (biped animations drive piglin, skeleton and
+ * custom armatures), so {@link Pose} is indexed by this table instead of by armature-local joint ids.
+ * Names are resolved once when joints and clips are built; sampling and armature walks only touch arrays.
+ */
+public final class JointNames {
+	private static final Map<String, Integer> INDEX_BY_NAME = new ConcurrentHashMap<> ();
+	private static volatile String[] NAME_BY_INDEX = new String[0];
+	
+	private JointNames() {
+	}
+	
+	/**
+	 * Returns the index of the joint name, registering it if it hasn't been seen before
+	 */
+	public static int indexOf(String name) {
+		Integer index = INDEX_BY_NAME.get(name);
+		
+		if (index != null) {
+			return index;
+		}
+		
+		return register(name);
+	}
+	
+	/**
+	 * Returns the index of the joint name, or -1 if no armature or clip has used this name
+	 */
+	public static int find(String name) {
+		Integer index = INDEX_BY_NAME.get(name);
+		return index == null ? -1 : index;
+	}
+	
+	public static String nameOf(int index) {
+		return NAME_BY_INDEX[index];
+	}
+	
+	public static int size() {
+		return NAME_BY_INDEX.length;
+	}
+	
+	private static synchronized int register(String name) {
+		Integer index = INDEX_BY_NAME.get(name);
+		
+		if (index != null) {
+			return index;
+		}
+		
+		String[] names = NAME_BY_INDEX;
+		int newIndex = names.length;
+		String[] newNames = Arrays.copyOf(names, newIndex + 1);
+		newNames[newIndex] = name;
+		
+		// Publish the name before the index so that nameOf never sees a missing entry
+		NAME_BY_INDEX = newNames;
+		INDEX_BY_NAME.put(name, newIndex);
+		
+		return newIndex;
+	}
+}
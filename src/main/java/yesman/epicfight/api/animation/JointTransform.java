@@ -29,7 +29,8 @@ public class JointTransform {
 		}
 	}
 	
-	private final Map<String, TransformEntry> entries = Maps.newHashMap();
+	/** Created on first use, since most sampled transforms never get entries **/
+	private Map<String, TransformEntry> entries;
 	private final Vec3f translation;
 	private final Vec3f scale;
 	private final Quaternionf rotation;
@@ -63,34 +64,59 @@ public class JointTransform {
 		this.translation.set(newV);
 		this.rotation.set(newQ);
 		this.scale.set(newS);
-
-		this.entries.putAll(jt.entries);
+		
+		if (jt.hasEntries()) {
+			this.entries().putAll(jt.entries);
+		}
 		
 		return this;
 	}
 	
+	/**
+	 * Copies the transform and its entries, dropping the entries this transform had. Used for reused transforms.
+	 */
+	public JointTransform replaceWith(JointTransform jt) {
+		if (this.entries != null) {
+			this.entries.clear();
+		}
+		
+		return this.copyFrom(jt);
+	}
+	
+	private Map<String, TransformEntry> entries() {
+		if (this.entries == null) {
+			this.entries = Maps.newHashMap();
+		}
+		
+		return this.entries;
+	}
+	
+	private boolean hasEntries() {
+		return this.entries != null && !this.entries.isEmpty();
+	}
+	
 	public void jointLocal(JointTransform transform, MatrixOperation multiplyFunction) {
-		this.entries.put(JOINT_LOCAL_TRANSFORM, new TransformEntry(multiplyFunction, this.mergeIfExist(JOINT_LOCAL_TRANSFORM, transform)));
+		this.entries().put(JOINT_LOCAL_TRANSFORM, new TransformEntry(multiplyFunction, this.mergeIfExist(JOINT_LOCAL_TRANSFORM, transform)));
 	}
 	
 	public void parent(JointTransform transform, MatrixOperation multiplyFunction) {
-		this.entries.put(PARENT, new TransformEntry(multiplyFunction, this.mergeIfExist(PARENT, transform)));
+		this.entries().put(PARENT, new TransformEntry(multiplyFunction, this.mergeIfExist(PARENT, transform)));
 	}
 	
 	public void animationTransform(JointTransform transform, MatrixOperation multiplyFunction) {
-		this.entries.put(ANIMATION_TRANSFORM, new TransformEntry(multiplyFunction, this.mergeIfExist(ANIMATION_TRANSFORM, transform)));
+		this.entries().put(ANIMATION_TRANSFORM, new TransformEntry(multiplyFunction, this.mergeIfExist(ANIMATION_TRANSFORM, transform)));
 	}
 	
 	public void frontResult(JointTransform transform, MatrixOperation multiplyFunction) {
-		this.entries.put(RESULT1, new TransformEntry(multiplyFunction, this.mergeIfExist(RESULT1, transform)));
+		this.entries().put(RESULT1, new TransformEntry(multiplyFunction, this.mergeIfExist(RESULT1, transform)));
 	}
 	
 	public void overwriteRotation(JointTransform transform) {
-		this.entries.put(RESULT2, new TransformEntry(OpenMatrix4f::mul, this.mergeIfExist(RESULT2, transform)));
+		this.entries().put(RESULT2, new TransformEntry(OpenMatrix4f::mul, this.mergeIfExist(RESULT2, transform)));
 	}
 	
 	public JointTransform mergeIfExist(String entryName, JointTransform transform) {
-		if (this.entries.containsKey(entryName)) {
+		if (this.entries != null && this.entries.containsKey(entryName)) {
 			TransformEntry transformEntry = this.entries.get(entryName);
 			return JointTransform.mul(transform, transformEntry.transform, transformEntry.multiplyFunction);
 		}
@@ -99,55 +125,122 @@ public class JointTransform {
 	}
 	
 	public OpenMatrix4f getAnimationBindedMatrix(Joint joint, OpenMatrix4f parentTransform) {
-		OpenMatrix4f.AnimationTransformEntry animationTransformEntry = new OpenMatrix4f.AnimationTransformEntry();
+		return this.getAnimationBindedMatrix(joint, parentTransform, new OpenMatrix4f(), new TransformScratch());
+	}
+	
+	/**
+	 * Writes parent * joint local * animation transform, with the entries applied in
+	 * the order of {@link OpenMatrix4f.AnimationTransformEntry}, into dest without allocating.
+	 * 
+	 * @param dest must not be the parent transform
+	 */
+	public OpenMatrix4f getAnimationBindedMatrix(Joint joint, OpenMatrix4f parentTransform, OpenMatrix4f dest, TransformScratch scratch) {
+		OpenMatrix4f animationMatrix = this.toMatrix(scratch.animationMatrix);
 		
-		for (Map.Entry<String, TransformEntry> entry : this.entries.entrySet()) {
-			animationTransformEntry.put(entry.getKey(), entry.getValue().transform.toMatrix(), entry.getValue().multiplyFunction);
+		if (!this.hasEntries()) {
+			OpenMatrix4f.mul(parentTransform, joint.getLocalTrasnform(), dest);
+			return OpenMatrix4f.mul(dest, animationMatrix, dest);
 		}
 		
-		animationTransformEntry.put(ANIMATION_TRANSFORM, this.toMatrix(), OpenMatrix4f::mul);
-		animationTransformEntry.put(JOINT_LOCAL_TRANSFORM, joint.getLocalTrasnform());
-		animationTransformEntry.put(PARENT, parentTransform);
+		dest.setIdentity();
+		OpenMatrix4f.mul(dest, this.mergeEntry(PARENT, parentTransform, scratch), dest);
+		OpenMatrix4f.mul(dest, this.mergeEntry(JOINT_LOCAL_TRANSFORM, joint.getLocalTrasnform(), scratch), dest);
+		OpenMatrix4f.mul(dest, this.mergeEntry(ANIMATION_TRANSFORM, animationMatrix, scratch), dest);
+		this.applyEntry(RESULT1, dest, scratch);
+		this.applyEntry(RESULT2, dest, scratch);
 		
-		return animationTransformEntry.getResult();
+		return dest;
+	}
+	
+	private OpenMatrix4f mergeEntry(String entryName, OpenMatrix4f matrix, TransformScratch scratch) {
+		TransformEntry entry = this.entries.get(entryName);
+		
+		if (entry == null) {
+			return matrix;
+		}
+		
+		return entry.multiplyFunction.mul(entry.transform.toMatrix(scratch.entryMatrix), matrix, scratch.operandMatrix);
+	}
+	
+	private void applyEntry(String entryName, OpenMatrix4f dest, TransformScratch scratch) {
+		TransformEntry entry = this.entries.get(entryName);
+		
+		if (entry != null) {
+			entry.multiplyFunction.mul(dest, entry.transform.toMatrix(scratch.entryMatrix), dest);
+		}
 	}
 	
 	public OpenMatrix4f toMatrix() {
-		OpenMatrix4f matrix = new OpenMatrix4f().translate(this.translation).mulBack(OpenMatrix4f.fromQuaternion(this.rotation)).scale(this.scale);
-		return matrix;
+		return this.toMatrix(new OpenMatrix4f());
+	}
+	
+	public OpenMatrix4f toMatrix(OpenMatrix4f dest) {
+		OpenMatrix4f.fromQuaternion(this.rotation, dest);
+		dest.m30 = this.translation.x;
+		dest.m31 = this.translation.y;
+		dest.m32 = this.translation.z;
+		
+		return OpenMatrix4f.scale(this.scale, dest, dest);
 	}
 	
 	@Override
 	public String toString() {
-		return String.format("translation:%s, rotation:%s, %d entries ", this.translation, this.rotation, this.entries.size());
+		return String.format("translation:%s, rotation:%s, %d entries ", this.translation, this.rotation, this.entries == null ? 0 : this.entries.size());
 	}
 	
-	private static JointTransform interpolateSimple(JointTransform prev, JointTransform next, float progression) {
-		return new JointTransform(MathUtils.lerpVector(prev.translation, next.translation, progression),
-				MathUtils.lerpQuaternion(prev.rotation, next.rotation, progression),
-				MathUtils.lerpVector(prev.scale, next.scale, progression));
+	private static JointTransform interpolateSimple(JointTransform prev, JointTransform next, float progression, JointTransform dest) {
+		MathUtils.lerpVector(prev.translation, next.translation, progression, dest.translation);
+		MathUtils.lerpQuaternion(prev.rotation, next.rotation, progression, dest.rotation);
+		MathUtils.lerpVector(prev.scale, next.scale, progression, dest.scale);
+		
+		return dest;
 	}
 	
 	public static JointTransform interpolate(JointTransform prev, JointTransform next, float progression) {
+		return interpolate(prev, next, progression, JointTransform.empty());
+	}
+	
+	/**
+	 * Interpolates into dest, replacing its entries. Doesn't allocate unless prev or next has entries.
+	 * 
+	 * @param dest must be neither prev nor next
+	 */
+	public static JointTransform interpolate(JointTransform prev, JointTransform next, float progression, JointTransform dest) {
+		if (dest.entries != null) {
+			dest.entries.clear();
+		}
+		
 		if (prev == null || next == null) {
-			return JointTransform.empty();
+			dest.translation.set(0.0F, 0.0F, 0.0F);
+			dest.rotation.set(0.0F, 0.0F, 0.0F, 1.0F);
+			dest.scale.set(1.0F, 1.0F, 1.0F);
+			
+			return dest;
 		}
 		
 		progression = Mth.clamp(progression, 0.0F, 1.0F);
-		JointTransform interpolated = interpolateSimple(prev, next, progression);
+		interpolateSimple(prev, next, progression, dest);
+		
+		if (!prev.hasEntries() && !next.hasEntries()) {
+			return dest;
+		}
 		
-		for (Map.Entry<String, TransformEntry> entry : prev.entries.entrySet()) {
-			JointTransform transform = next.entries.containsKey(entry.getKey()) ? next.entries.get(entry.getKey()).transform : JointTransform.empty();
-			interpolated.entries.put(entry.getKey(), new TransformEntry(entry.getValue().multiplyFunction, interpolateSimple(entry.getValue().transform, transform, progression)));
+		if (prev.hasEntries()) {
+			for (Map.Entry<String, TransformEntry> entry : prev.entries.entrySet()) {
+				JointTransform transform = next.hasEntries() && next.entries.containsKey(entry.getKey()) ? next.entries.get(entry.getKey()).transform : JointTransform.empty();
+				dest.entries().put(entry.getKey(), new TransformEntry(entry.getValue().multiplyFunction, interpolateSimple(entry.getValue().transform, transform, progression, JointTransform.empty())));
+			}
 		}
 		
-		for (Map.Entry<String, TransformEntry> entry : next.entries.entrySet()) {
-			if (!interpolated.entries.containsKey(entry.getKey())) {
-				interpolated.entries.put(entry.getKey(), new TransformEntry(entry.getValue().multiplyFunction, interpolateSimple(JointTransform.empty(), entry.getValue().transform, progression)));
+		if (next.hasEntries()) {
+			for (Map.Entry<String, TransformEntry> entry : next.entries.entrySet()) {
+				if (!dest.entries().containsKey(entry.getKey())) {
+					dest.entries().put(entry.getKey(), new TransformEntry(entry.getValue().multiplyFunction, interpolateSimple(JointTransform.empty(), entry.getValue().transform, progression, JointTransform.empty())));
+				}
 			}
 		}
 		
-		return interpolated;
+		return dest;
 	}
 	
 	public static JointTransform fromMatrixNoScale(OpenMatrix4f matrix) {
@@ -1,8 +1,12 @@
 package yesman.epicfight.api.animation;
 
+import javax.annotation.Nullable;
+
 public class Keyframe {
 	private float timeStamp;
-	private final JointTransform transform;
+	private JointTransform transform;
+	/** The transform kept while a reused keyframe has none **/
+	private JointTransform spareTransform;
 
 	public Keyframe(float timeStamp, JointTransform trasnform) {
 		this.timeStamp = timeStamp;
@@ -19,6 +23,30 @@ public class Keyframe {
 		this.transform.copyFrom(target.transform);
 	}
 	
+	/**
+	 * Overwrites a reused link keyframe, clearing the entries the previous transform left unlike {@link #copyFrom(Keyframe)}.
+	 * A null transform makes it a keyframe without transform, only link keyframes can be one.
+	 */
+	public void replaceWith(float timeStamp, @Nullable JointTransform transform) {
+		this.timeStamp = timeStamp;
+		
+		if (transform == null) {
+			if (this.transform != null) {
+				this.spareTransform = this.transform;
+				this.transform = null;
+			}
+			
+			return;
+		}
+		
+		if (this.transform == null) {
+			this.transform = this.spareTransform == null ? JointTransform.empty() : this.spareTransform;
+			this.spareTransform = null;
+		}
+		
+		this.transform.replaceWith(transform);
+	}
+	
 	public float time() {
 		return this.timeStamp;
 	}
@@ -1,44 +1,153 @@
 package yesman.epicfight.api.animation;
 
-import java.util.HashSet;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import com.google.common.base.Predicate;
-import com.google.common.collect.Maps;
 
+/**
+ * Joint transforms stored in a flat array indexed by {@link JointNames}
+ */
 public class Pose {
 	public static final Pose EMPTY_POSE = new Pose();
-	private final Map<String, JointTransform> jointTransformData = Maps.newHashMap();
+	private JointTransform[] jointTransforms;
+	private int size;
+	private Map<String, JointTransform> mapView;
+	
+	public Pose() {
+		this.jointTransforms = new JointTransform[JointNames.size()];
+	}
 	
 	public void putJointData(String name, JointTransform transform) {
-		this.jointTransformData.put(name, transform);
+		this.putJointData(JointNames.indexOf(name), transform);
+	}
+	
+	public void putJointData(int jointIndex, JointTransform transform) {
+		if (jointIndex >= this.jointTransforms.length) {
+			if (transform == null) {
+				return;
+			}
+			
+			this.jointTransforms = Arrays.copyOf(this.jointTransforms, Math.max(jointIndex + 1, JointNames.size()));
+		}
+		
+		JointTransform old = this.jointTransforms[jointIndex];
+		
+		if (old == null && transform != null) {
+			this.size++;
+		} else if (old != null && transform == null) {
+			this.size--;
+		}
+		
+		this.jointTransforms[jointIndex] = transform;
 	}
 	
 	public void putJointData(Pose pose) {
-		this.jointTransformData.putAll(pose.jointTransformData);
+		for (int i = 0; i < pose.jointTransforms.length; i++) {
+			if (pose.jointTransforms[i] != null) {
+				this.putJointData(i, pose.jointTransforms[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the transform of the joint, or null if the pose doesn't have it
+	 */
+	public JointTransform get(String jointName) {
+		return this.get(JointNames.find(jointName));
+	}
+	
+	public JointTransform get(Joint joint) {
+		return this.get(joint.getNameIndex());
+	}
+	
+	public JointTransform get(int jointIndex) {
+		return jointIndex >= 0 && jointIndex < this.jointTransforms.length ? this.jointTransforms[jointIndex] : null;
+	}
+	
+	public boolean hasTransform(String jointName) {
+		return this.get(jointName) != null;
+	}
+	
+	public boolean hasTransform(int jointIndex) {
+		return this.get(jointIndex) != null;
 	}
 	
+	/**
+	 * Upper bound (exclusive) of the joint indices this pose can hold
+	 */
+	public int capacity() {
+		return this.jointTransforms.length;
+	}
+	
+	public int size() {
+		return this.size;
+	}
+	
+	public void clear() {
+		Arrays.fill(this.jointTransforms, null);
+		this.size = 0;
+	}
+	
+	public void forEach(BiConsumer<String, JointTransform> action) {
+		for (int i = 0; i < this.jointTransforms.length; i++) {
+			if (this.jointTransforms[i] != null) {
+				action.accept(JointNames.nameOf(i), this.jointTransforms[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Returns a live map view keyed by joint name. Prefer the indexed accessors in frequently called code.
+	 */
 	public Map<String, JointTransform> getJointTransformData() {
-		return this.jointTransformData;
+		if (this.mapView == null) {
+			this.mapView = new JointTransformMap();
+		}
+		
+		return this.mapView;
 	}
 	
 	public JointTransform getOrDefaultTransform(String jointName) {
-		return this.jointTransformData.getOrDefault(jointName, JointTransform.empty());
+		JointTransform jt = this.get(jointName);
+		return jt == null ? JointTransform.empty() : jt;
+	}
+	
+	public JointTransform getOrDefaultTransform(Joint joint) {
+		JointTransform jt = this.get(joint.getNameIndex());
+		return jt == null ? JointTransform.empty() : jt;
 	}
 	
 	public void removeJointIf(Predicate<? super Map.Entry<String, JointTransform>> predicate) {
-		this.jointTransformData.entrySet().removeIf(predicate);
+		Iterator<Map.Entry<String, JointTransform>> iterator = this.getJointTransformData().entrySet().iterator();
+		
+		while (iterator.hasNext()) {
+			if (predicate.apply(iterator.next())) {
+				iterator.remove();
+			}
+		}
 	}
 	
 	public static Pose interpolatePose(Pose pose1, Pose pose2, float pregression) {
 		Pose pose = new Pose();
+		int capacity = Math.max(pose1.jointTransforms.length, pose2.jointTransforms.length);
 		
-		Set<String> mergedSet = new HashSet<>(pose1.jointTransformData.keySet());
-		mergedSet.addAll(pose2.jointTransformData.keySet());
-		
-		for (String jointName : mergedSet) {
-			pose.putJointData(jointName, JointTransform.interpolate(pose1.getOrDefaultTransform(jointName), pose2.getOrDefaultTransform(jointName), pregression));
+		for (int i = 0; i < capacity; i++) {
+			JointTransform jt1 = pose1.get(i);
+			JointTransform jt2 = pose2.get(i);
+			
+			if (jt1 == null && jt2 == null) {
+				continue;
+			}
+			
+			pose.putJointData(i, JointTransform.interpolate(jt1 == null ? JointTransform.empty() : jt1, jt2 == null ? JointTransform.empty() : jt2, pregression));
 		}
 		
 		return pose;
@@ -48,10 +157,152 @@ public class Pose {
 		StringBuilder sb = new StringBuilder();
 		sb.append("Pose: ");
 		
-		for (Map.Entry<String, JointTransform> entry : this.jointTransformData.entrySet()) {
-			sb.append(String.format("%s{%s, %s}, ", entry.getKey(), entry.getValue().translation().toString(), entry.getValue().rotation().toString()) + "\n");
-		}
+		this.forEach((name, jt) -> {
+			sb.append(String.format("%s{%s, %s}, ", name, jt.translation().toString(), jt.rotation().toString()) + "\n");
+		});
 		
 		return sb.toString();
 	}
-}
\ No newline at end of file
+	
+	private class JointTransformMap extends AbstractMap<String, JointTransform> {
+		private final Set<Map.Entry<String, JointTransform>> entrySet = new AbstractSet<> () {
+			@Override
+			public Iterator<Map.Entry<String, JointTransform>> iterator() {
+				return new EntryIterator();
+			}
+			
+			@Override
+			public int size() {
+				return Pose.this.size;
+			}
+		};
+		
+		@Override
+		public int size() {
+			return Pose.this.size;
+		}
+		
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof String jointName && Pose.this.hasTransform(jointName);
+		}
+		
+		@Override
+		public JointTransform get(Object key) {
+			return key instanceof String jointName ? Pose.this.get(jointName) : null;
+		}
+		
+		@Override
+		public JointTransform put(String key, JointTransform value) {
+			int jointIndex = JointNames.indexOf(key);
+			JointTransform old = Pose.this.get(jointIndex);
+			Pose.this.putJointData(jointIndex, value);
+			
+			return old;
+		}
+		
+		@Override
+		public JointTransform remove(Object key) {
+			if (!(key instanceof String jointName)) {
+				return null;
+			}
+			
+			int jointIndex = JointNames.find(jointName);
+			JointTransform old = Pose.this.get(jointIndex);
+			
+			if (old != null) {
+				Pose.this.putJointData(jointIndex, null);
+			}
+			
+			return old;
+		}
+		
+		@Override
+		public void clear() {
+			Pose.this.clear();
+		}
+		
+		@Override
+		public Set<Map.Entry<String, JointTransform>> entrySet() {
+			return this.entrySet;
+		}
+	}
+	
+	private class EntryIterator implements Iterator<Map.Entry<String, JointTransform>> {
+		private int next = -1;
+		private int current = -1;
+		
+		private EntryIterator() {
+			this.advance();
+		}
+		
+		private void advance() {
+			do {
+				this.next++;
+			} while (this.next < Pose.this.jointTransforms.length && Pose.this.jointTransforms[this.next] == null);
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return this.next < Pose.this.jointTransforms.length;
+		}
+		
+		@Override
+		public Map.Entry<String, JointTransform> next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			
+			this.current = this.next;
+			this.advance();
+			
+			return new JointEntry(this.current);
+		}
+		
+		@Override
+		public void remove() {
+			if (this.current < 0) {
+				throw new IllegalStateException();
+			}
+			
+			Pose.this.putJointData(this.current, null);
+			this.current = -1;
+		}
+	}
+	
+	private class JointEntry implements Map.Entry<String, JointTransform> {
+		private final int jointIndex;
+		
+		private JointEntry(int jointIndex) {
+			this.jointIndex = jointIndex;
+		}
+		
+		@Override
+		public String getKey() {
+			return JointNames.nameOf(this.jointIndex);
+		}
+		
+		@Override
+		public JointTransform getValue() {
+			return Pose.this.get(this.jointIndex);
+		}
+		
+		@Override
+		public JointTransform setValue(JointTransform value) {
+			JointTransform old = Pose.this.get(this.jointIndex);
+			Pose.this.putJointData(this.jointIndex, value);
+			
+			return old;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Map.Entry<?, ?> entry && this.getKey().equals(entry.getKey()) && Objects.equals(this.getValue(), entry.getValue());
+		}
+		
+		@Override
+		public int hashCode() {
+			return this.getKey().hashCode() ^ Objects.hashCode(this.getValue());
+		}
+	}
+}
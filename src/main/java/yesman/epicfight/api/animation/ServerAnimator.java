@@ -18,6 +18,7 @@ public class ServerAnimator extends Animator {
 	protected DynamicAnimation nextPlaying;
 	private final LinkAnimation linkAnimation;
 	public boolean pause = false;
+	private int deferredTicks;
 	
 	public ServerAnimator(LivingEntityPatch<?> entitypatch) {
 		this.entitypatch = entitypatch;
@@ -28,6 +29,7 @@ public class ServerAnimator extends Animator {
 	/** Play an animation by animation instance **/
 	@Override
 	public void playAnimation(StaticAnimation nextAnimation, float modifyTime) {
+		this.catchUp();
 		this.pause = false;
 		Pose lastPose = this.animationPlayer.getAnimation().getPoseByTime(this.entitypatch, 0.0F, 0.0F);
 		this.animationPlayer.getAnimation().end(this.entitypatch, nextAnimation, this.animationPlayer.isEnd());
@@ -40,6 +42,7 @@ public class ServerAnimator extends Animator {
 	
 	@Override
 	public void playAnimationInstantly(StaticAnimation nextAnimation) {
+		this.catchUp();
 		this.pause = false;
 		this.animationPlayer.getAnimation().end(this.entitypatch, nextAnimation, this.animationPlayer.isEnd());
 		nextAnimation.begin(this.entitypatch);
@@ -49,18 +52,59 @@ public class ServerAnimator extends Animator {
 	
 	@Override
 	public void reserveAnimation(StaticAnimation nextAnimation) {
+		this.catchUp();
 		this.pause = false;
 		this.nextPlaying = nextAnimation;
 	}
 	
 	@Override
 	public void tick() {
+		if (AnimationTickScheduler.shouldDefer(this.entitypatch, this.isIdle(), this.deferredTicks)) {
+			this.deferredTicks++;
+			return;
+		}
+		
+		long startTime = System.nanoTime();
+		
+		if (this.deferredTicks > 0) {
+			AnimationTickScheduler.caughtUp(this.deferredTicks);
+		}
+		
+		int ticks = this.deferredTicks + 1;
+		this.deferredTicks = 0;
+		this.tickAnimation(ticks);
+		AnimationTickScheduler.spent(this.entitypatch, System.nanoTime() - startTime);
+	}
+	
+	/**
+	 * Advances over the ticks put off by {@link AnimationTickScheduler} in one step. Events and the state are evaluated
+	 * once for the skipped window.
+	 */
+	public void catchUp() {
+		if (this.deferredTicks == 0) {
+			return;
+		}
+		
+		AnimationTickScheduler.caughtUp(this.deferredTicks);
+		int ticks = this.deferredTicks;
+		this.deferredTicks = 0;
+		this.tickAnimation(ticks);
+	}
+	
+	/**
+	 * Paused, or playing an animation that doesn't lock the entity, with nothing reserved
+	 */
+	private boolean isIdle() {
+		return this.pause || (this.nextPlaying == null && !this.animationPlayer.getAnimation().isLinkAnimation() && !this.entitypatch.getEntityState().inaction());
+	}
+	
+	private void tickAnimation(int ticks) {
 		if (this.pause) {
 			this.entitypatch.updateEntityState();
 			return;
 		}
 		
-		this.animationPlayer.tick(this.entitypatch);
+		this.animationPlayer.tick(this.entitypatch, ticks);
 		this.entitypatch.updateEntityState();
 		this.animationPlayer.getAnimation().tick(this.entitypatch);
 		
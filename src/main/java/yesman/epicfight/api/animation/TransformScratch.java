@@ -0,0 +1,30 @@
+package yesman.epicfight.api.animation;
+
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+
+/**
+ * Reusable matrices for evaluating joint transforms without allocating. Each {@link Animator} owns one,
+ * so an instance must only be used by the thread that updates and renders its owner.
+ */
+public class TransformScratch {
+	final OpenMatrix4f animationMatrix = new OpenMatrix4f();
+	final OpenMatrix4f entryMatrix = new OpenMatrix4f();
+	final OpenMatrix4f operandMatrix = new OpenMatrix4f();
+	private OpenMatrix4f[] jointMatrices = new OpenMatrix4f[0];
+	
+	/**
+	 * Returns a buffer of {@code jointNumber} matrices. The content is overwritten by the next pose evaluation,
+	 * so copy the matrices if they have to outlive the current frame.
+	 */
+	public OpenMatrix4f[] getJointMatrices(int jointNumber) {
+		if (this.jointMatrices.length != jointNumber) {
+			this.jointMatrices = new OpenMatrix4f[jointNumber];
+			
+			for (int i = 0; i < jointNumber; i++) {
+				this.jointMatrices[i] = new OpenMatrix4f();
+			}
+		}
+		
+		return this.jointMatrices;
+	}
+}
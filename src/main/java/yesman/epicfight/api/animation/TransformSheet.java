@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Quaternionf;
+import yesman.epicfight.api.model.Armature;
 import yesman.epicfight.api.utils.math.MathUtils;
 import yesman.epicfight.api.utils.math.OpenMatrix4f;
 import yesman.epicfight.api.utils.math.Vec3f;
@@ -50,13 +51,24 @@ public class TransformSheet {
 		return new TransformSheet(newKeyframes);
 	}
 	
+	/**
+	 * Copies the keyframes of the opponent, the keyframe objects of this sheet are reused when the length changes
+	 */
 	public TransformSheet readFrom(TransformSheet opponent) {
+		if (opponent == this) {
+			return this;
+		}
+		
 		if (opponent.keyframes.length != this.keyframes.length) {
-			this.keyframes = new Keyframe[opponent.keyframes.length];
+			Keyframe[] keyframes = new Keyframe[opponent.keyframes.length];
+			int reused = Math.min(keyframes.length, this.keyframes.length);
+			System.arraycopy(this.keyframes, 0, keyframes, 0, reused);
 			
-			for (int i = 0; i < this.keyframes.length; i++) {
-				this.keyframes[i] = new Keyframe(0.0F, JointTransform.empty());
+			for (int i = reused; i < keyframes.length; i++) {
+				keyframes[i] = new Keyframe(0.0F, JointTransform.empty());
 			}
+			
+			this.keyframes = keyframes;
 		}
 		
 		for (int i = 0; i < this.keyframes.length; i++) {
@@ -79,21 +91,57 @@ public class TransformSheet {
 	}
 	
 	public Vec3f getInterpolatedTranslation(float currentTime) {
-		InterpolationInfo interpolInfo = this.getInterpolationInfo(currentTime);
-		Vec3f vec3f = MathUtils.lerpVector(this.keyframes[interpolInfo.prev].transform().translation(), this.keyframes[interpolInfo.next].transform().translation(), interpolInfo.zero2One);
-		return vec3f;
+		return this.getInterpolatedTranslation(currentTime, new Vec3f());
+	}
+	
+	public Vec3f getInterpolatedTranslation(float currentTime, Vec3f dest) {
+		currentTime = this.wrapTime(currentTime);
+		int prev = this.searchSegment(currentTime, 0);
+		int next = this.getNextIndex(prev);
+		
+		return MathUtils.lerpVector(this.keyframes[prev].transform().translation(), this.keyframes[next].transform().translation(), this.getProgression(currentTime, prev, next), dest);
 	}
 	
 	public Quaternionf getInterpolatedRotation(float currentTime) {
-		InterpolationInfo interpolInfo = this.getInterpolationInfo(currentTime);
-		Quaternionf quat = MathUtils.lerpQuaternion(this.keyframes[interpolInfo.prev].transform().rotation(), this.keyframes[interpolInfo.next].transform().rotation(), interpolInfo.zero2One);
-		return quat;
+		return this.getInterpolatedRotation(currentTime, new Quaternionf());
+	}
+	
+	public Quaternionf getInterpolatedRotation(float currentTime, Quaternionf dest) {
+		currentTime = this.wrapTime(currentTime);
+		int prev = this.searchSegment(currentTime, 0);
+		int next = this.getNextIndex(prev);
+		
+		return MathUtils.lerpQuaternion(this.keyframes[prev].transform().rotation(), this.keyframes[next].transform().rotation(), this.getProgression(currentTime, prev, next), dest);
 	}
 	
 	public JointTransform getInterpolatedTransform(float currentTime) {
-		InterpolationInfo interpolInfo = this.getInterpolationInfo(currentTime);
-		JointTransform trasnform = JointTransform.interpolate(this.keyframes[interpolInfo.prev].transform(), this.keyframes[interpolInfo.next].transform(), interpolInfo.zero2One);
-		return trasnform;
+		return this.getInterpolatedTransform(currentTime, JointTransform.empty());
+	}
+	
+	/**
+	 * Samples the sheet into dest. dest must not be one of the keyframe transforms.
+	 */
+	public JointTransform getInterpolatedTransform(float currentTime, JointTransform dest) {
+		return this.getInterpolatedTransform(currentTime, this.getSegmentIndex(currentTime, 0), dest);
+	}
+	
+	/**
+	 * Samples the sheet in the segment found by {@link #getSegmentIndex(float, int)} for the same time
+	 */
+	public JointTransform getInterpolatedTransform(float currentTime, int segment, JointTransform dest) {
+		currentTime = this.wrapTime(currentTime);
+		int next = this.getNextIndex(segment);
+		
+		return JointTransform.interpolate(this.keyframes[segment].transform(), this.keyframes[next].transform(), this.getProgression(currentTime, segment, next), dest);
+	}
+	
+	/**
+	 * Returns the index of the keyframe that starts the segment containing the time, clamped to the last segment.
+	 * The hint is checked before searching, so passing the segment found for the previous frame or for another sheet
+	 * of the same clip (joints usually share keyframe times) makes the lookup constant time.
+	 */
+	public int getSegmentIndex(float currentTime, int hint) {
+		return this.searchSegment(this.wrapTime(currentTime), hint);
 	}
 	
 	public void correctAnimationByNewPosition(Vec3f startpos, Vec3f startToEnd, Vec3f modifiedStart, Vec3f modifiedStartToEnd) {
@@ -102,40 +150,52 @@ public class TransformSheet {
 		Keyframe endKeyframe = keyframes[keyframes.length - 1];
 		float pitchDeg = (float) Math.toDegrees(Mth.atan2(modifiedStartToEnd.y - startToEnd.y, modifiedStartToEnd.length()));
 		float yawDeg = (float) Math.toDegrees(MathUtils.getAngleBetween(modifiedStartToEnd.copy().multiply(1.0F, 0.0F, 1.0F).normalise(), startToEnd.copy().multiply(1.0F, 0.0F, 1.0F).normalise()));
+		OpenMatrix4f rotator = OpenMatrix4f.createRotatorDeg(pitchDeg, Vec3f.X_AXIS).mulFront(OpenMatrix4f.createRotatorDeg(yawDeg, Vec3f.Y_AXIS));
 		
 		for (Keyframe kf : keyframes) {
 			float lerp = (kf.time() - startKeyframe.time()) / (endKeyframe.time() - startKeyframe.time());
-			Vec3f line = MathUtils.lerpVector(new Vec3f(0F, 0F, 0F), startToEnd, lerp);
-			Vec3f modifiedLine = MathUtils.lerpVector(new Vec3f(0F, 0F, 0F), modifiedStartToEnd, lerp);
 			Vec3f keyTransform = kf.transform().translation();
-			Vec3f startToKeyTransform = keyTransform.copy().sub(startpos).multiply(-1.0F, 1.0F, -1.0F);
-			Vec3f animOnLine = startToKeyTransform.copy().sub(line);
-			OpenMatrix4f rotator = OpenMatrix4f.createRotatorDeg(pitchDeg, Vec3f.X_AXIS).mulFront(OpenMatrix4f.createRotatorDeg(yawDeg, Vec3f.Y_AXIS));
-			Vec3f toNewKeyTransform = modifiedLine.add(OpenMatrix4f.transform3v(rotator, animOnLine, null));
-			keyTransform.set(modifiedStart.copy().add((toNewKeyTransform)));
+			// From the start to the keyframe, relative to the line from the start to the end
+			keyTransform.set(startpos.x - keyTransform.x - startToEnd.x * lerp, keyTransform.y - startpos.y - startToEnd.y * lerp, startpos.z - keyTransform.z - startToEnd.z * lerp);
+			rotate(rotator, keyTransform);
+			keyTransform.add(modifiedStart.x + modifiedStartToEnd.x * lerp, modifiedStart.y + modifiedStartToEnd.y * lerp, modifiedStart.z + modifiedStartToEnd.z * lerp);
 		}
 	}
 	
 	public TransformSheet getCorrectedModelCoord(LivingEntityPatch<?> entitypatch, Vec3 start, Vec3 dest, int startFrame, int endFrame) {
-		TransformSheet transform = this.copyAll();
+		return this.getCorrectedModelCoord(entitypatch, start, dest, startFrame, endFrame, new TransformSheet());
+	}
+	
+	/**
+	 * Writes the corrected keyframes into the given sheet and returns it, use {@link Armature#getActionAnimationCoord()}
+	 * to avoid allocating a sheet. The given sheet may be this sheet.
+	 */
+	public TransformSheet getCorrectedModelCoord(LivingEntityPatch<?> entitypatch, Vec3 start, Vec3 dest, int startFrame, int endFrame, TransformSheet out) {
+		TransformSheet transform = out.readFrom(this);
 		float horizontalDistance = (float) dest.subtract(start).horizontalDistance();
 		float verticalDistance = (float) Math.abs(dest.y - start.y);
 		JointTransform startJt = transform.getKeyframes()[startFrame].transform();
 		JointTransform endJt = transform.getKeyframes()[endFrame].transform();
-		Vec3f jointCoord = new Vec3f(startJt.translation().x, verticalDistance, horizontalDistance);
 		
-		startJt.translation().set(jointCoord);
+		startJt.translation().set(startJt.translation().x, verticalDistance, horizontalDistance);
 		
 		for (int i = startFrame + 1; i < endFrame; i++) {
 			JointTransform middleJt = transform.getKeyframes()[i].transform();
-			middleJt.translation().set(MathUtils.lerpVector(startJt.translation(), endJt.translation(), transform.getKeyframes()[i].time() / transform.getKeyframes()[endFrame].time()));
+			MathUtils.lerpVector(startJt.translation(), endJt.translation(), transform.getKeyframes()[i].time() / transform.getKeyframes()[endFrame].time(), middleJt.translation());
 		}
 		
 		return transform;
 	}
 	
 	public TransformSheet extendsZCoord(float multiplier, int startFrame, int endFrame) {
-		TransformSheet transform = this.copyAll();
+		return this.extendsZCoord(multiplier, startFrame, endFrame, new TransformSheet());
+	}
+	
+	/**
+	 * Writes the extended keyframes into the given sheet and returns it. The given sheet may be this sheet.
+	 */
+	public TransformSheet extendsZCoord(float multiplier, int startFrame, int endFrame, TransformSheet out) {
+		TransformSheet transform = out.readFrom(this);
 		float extend = 0.0F;
 		
 		for (int i = 0; i < endFrame + 1; i++) {
@@ -155,56 +215,122 @@ public class TransformSheet {
 	}
 	
 	public TransformSheet getCorrectedWorldCoord(LivingEntityPatch<?> entitypatch, Vec3 start, Vec3 dest, float xRot, float yRot, int startFrame, int endFrame) {
-		TransformSheet newTransformSheet = this.copyAll();
-		Vec3f firstPos = newTransformSheet.keyframes[0].transform().translation().copy();
+		return this.getCorrectedWorldCoord(entitypatch, start, dest, xRot, yRot, startFrame, endFrame, new TransformSheet());
+	}
+	
+	/**
+	 * Writes the corrected keyframes into the given sheet and returns it, use {@link Armature#getActionAnimationCoord()}
+	 * to avoid allocating a sheet. The given sheet may be this sheet.
+	 */
+	public TransformSheet getCorrectedWorldCoord(LivingEntityPatch<?> entitypatch, Vec3 start, Vec3 dest, float xRot, float yRot, int startFrame, int endFrame, TransformSheet out) {
+		TransformSheet newTransformSheet = out.readFrom(this);
+		Keyframe[] keyframes = newTransformSheet.keyframes;
+		Vec3f firstPos = keyframes[0].transform().translation();
+		float firstX = firstPos.x;
+		float firstY = firstPos.y;
+		float firstZ = firstPos.z;
 		
-		newTransformSheet.transform((jt) -> {
-			jt.translation().sub(firstPos);
-		});
+		for (Keyframe kf : keyframes) {
+			kf.transform().translation().add(-firstX, -firstY, -firstZ);
+		}
 		
-		Vec3f fromCoord = newTransformSheet.keyframes[startFrame].transform().translation();
-		Vec3f toCoord = newTransformSheet.keyframes[endFrame - 1].transform().translation();
+		// The start keyframe is corrected first, so the following keyframes are relative to its corrected position
+		Vec3f fromCoord = keyframes[startFrame].transform().translation();
+		Vec3f toCoord = keyframes[endFrame - 1].transform().translation();
 		float originalDistance = (float)Math.sqrt(fromCoord.distanceSqr(toCoord));
 		float worldDistance = (float)Math.sqrt(dest.distanceToSqr(start));
 		float ratio = worldDistance / originalDistance;
+		OpenMatrix4f xRotator = OpenMatrix4f.createRotatorDeg(xRot, Vec3f.X_AXIS);
+		OpenMatrix4f yRotator = OpenMatrix4f.createRotatorDeg(yRot, Vec3f.Y_AXIS);
 		
-		newTransformSheet.transform((jt) -> {
-			Vec3f kfTranslation = jt.translation();
+		for (int i = startFrame; i < Math.min(endFrame, keyframes.length); i++) {
+			Vec3f kfTranslation = keyframes[i].transform().translation();
 			kfTranslation.set(-kfTranslation.x, kfTranslation.y, kfTranslation.z > 0.0F ? kfTranslation.z : kfTranslation.z * ratio);
-			Vec3f relativeCoord = Vec3f.rotate(xRot, Vec3f.X_AXIS, Vec3f.sub(kfTranslation, fromCoord, null), null);
-			kfTranslation.set(Vec3f.add(fromCoord, relativeCoord, null));
-		}, startFrame, endFrame);
+			// Read after the set since fromCoord is the translation of the start keyframe
+			float fromX = fromCoord.x;
+			float fromY = fromCoord.y;
+			float fromZ = fromCoord.z;
+			kfTranslation.add(-fromX, -fromY, -fromZ);
+			rotate(xRotator, kfTranslation);
+			kfTranslation.add(fromX, fromY, fromZ);
+		}
 		
-		newTransformSheet.transform((jt) -> {
-			jt.translation().rotate(yRot, Vec3f.Y_AXIS);
-			jt.translation().multiply(1.0F, 1.0F, -1.0F);
-			jt.translation().add((float)start.x, (float)start.y, (float)start.z);
-		});
+		for (Keyframe kf : keyframes) {
+			Vec3f kfTranslation = kf.transform().translation();
+			rotate(yRotator, kfTranslation);
+			kfTranslation.set(kfTranslation.x + (float)start.x, kfTranslation.y + (float)start.y, -kfTranslation.z + (float)start.z);
+		}
 		
 		return newTransformSheet;
 	}
 	
-	private InterpolationInfo getInterpolationInfo(float currentTime) {
+	/**
+	 * Applies the rotation of the matrix to the vector without allocating
+	 */
+	private static void rotate(OpenMatrix4f rotator, Vec3f vec) {
+		float x = rotator.m00 * vec.x + rotator.m10 * vec.y + rotator.m20 * vec.z;
+		float y = rotator.m01 * vec.x + rotator.m11 * vec.y + rotator.m21 * vec.z;
+		float z = rotator.m02 * vec.x + rotator.m12 * vec.y + rotator.m22 * vec.z;
+		vec.set(x, y, z);
+	}
+	
+	private float wrapTime(float currentTime) {
 		if (currentTime < 0.0F) {
-			currentTime = this.keyframes[this.keyframes.length - 1].time() + currentTime;
+			return this.keyframes[this.keyframes.length - 1].time() + currentTime;
 		}
 		
-		int prev = 0, next = 1;
+		return currentTime;
+	}
+	
+	private int searchSegment(float currentTime, int hint) {
+		int lastSegment = this.keyframes.length - 2;
+		
+		if (lastSegment <= 0) {
+			return 0;
+		}
 		
-		for (int i = 1; i < this.keyframes.length; i++) {
-			if (currentTime <= this.keyframes[i].time()) {
-				break;
+		if (hint >= 0 && hint <= lastSegment) {
+			if (this.isInSegment(currentTime, hint, lastSegment)) {
+				return hint;
+			}
+			
+			// Forward playback usually moves to the next segment
+			if (hint < lastSegment && this.isInSegment(currentTime, hint + 1, lastSegment)) {
+				return hint + 1;
 			}
+		}
+		
+		// The first keyframe after index 0 whose time isn't earlier than the current time ends the segment
+		int low = 1;
+		int high = lastSegment + 1;
+		
+		while (low < high) {
+			int mid = (low + high) >>> 1;
 			
-			if (this.keyframes.length > next + 1) {
-				prev++;
-				next++;
+			if (currentTime <= this.keyframes[mid].time()) {
+				high = mid;
+			} else {
+				low = mid + 1;
 			}
 		}
 		
-		float progression = (currentTime - this.keyframes[prev].time()) / (this.keyframes[next].time() - this.keyframes[prev].time());
+		return Math.min(low - 1, lastSegment);
+	}
+	
+	private boolean isInSegment(float currentTime, int segment, int lastSegment) {
+		return (segment == 0 || currentTime > this.keyframes[segment].time()) && (segment == lastSegment || currentTime <= this.keyframes[segment + 1].time());
+	}
+	
+	private int getNextIndex(int prev) {
+		return Math.min(prev + 1, this.keyframes.length - 1);
+	}
+	
+	private float getProgression(float currentTime, int prev, int next) {
+		if (prev == next) {
+			return 0.0F;
+		}
 		
-		return new InterpolationInfo(prev, next, progression);
+		return (currentTime - this.keyframes[prev].time()) / (this.keyframes[next].time() - this.keyframes[prev].time());
 	}
 	
 	@Override
@@ -222,16 +348,4 @@ public class TransformSheet {
 		
 		return sb.toString();
 	}
-	
-	private static class InterpolationInfo {
-		private final int prev;
-		private final int next;
-		private final float zero2One;
-		
-		private InterpolationInfo(int prev, int next, float zero2One) {
-			this.prev = prev;
-			this.next = next;
-			this.zero2One = zero2One;
-		}
-	}
 }
\ No newline at end of file
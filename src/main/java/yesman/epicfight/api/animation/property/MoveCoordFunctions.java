@@ -101,8 +101,7 @@ public class MoveCoordFunctions {
 	
 	public static final MoveCoordSetter TRACE_DEST_LOCATION_BEGIN = (self, entitypatch, transformSheet) -> {
 		LivingEntity attackTarget = entitypatch.getTarget();
-		TransformSheet transform = self.getCoord().copyAll();
-		Keyframe[] rootKeyframes = transform.getKeyframes();
+		Keyframe[] rootKeyframes = self.getCoord().getKeyframes();
 		
 		if (attackTarget != null && attackTarget.isAlive()) {
 			Vec3 start = entitypatch.getOriginal().position();
@@ -115,23 +114,18 @@ public class MoveCoordFunctions {
 			Vec3 dst = attackTarget.position().add(modelDst.x, modelDst.y, modelDst.z);
 			float clampedXRot = MathUtils.rotlerp(entitypatch.getOriginal().getXRot(), (float)MathUtils.getXRotOfVector(toTarget), 20.0F);
 			float clampedYRot = MathUtils.rotlerp(entitypatch.getYRot(), yRot, entitypatch.getYRotLimit());
-			TransformSheet newTransform = transform.getCorrectedWorldCoord(entitypatch, start, dst, -clampedXRot, clampedYRot, 0, rootKeyframes.length);
 			
-			transformSheet.readFrom(newTransform);
+			self.getCoord().getCorrectedWorldCoord(entitypatch, start, dst, -clampedXRot, clampedYRot, 0, rootKeyframes.length, transformSheet);
 		} else {
-			transform.transform((jt) -> {
-				Vec3f firstPos = self.getCoord().getKeyframes()[0].transform().translation().copy();
+			Vec3f firstPos = rootKeyframes[0].transform().translation().copy();
+			Vec3f pos = Vec3f.fromDoubleVector(entitypatch.getOriginal().position());
+			
+			transformSheet.readFrom(self.getCoord()).transform((jt) -> {
 				jt.translation().sub(firstPos);
-				
-				LivingEntity original = entitypatch.getOriginal();
-				Vec3 pos = original.position();
-				
 				jt.translation().rotate(-entitypatch.getYRot(), Vec3f.Y_AXIS);
 				jt.translation().multiply(-1.0F, 1.0F, -1.0F);
-				jt.translation().add(Vec3f.fromDoubleVector(pos));
+				jt.translation().add(pos);
 			});
-			
-			transformSheet.readFrom(transform);
 		}
 	};
 	
@@ -139,8 +133,7 @@ public class MoveCoordFunctions {
 		LivingEntity attackTarget = entitypatch.getTarget();
 		
 		if (attackTarget != null && attackTarget.isAlive()) {
-			TransformSheet transform = self.getCoord().copyAll();
-			Keyframe[] rootKeyframes = transform.getKeyframes();
+			Keyframe[] rootKeyframes = self.getCoord().getKeyframes();
 			Vec3 start = entitypatch.getArmature().getActionAnimationCoord().getKeyframes()[0].transform().translation().toDoubleVector();
 			Vec3 toTarget = attackTarget.position().subtract(start);
 			Vec3f modelDst = rootKeyframes[rootKeyframes.length - 1].transform().translation().copy().multiply(1.0F, 1.0F, -1.0F);
@@ -150,10 +143,9 @@ public class MoveCoordFunctions {
 			Vec3 dst = attackTarget.position().add(modelDst.toDoubleVector());
 			float clampedXRot = (float)MathUtils.getXRotOfVector(toTarget);
 			float clampedYRot = MathUtils.rotlerp(entitypatch.getYRot(), yRot, entitypatch.getYRotLimit());
-			TransformSheet newTransform = transform.getCorrectedWorldCoord(entitypatch, start, dst, -clampedXRot, clampedYRot, 0, rootKeyframes.length);
 			
 			entitypatch.setYRot(clampedYRot);
-			transformSheet.readFrom(newTransform);
+			self.getCoord().getCorrectedWorldCoord(entitypatch, start, dst, -clampedXRot, clampedYRot, 0, rootKeyframes.length, transformSheet);
 		}
 	};
 	
@@ -161,8 +153,7 @@ public class MoveCoordFunctions {
 		LivingEntity attackTarget = entitypatch.getTarget();
 		
 		if (attackTarget != null && !self.getRealAnimation().getProperty(AttackAnimationProperty.FIXED_MOVE_DISTANCE).orElse(false)) {
-			TransformSheet transform = self.getCoord().copyAll();
-			Keyframe[] keyframes = transform.getKeyframes();
+			Keyframe[] keyframes = transformSheet.readFrom(self.getCoord()).getKeyframes();
 			int startFrame = 0; 
 			int endFrame = keyframes.length - 1;
 			Vec3f keyLast = keyframes[endFrame].transform().translation();
@@ -186,10 +177,8 @@ public class MoveCoordFunctions {
 					translation.z *= scale;
 				}
 			}
-			
-			transformSheet.readFrom(transform);
 		} else {
-			transformSheet.readFrom(self.getCoord().copyAll());
+			transformSheet.readFrom(self.getCoord());
 		}
 	};
 	
@@ -197,8 +186,7 @@ public class MoveCoordFunctions {
 		LivingEntity attackTarget = entitypatch.getTarget();
 		
 		if (attackTarget != null) {
-			TransformSheet transform = self.getCoord().copyAll();
-			Keyframe[] keyframes = transform.getKeyframes();
+			Keyframe[] keyframes = transformSheet.readFrom(self.getCoord()).getKeyframes();
 			int startFrame = 0; 
 			int endFrame = keyframes.length - 1;
 			Vec3f keyLast = keyframes[endFrame].transform().translation();
@@ -219,43 +207,37 @@ public class MoveCoordFunctions {
 					translation.z *= scale;
 				}
 			}
-			
-			transformSheet.readFrom(transform);
 		} else {
-			transformSheet.readFrom(self.getCoord().copyAll());
+			transformSheet.readFrom(self.getCoord());
 		}
 	};
 	
 	public static final MoveCoordSetter RAW_COORD = (self, entitypatch, transformSheet) -> {
-		transformSheet.readFrom(self.getCoord().copyAll());
+		transformSheet.readFrom(self.getCoord());
 	};
 	
 	public static final MoveCoordSetter RAW_COORD_WITH_X_ROT = (self, entitypatch, transformSheet) -> {
 		float xRot = entitypatch.getOriginal().getXRot();
-		TransformSheet sheet = self.getCoord().copyAll();
+		OpenMatrix4f rotator = OpenMatrix4f.createRotatorDeg(-xRot, Vec3f.X_AXIS);
 		
-		for (Keyframe kf : sheet.getKeyframes()) {
-			kf.transform().translation().rotate(-xRot, Vec3f.X_AXIS);
+		for (Keyframe kf : transformSheet.readFrom(self.getCoord()).getKeyframes()) {
+			OpenMatrix4f.transform3v(rotator, kf.transform().translation(), kf.transform().translation());
 		}
-		
-		transformSheet.readFrom(sheet);
 	};
 	
 	public static final MoveCoordSetter VEX_TRACE = (self, entitypatch, transformSheet) -> {
-		TransformSheet transform = self.getCoord().copyAll();
-		Keyframe[] keyframes = transform.getKeyframes();
+		Keyframe[] keyframes = transformSheet.readFrom(self.getCoord()).getKeyframes();
 		int startFrame = 0;
 		int endFrame = 6;
 		Vec3 pos = entitypatch.getOriginal().position();
 		Vec3 targetpos = entitypatch.getTarget().position();
 		float verticalDistance = (float) (targetpos.y - pos.y);
 		Quaternionf rotator = Vec3f.getRotatorBetween(new Vec3f(0.0F, -verticalDistance, (float)targetpos.subtract(pos).horizontalDistance()), new Vec3f(0.0F, 0.0F, 1.0F));
+		OpenMatrix4f rotationMatrix = OpenMatrix4f.fromQuaternion(rotator);
 		
 		for (int i = startFrame; i <= endFrame; i++) {
 			Vec3f translation = keyframes[i].transform().translation();
-			OpenMatrix4f.transform3v(OpenMatrix4f.fromQuaternion(rotator), translation, translation);
+			OpenMatrix4f.transform3v(rotationMatrix, translation, translation);
 		}
-		
-		transformSheet.readFrom(transform);
 	};
 }
\ No newline at end of file
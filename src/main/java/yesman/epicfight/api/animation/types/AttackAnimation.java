@@ -1,10 +1,13 @@
 package yesman.epicfight.api.animation.types;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nullable;
 
@@ -28,6 +31,7 @@ import net.minecraftforge.entity.PartEntity;
 import net.minecraftforge.registries.RegistryObject;
 import yesman.epicfight.api.animation.AnimationPlayer;
 import yesman.epicfight.api.animation.Joint;
+import yesman.epicfight.api.animation.Pose;
 import yesman.epicfight.api.animation.property.AnimationProperty.ActionAnimationProperty;
 import yesman.epicfight.api.animation.property.AnimationProperty.AttackAnimationProperty;
 import yesman.epicfight.api.animation.property.AnimationProperty.AttackPhaseProperty;
@@ -53,6 +57,8 @@ import yesman.epicfight.world.entity.eventlistener.PlayerEventListener.EventType
 
 public class AttackAnimation extends ActionAnimation {
 	public final Phase[] phases;
+	/** Joints the colliders need, by armature **/
+	private final Map<Armature, BitSet> colliderJointMasks = Collections.synchronizedMap(new WeakHashMap<> ());
 	
 	/** Entities that collided **/
 	public static final TypeKey<List<LivingEntity>> HIT_ENTITIES = new TypeKey<>() {
@@ -280,6 +286,7 @@ public class AttackAnimation extends ActionAnimation {
 			EntityState state = super.getState(entitypatch, animation, 0.0F);
 			
 			if (time + animation.getPlaySpeed(entitypatch, animation) * EpicFightOptions.A_TICK < animation.getTotalTime()) {
+				state = state.copy();
 				state.setState(EntityState.ATTACKING, false);
 			}
 			
@@ -295,6 +302,7 @@ public class AttackAnimation extends ActionAnimation {
 			TypeFlexibleHashMap<StateFactor<?>> stateMap = super.getStatesMap(entitypatch, animation, 0.0F);
 			
 			if (time + animation.getPlaySpeed(entitypatch, animation) * EpicFightOptions.A_TICK < animation.getTotalTime()) {
+				stateMap = copyStateMap(stateMap);
 				stateMap.put((StateFactor<?>)EntityState.ATTACKING, Boolean.valueOf(false));
 			}
 			
@@ -419,6 +427,38 @@ public class AttackAnimation extends ActionAnimation {
 		return this;
 	}
 	
+	/**
+	 * Samples only the collider joints of every phase and their ancestors, which is all the colliders bind. Collider
+	 * joints missing from the armature are left out, so that a phase naming one doesn't break the other phases.
+	 * Animations that need other joints to pose the collider joints (e.g. IK) should return {@link #getPoseByTime} instead.
+	 */
+	public Pose getColliderPose(LivingEntityPatch<?> entitypatch, float time, float partialTicks) {
+		Pose pose = this.getRawPose(time, this.getColliderJointMask(entitypatch.getArmature()));
+		this.modifyPose(this, pose, entitypatch, time, partialTicks);
+		
+		return pose;
+	}
+	
+	protected BitSet getColliderJointMask(Armature armature) {
+		return this.colliderJointMasks.computeIfAbsent(armature, (key) -> {
+			BitSet jointMask = new BitSet();
+			
+			for (Phase phase : this.phases) {
+				for (JointColliderPair colliderInfo : phase.getColliders()) {
+					if (!armature.hasJoint(colliderInfo.getFirst())) {
+						continue;
+					}
+					
+					for (Joint joint : armature.getJointPath(colliderInfo.getFirst())) {
+						jointMask.set(joint.getNameIndex());
+					}
+				}
+			}
+			
+			return jointMask;
+		});
+	}
+	
 	public Phase getPhaseByTime(float elapsedTime) {
 		Phase currentPhase = null;
 		
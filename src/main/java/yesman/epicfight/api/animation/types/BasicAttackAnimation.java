@@ -94,11 +94,25 @@ public class BasicAttackAnimation extends AttackAnimation {
 		}
 	}
 	
+	@Override
+	protected EntityState getState(LivingEntityPatch<?> entitypatch, DynamicAnimation animation, float time) {
+		EntityState state = super.getState(entitypatch, animation, time);
+		
+		if (!entitypatch.getOriginal().level().getGameRules().getRule(EpicFightGamerules.STIFF_COMBO_ATTACKS).get()) {
+			state = state.copy();
+			state.setState(EntityState.MOVEMENT_LOCKED, false);
+			state.setState(EntityState.UPDATE_LIVING_MOTION, true);
+		}
+		
+		return state;
+	}
+	
 	@Override
 	protected TypeFlexibleHashMap<StateFactor<?>> getStatesMap(LivingEntityPatch<?> entitypatch, DynamicAnimation animation, float time) {
 		TypeFlexibleHashMap<StateFactor<?>> stateMap = super.getStatesMap(entitypatch, animation, time);
 		
 		if (!entitypatch.getOriginal().level().getGameRules().getRule(EpicFightGamerules.STIFF_COMBO_ATTACKS).get()) {
+			stateMap = copyStateMap(stateMap);
 			stateMap.put(EntityState.MOVEMENT_LOCKED, (Object)false);
 			stateMap.put(EntityState.UPDATE_LIVING_MOTION, (Object)true);
 		}
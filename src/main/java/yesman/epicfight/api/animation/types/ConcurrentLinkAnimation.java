@@ -5,6 +5,8 @@ import java.util.Optional;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.JointNames;
+import yesman.epicfight.api.animation.LivingMotion;
 import yesman.epicfight.api.animation.Pose;
 import yesman.epicfight.api.animation.types.EntityState.StateFactor;
 import yesman.epicfight.api.client.animation.Layer;
@@ -67,8 +69,14 @@ public class ConcurrentLinkAnimation extends DynamicAnimation {
 		JointMaskEntry maskEntry = this.nextAnimation.getJointMaskEntry(entitypatch, true).orElse(null);
 		
 		if (maskEntry != null && entitypatch.isLogicalClient()) {
-			interpolatedPose.getJointTransformData().entrySet().removeIf((entry) -> maskEntry.isMasked(this.nextAnimation.getProperty(ClientAnimationProperties.LAYER_TYPE).orElse(Layer.LayerType.BASE_LAYER) == Layer.LayerType.BASE_LAYER ?
-					entitypatch.getClientAnimator().currentMotion() : entitypatch.getClientAnimator().currentCompositeMotion(), entry.getKey()));
+			LivingMotion motion = this.nextAnimation.getProperty(ClientAnimationProperties.LAYER_TYPE).orElse(Layer.LayerType.BASE_LAYER) == Layer.LayerType.BASE_LAYER ?
+					entitypatch.getClientAnimator().currentMotion() : entitypatch.getClientAnimator().currentCompositeMotion();
+			
+			for (int i = 0; i < interpolatedPose.capacity(); i++) {
+				if (interpolatedPose.hasTransform(i) && maskEntry.isMasked(motion, JointNames.nameOf(i))) {
+					interpolatedPose.putJointData(i, null);
+				}
+			}
 		}
 		
 		return interpolatedPose;
@@ -1,8 +1,11 @@
 package yesman.epicfight.api.animation.types;
 
+import java.util.BitSet;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 import com.mojang.blaze3d.vertex.PoseStack;
 
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -38,6 +41,13 @@ public abstract class DynamicAnimation {
 		return this.getAnimationClip().getPoseInTime(time);
 	}
 	
+	/**
+	 * @param jointMask {@link yesman.epicfight.api.animation.JointNames} indices of the joints to sample, null samples all joints
+	 */
+	public final Pose getRawPose(float time, @Nullable BitSet jointMask) {
+		return this.getAnimationClip().getPoseInTime(time, jointMask);
+	}
+	
 	public Pose getPoseByTime(LivingEntityPatch<?> entitypatch, float time, float partialTicks) {
 		Pose pose = this.getRawPose(time);
 		this.modifyPose(this, pose, entitypatch, time, partialTicks);
@@ -46,6 +46,16 @@ public class EntityState {
 		this.stateMap = states;
 	}
 	
+	/**
+	 * Returns a modifiable copy. States returned by animations may be shared, so copy them before calling {@link #setState}.
+	 */
+	public EntityState copy() {
+		TypeFlexibleHashMap<StateFactor<?>> stateMap = new TypeFlexibleHashMap<>(false);
+		stateMap.putAll(this.stateMap);
+		
+		return new EntityState(stateMap);
+	}
+	
 	public <T> void setState(StateFactor<T> stateFactor, T val) {
 		this.stateMap.put(stateFactor, (Object)val);
 	}
@@ -39,7 +39,7 @@ public class LayerOffAnimation extends DynamicAnimation {
 	public Pose getPoseByTime(LivingEntityPatch<?> entitypatch, float time, float partialTicks) {
 		Pose lowerLayerPose = entitypatch.getClientAnimator().getComposedLayerPoseBelow(this.layerPriority, Minecraft.getInstance().getFrameTime());
 		Pose interpolatedPose = Pose.interpolatePose(this.lastPose, lowerLayerPose, time / this.getTotalTime());
-		interpolatedPose.removeJointIf((joint) -> !this.lastPose.getJointTransformData().containsKey(joint.getKey()));
+		interpolatedPose.removeJointIf((joint) -> !this.lastPose.hasTransform(joint.getKey()));
 		
 		return interpolatedPose;
 	}
@@ -75,7 +75,7 @@ public class LayerOffAnimation extends DynamicAnimation {
 	
 	@Override
 	public boolean hasTransformFor(String joint) {
-		return this.lastPose.getJointTransformData().containsKey(joint);
+		return this.lastPose.hasTransform(joint);
 	}
 	
 	@Override
@@ -1,11 +1,16 @@
 package yesman.epicfight.api.animation.types;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.JointNames;
 import yesman.epicfight.api.animation.JointTransform;
 import yesman.epicfight.api.animation.Keyframe;
 import yesman.epicfight.api.animation.Pose;
@@ -24,6 +29,13 @@ public class LinkAnimation extends DynamicAnimation {
 	protected StaticAnimation toAnimation;
 	protected float nextStartTime;
 	
+	/**
+	 * Sheets reused by every transition of this link animation, indexed by keyframe count - 2 and {@link JointNames} index
+	 */
+	private final TransformSheet[][] linkSheets = { new TransformSheet[0], new TransformSheet[0] };
+	final BitSet linkJoints = new BitSet();
+	private boolean nextStartingPoseApplied;
+	
 	@Override
 	public void tick(LivingEntityPatch<?> entitypatch) {
 		this.toAnimation.linkTick(entitypatch, this);
@@ -58,19 +70,25 @@ public class LinkAnimation extends DynamicAnimation {
 	
 	@Override
 	public Pose getPoseByTime(LivingEntityPatch<?> entitypatch, float time, float partialTicks) {
-		Pose nextStartingPose = this.toAnimation.getPoseByTime(entitypatch, this.nextStartTime, 1.0F);
-		
 		/**
-		 * Update dest pose
+		 * Update dest pose, the starting pose of the next animation doesn't change during the transition
 		 */
-		for (Map.Entry<String, JointTransform> entry : nextStartingPose.getJointTransformData().entrySet()) {
-			if (this.animationClip.hasJointTransform(entry.getKey())) {
-				Keyframe[] keyframe = this.animationClip.getJointTransform(entry.getKey()).getKeyframes();
-				JointTransform jt = keyframe[keyframe.length - 1].transform();
-				JointTransform newJt = nextStartingPose.getJointTransformData().get(entry.getKey());
-				newJt.translation().set(jt.translation());
-				jt.copyFrom(newJt);
-			}
+		if (!this.nextStartingPoseApplied) {
+			Pose nextStartingPose = this.toAnimation.getPoseByTime(entitypatch, this.nextStartTime, 1.0F);
+			
+			nextStartingPose.forEach((jointName, newJt) -> {
+				if (this.animationClip.hasJointTransform(jointName)) {
+					Keyframe[] keyframe = this.animationClip.getJointTransform(jointName).getKeyframes();
+					JointTransform jt = keyframe[keyframe.length - 1].transform();
+					
+					if (jt != null) {
+						newJt.translation().set(jt.translation());
+						jt.replaceWith(newJt);
+					}
+				}
+			});
+			
+			this.nextStartingPoseApplied = true;
 		}
 		
 		return super.getPoseByTime(entitypatch, time, partialTicks);
@@ -103,6 +121,39 @@ public class LinkAnimation extends DynamicAnimation {
 	public void setConnectedAnimations(DynamicAnimation from, StaticAnimation to) {
 		this.fromAnimation = from.getRealAnimation();
 		this.toAnimation = to;
+		this.nextStartingPoseApplied = false;
+	}
+	
+	/**
+	 * Returns a sheet of this link animation's buffer, its keyframes are overwritten by the next transition
+	 */
+	TransformSheet getLinkSheet(int jointIndex, int keyframeCount) {
+		TransformSheet[] sheets = this.linkSheets[keyframeCount - 2];
+		
+		if (jointIndex >= sheets.length) {
+			sheets = Arrays.copyOf(sheets, Math.max(jointIndex + 1, JointNames.size()));
+			this.linkSheets[keyframeCount - 2] = sheets;
+		}
+		
+		if (sheets[jointIndex] == null) {
+			Keyframe[] keyframes = new Keyframe[keyframeCount];
+			
+			for (int i = 0; i < keyframeCount; i++) {
+				keyframes[i] = new Keyframe(0.0F, JointTransform.empty());
+			}
+			
+			sheets[jointIndex] = new TransformSheet(keyframes);
+		}
+		
+		return sheets[jointIndex];
+	}
+	
+	/**
+	 * Copies the transform into the buffered keyframe, replacing the entries left by the previous transition. A missing
+	 * transform is kept as a keyframe without transform, which is interpolated as the identity like before.
+	 */
+	static void setLinkKeyframe(TransformSheet sheet, int index, float time, @Nullable JointTransform transform) {
+		sheet.getKeyframes()[index].replaceWith(time, transform);
 	}
 	
 	public DynamicAnimation getNextAnimation() {
@@ -144,7 +195,18 @@ public class LinkAnimation extends DynamicAnimation {
 		
 		Map<String, TransformSheet> trnasforms = dest.getTransfroms();
 		trnasforms.clear();
-		trnasforms.putAll(this.getTransfroms());
+		
+		// Copied into dest's own buffer since this buffer is overwritten by the next transition
+		for (Map.Entry<String, TransformSheet> entry : this.getTransfroms().entrySet()) {
+			Keyframe[] keyframes = entry.getValue().getKeyframes();
+			TransformSheet sheet = dest.getLinkSheet(JointNames.indexOf(entry.getKey()), keyframes.length);
+			
+			for (int i = 0; i < keyframes.length; i++) {
+				setLinkKeyframe(sheet, i, keyframes[i].time(), keyframes[i].transform());
+			}
+			
+			trnasforms.put(entry.getKey(), sheet);
+		}
 	}
 	
 	public float getNextStartTime() {
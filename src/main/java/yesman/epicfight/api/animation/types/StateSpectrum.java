@@ -1,53 +1,178 @@
 package yesman.epicfight.api.animation.types;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
+import it.unimi.dsi.fastutil.floats.FloatAVLTreeSet;
+import it.unimi.dsi.fastutil.floats.FloatSortedSet;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import yesman.epicfight.api.animation.types.EntityState.StateFactor;
 import yesman.epicfight.api.utils.TypeFlexibleHashMap;
 import yesman.epicfight.world.capabilities.entitypatch.LivingEntityPatch;
 
+/**
+ * Entity states of an animation over time. The time pairs are compiled into intervals between their boundaries, and
+ * intervals holding only fixed states share one precomputed {@link EntityState}. Conditional and variable time pairs
+ * are resolved when queried.
+ */
 public class StateSpectrum {
-	private final Set<StatesInTime> timePairs = Sets.newHashSet();
+	private static final Interval EMPTY_INTERVAL = new Interval(new StatesInTime[0], false);
+	
+	private final List<StatesInTime> timePairs = Lists.newArrayList();
+	/** Replaced as a whole on reload since animations are queried by the server and client threads **/
+	private volatile Timeline timeline = new Timeline(new float[0], new Interval[] { EMPTY_INTERVAL });
 	
 	void readFrom(StateSpectrum.Blueprint blueprint) {
 		this.timePairs.clear();
 		this.timePairs.addAll(blueprint.timePairs);
+		this.compile();
 	}
 	
-	@SuppressWarnings("unchecked")
-	public <T> T getSingleState(StateFactor<T> stateFactor, LivingEntityPatch<?> entitypatch, float time) {
-		for (StatesInTime state : this.timePairs) {
-			if (state.isIn(entitypatch, time)) {
-				for (Map.Entry<StateFactor<?>, ?> timeEntry : state.getStates(entitypatch)) {
-					if (timeEntry.getKey() == stateFactor) {
-						return (T)timeEntry.getValue();
-					}
+	private void compile() {
+		FloatSortedSet boundarySet = new FloatAVLTreeSet();
+		List<StatesInTime> variablePairs = Lists.newArrayList();
+		
+		for (StatesInTime timePair : this.timePairs) {
+			if (timePair instanceof FixedStatesInTime fixedPair) {
+				boundarySet.add(fixedPair.getStart());
+				boundarySet.add(fixedPair.getEnd());
+			} else {
+				variablePairs.add(timePair);
+			}
+		}
+		
+		float[] boundaries = boundarySet.toFloatArray();
+		Interval[] intervals = new Interval[boundaries.length + 1];
+		
+		for (int i = 0; i < intervals.length; i++) {
+			List<StatesInTime> pairs = Lists.newArrayList();
+			boolean dynamic = !variablePairs.isEmpty();
+			
+			// Any time of the interval tells the pairs covering it since no boundary lies inside
+			float start = i == 0 ? Float.NEGATIVE_INFINITY : boundaries[i - 1];
+			
+			for (StatesInTime timePair : this.timePairs) {
+				if (!(timePair instanceof FixedStatesInTime fixedPair)) {
+					pairs.add(timePair);
+				} else if (fixedPair.getStart() <= start && fixedPair.getEnd() > start) {
+					pairs.add(timePair);
+					dynamic |= timePair instanceof ConditionalStatesInTime;
 				}
 			}
+			
+			intervals[i] = pairs.isEmpty() ? EMPTY_INTERVAL : new Interval(pairs.toArray(new StatesInTime[0]), dynamic);
 		}
 		
-		return stateFactor.defaultValue();
+		this.timeline = new Timeline(boundaries, intervals);
+	}
+	
+	/**
+	 * Returns the states at the given time. The state is shared when it doesn't depend on the entity, so copy it before modifying.
+	 */
+	public EntityState getState(LivingEntityPatch<?> entitypatch, float time) {
+		return this.timeline.getInterval(time).getState(entitypatch, time);
+	}
+	
+	public <T> T getSingleState(StateFactor<T> stateFactor, LivingEntityPatch<?> entitypatch, float time) {
+		return this.getState(entitypatch, time).getState(stateFactor);
 	}
 	
+	/**
+	 * Returns the state map at the given time, shared like {@link #getState(LivingEntityPatch, float)}
+	 */
 	public TypeFlexibleHashMap<StateFactor<?>> getStateMap(LivingEntityPatch<?> entitypatch, float time) {
+		return this.getState(entitypatch, time).stateMap;
+	}
+	
+	private static EntityState createState(StatesInTime[] pairs, @Nullable LivingEntityPatch<?> entitypatch, float time) {
 		TypeFlexibleHashMap<StateFactor<?>> stateMap = new TypeFlexibleHashMap<>(true);
 		
-		for (StatesInTime state : this.timePairs) {
-			if (state.isIn(entitypatch, time)) {
-				for (Map.Entry<StateFactor<?>, ?> timeEntry : state.getStates(entitypatch)) {
+		for (StatesInTime timePair : pairs) {
+			if (!(timePair instanceof VariableStatesInTime) || timePair.isIn(entitypatch, time)) {
+				for (Map.Entry<StateFactor<?>, ?> timeEntry : timePair.getStates(entitypatch)) {
 					stateMap.put(timeEntry.getKey(), timeEntry.getValue());
 				}
 			}
 		}
 		
-		return stateMap;
+		return new EntityState(stateMap);
+	}
+	
+	/**
+	 * Interval i covers [boundaries[i - 1], boundaries[i]), the first and last intervals are open-ended
+	 */
+	private record Timeline(float[] boundaries, Interval[] intervals) {
+		Interval getInterval(float time) {
+			int low = 0;
+			int high = this.boundaries.length;
+			
+			// Counts the boundaries less than or equal to the time
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				
+				if (this.boundaries[mid] <= time) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			
+			return this.intervals[low];
+		}
+	}
+	
+	private static class Interval {
+		/** Time pairs covering the interval in the order they were added, later pairs overwrite earlier ones **/
+		final StatesInTime[] pairs;
+		@Nullable
+		final EntityState fixedState;
+		/** States by the condition value, if the interval depends only on a single conditional pair **/
+		@Nullable
+		final Map<Integer, EntityState> conditionalStates;
+		@Nullable
+		final ConditionalStatesInTime conditionalPair;
+		
+		Interval(StatesInTime[] pairs, boolean dynamic) {
+			this.pairs = pairs;
+			this.fixedState = dynamic ? null : createState(pairs, null, 0.0F);
+			
+			ConditionalStatesInTime conditionalPair = null;
+			int dynamicPairs = 0;
+			
+			for (StatesInTime timePair : pairs) {
+				if (timePair instanceof ConditionalStatesInTime conditional) {
+					conditionalPair = conditional;
+					dynamicPairs++;
+				} else if (timePair instanceof VariableStatesInTime) {
+					dynamicPairs++;
+				}
+			}
+			
+			this.conditionalPair = dynamicPairs == 1 ? conditionalPair : null;
+			this.conditionalStates = this.conditionalPair == null ? null : new ConcurrentHashMap<> ();
+		}
+		
+		EntityState getState(LivingEntityPatch<?> entitypatch, float time) {
+			if (this.fixedState != null) {
+				return this.fixedState;
+			}
+			
+			if (this.conditionalPair != null) {
+				return this.conditionalStates.computeIfAbsent(this.conditionalPair.condition.apply(entitypatch), (condition) -> createState(this.pairs, entitypatch, time));
+			}
+			
+			return createState(this.pairs, entitypatch, time);
+		}
 	}
 	
 	abstract static class StatesInTime {
@@ -60,7 +185,16 @@ public class StateSpectrum {
 		public abstract boolean isIn(LivingEntityPatch<?> entitypatch, float time);
 	}
 	
-	static class SimpleStatesInTime extends StatesInTime {
+	/**
+	 * Time pairs whose start and end don't depend on the entity, so they can be compiled into the timeline
+	 */
+	abstract static class FixedStatesInTime extends StatesInTime {
+		public abstract float getStart();
+		
+		public abstract float getEnd();
+	}
+	
+	static class SimpleStatesInTime extends FixedStatesInTime {
 		float start;
 		float end;
 		Map<StateFactor<?>, Object> states = Maps.newHashMap();
@@ -70,6 +204,16 @@ public class StateSpectrum {
 			this.end = end;
 		}
 		
+		@Override
+		public float getStart() {
+			return this.start;
+		}
+		
+		@Override
+		public float getEnd() {
+			return this.end;
+		}
+		
 		@Override
 		public boolean isIn(LivingEntityPatch<?> entitypatch, float time) {
 			return this.start <= time && this.end > time;
@@ -101,7 +245,7 @@ public class StateSpectrum {
 		}
 	}
 	
-	static class ConditionalStatesInTime extends StatesInTime {
+	static class ConditionalStatesInTime extends FixedStatesInTime {
 		float start;
 		float end;
 		Int2ObjectMap<Map<StateFactor<?>, Object>> conditionalStates = new Int2ObjectOpenHashMap<>();
@@ -126,6 +270,16 @@ public class StateSpectrum {
 			return this.conditionalStates.get(this.condition.apply(entitypatch)).entrySet();
 		}
 		
+		@Override
+		public float getStart() {
+			return this.start;
+		}
+		
+		@Override
+		public float getEnd() {
+			return this.end;
+		}
+		
 		@Override
 		public boolean isIn(LivingEntityPatch<?> entitypatch, float time) {
 			return this.start <= time && this.end > time;
@@ -213,7 +367,7 @@ public class StateSpectrum {
 	
 	public static class Blueprint {
 		StatesInTime currentState;
-		Set<StatesInTime> timePairs = Sets.newHashSet();
+		Set<StatesInTime> timePairs = Sets.newLinkedHashSet();
 		
 		public Blueprint newTimePair(float start, float end) {
 			this.currentState = new SimpleStatesInTime(start, end);
@@ -1,10 +1,9 @@
 package yesman.epicfight.api.animation.types;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Function;
 
 import com.google.common.collect.Maps;
@@ -18,8 +17,8 @@ import yesman.epicfight.api.animation.AnimationClip;
 import yesman.epicfight.api.animation.AnimationManager;
 import yesman.epicfight.api.animation.AnimationPlayer;
 import yesman.epicfight.api.animation.AnimationProvider;
-import yesman.epicfight.api.animation.JointTransform;
-import yesman.epicfight.api.animation.Keyframe;
+import yesman.epicfight.api.animation.JointNames;
+import yesman.epicfight.api.animation.LivingMotion;
 import yesman.epicfight.api.animation.Pose;
 import yesman.epicfight.api.animation.TransformSheet;
 import yesman.epicfight.api.animation.property.AnimationEvent;
@@ -166,47 +165,62 @@ public class StaticAnimation extends DynamicAnimation implements AnimationProvid
 		dest.setTotalTime(totalTime);
 		dest.setConnectedAnimations(fromAnimation, this);
 		
-		Map<String, JointTransform> data1 = startPose.getJointTransformData();
-		Map<String, JointTransform> data2 = this.getPoseByTime(entitypatch, nextStartTime, 0.0F).getJointTransformData();
-		Set<String> joint1 = new HashSet<> (isOnSameLayer ? data1.keySet() : Set.of());
-		Set<String> joint2 = new HashSet<> (data2.keySet());
+		Pose nextPose = this.getPoseByTime(entitypatch, nextStartTime, 0.0F);
+		JointMaskEntry entry = null;
+		JointMaskEntry entry2 = null;
+		LivingMotion motion = null;
+		LivingMotion motion2 = null;
 		
 		if (entitypatch.isLogicalClient()) {
-			JointMaskEntry entry = fromAnimation.getJointMaskEntry(entitypatch, false).orElse(null);
-			JointMaskEntry entry2 = this.getJointMaskEntry(entitypatch, true).orElse(null);
+			entry = fromAnimation.getJointMaskEntry(entitypatch, false).orElse(null);
+			entry2 = this.getJointMaskEntry(entitypatch, true).orElse(null);
 			
 			if (entry != null) {
-				joint1.removeIf((jointName) -> entry.isMasked(fromAnimation.getProperty(ClientAnimationProperties.LAYER_TYPE).orElse(Layer.LayerType.BASE_LAYER) == Layer.LayerType.BASE_LAYER ?
-						entitypatch.getClientAnimator().currentMotion() : entitypatch.getClientAnimator().currentCompositeMotion(), jointName));
+				motion = fromAnimation.getProperty(ClientAnimationProperties.LAYER_TYPE).orElse(Layer.LayerType.BASE_LAYER) == Layer.LayerType.BASE_LAYER ?
+						entitypatch.getClientAnimator().currentMotion() : entitypatch.getClientAnimator().currentCompositeMotion();
 			}
 			
 			if (entry2 != null) {
-				joint2.removeIf((jointName) -> entry2.isMasked(this.getProperty(ClientAnimationProperties.LAYER_TYPE).orElse(Layer.LayerType.BASE_LAYER) == Layer.LayerType.BASE_LAYER ?
-						entitypatch.getCurrentLivingMotion() : entitypatch.currentCompositeMotion, jointName));
+				motion2 = this.getProperty(ClientAnimationProperties.LAYER_TYPE).orElse(Layer.LayerType.BASE_LAYER) == Layer.LayerType.BASE_LAYER ?
+						entitypatch.getCurrentLivingMotion() : entitypatch.currentCompositeMotion;
 			}
 		}
 		
-		joint1.addAll(joint2);
+		// Joints of both poses that aren't masked, collected in the link animation's buffer
+		BitSet linkJoints = dest.linkJoints;
+		linkJoints.clear();
 		
-		if (linkTime != totalTime) {
-			Map<String, JointTransform> firstPose = this.getPoseByTime(entitypatch, 0.0F, 0.0F).getJointTransformData();
-			
-			for (String jointName : joint1) {
-				Keyframe[] keyframes = new Keyframe[3];
-				keyframes[0] = new Keyframe(0.0F, data1.get(jointName));
-				keyframes[1] = new Keyframe(linkTime, firstPose.get(jointName));
-				keyframes[2] = new Keyframe(totalTime, data2.get(jointName));
-				TransformSheet sheet = new TransformSheet(keyframes);
-				dest.getAnimationClip().addJointTransform(jointName, sheet);
+		if (isOnSameLayer) {
+			for (int i = 0; i < startPose.capacity(); i++) {
+				if (startPose.hasTransform(i) && (entry == null || !entry.isMasked(motion, JointNames.nameOf(i)))) {
+					linkJoints.set(i);
+				}
 			}
-		} else {
-			for (String jointName : joint1) {
-				Keyframe[] keyframes = new Keyframe[2];
-				keyframes[0] = new Keyframe(0.0F, data1.get(jointName));
-				keyframes[1] = new Keyframe(totalTime, data2.get(jointName));
-				TransformSheet sheet = new TransformSheet(keyframes);
-				dest.getAnimationClip().addJointTransform(jointName, sheet);
+		}
+		
+		for (int i = 0; i < nextPose.capacity(); i++) {
+			if (nextPose.hasTransform(i) && (entry2 == null || !entry2.isMasked(motion2, JointNames.nameOf(i)))) {
+				linkJoints.set(i);
+			}
+		}
+		
+		Pose firstPose = linkTime != totalTime ? this.getPoseByTime(entitypatch, 0.0F, 0.0F) : null;
+		
+		for (int i = linkJoints.nextSetBit(0); i >= 0; i = linkJoints.nextSetBit(i + 1)) {
+			TransformSheet sheet;
+			
+			if (firstPose != null) {
+				sheet = dest.getLinkSheet(i, 3);
+				LinkAnimation.setLinkKeyframe(sheet, 0, 0.0F, startPose.get(i));
+				LinkAnimation.setLinkKeyframe(sheet, 1, linkTime, firstPose.get(i));
+				LinkAnimation.setLinkKeyframe(sheet, 2, totalTime, nextPose.get(i));
+			} else {
+				sheet = dest.getLinkSheet(i, 2);
+				LinkAnimation.setLinkKeyframe(sheet, 0, 0.0F, startPose.get(i));
+				LinkAnimation.setLinkKeyframe(sheet, 1, totalTime, nextPose.get(i));
 			}
+			
+			dest.getAnimationClip().addJointTransform(JointNames.nameOf(i), sheet);
 		}
 	}
 	
@@ -302,8 +316,12 @@ public class StaticAnimation extends DynamicAnimation implements AnimationProvid
 		});
 	}
 	
+	/**
+	 * Returns the state shared by the animation's time interval, subclasses modifying the states must override this
+	 * together with {@link #getStatesMap(LivingEntityPatch, DynamicAnimation, float)} and modify copies.
+	 */
 	protected EntityState getState(LivingEntityPatch<?> entitypatch, DynamicAnimation animation, float time) {
-		return new EntityState(this.getStatesMap(entitypatch, time));
+		return this.stateSpectrum.getState(entitypatch, time);
 	}
 	
 	protected TypeFlexibleHashMap<StateFactor<?>> getStatesMap(LivingEntityPatch<?> entitypatch, DynamicAnimation animation, float time) {
@@ -314,6 +332,13 @@ public class StaticAnimation extends DynamicAnimation implements AnimationProvid
 		return this.stateSpectrum.getSingleState(stateFactor, entitypatch, time);
 	}
 	
+	protected static TypeFlexibleHashMap<StateFactor<?>> copyStateMap(TypeFlexibleHashMap<StateFactor<?>> stateMap) {
+		TypeFlexibleHashMap<StateFactor<?>> copy = new TypeFlexibleHashMap<>(false);
+		copy.putAll(stateMap);
+		
+		return copy;
+	}
+	
 	@Override
 	public final EntityState getState(LivingEntityPatch<?> entitypatch, float time) {
 		return this.getState(entitypatch, this, time);
@@ -71,7 +71,7 @@ public class EnderDragonAttackAnimation extends AttackAnimation implements Proce
 	    	float yo = (float)entitypatch.getOriginal().yo;
 	    	float zo = (float)entitypatch.getOriginal().zo;
 	    	OpenMatrix4f toModelPos = OpenMatrix4f.mul(OpenMatrix4f.translate(new Vec3f(xo + (x - xo) * partialTicks, yo + (y - yo) * partialTicks, zo + (z - zo) * partialTicks), new OpenMatrix4f(), null), entitypatch.getModelMatrix(partialTicks), null).invert();
-	    	this.correctRootRotation(pose.getJointTransformData().get("Root"), enderdragonpatch, partialTicks);
+	    	this.correctRootRotation(pose.get("Root"), enderdragonpatch, partialTicks);
 	    	
 	    	for (IKInfo ikInfo : this.ikInfos) {
 		    	TipPointAnimation tipAnim = enderdragonpatch.getTipPointAnimation(ikInfo.endJoint.getName());
@@ -84,6 +84,12 @@ public class EnderDragonAttackAnimation extends AttackAnimation implements Proce
 		return pose;
 	}
 	
+	@Override
+	public Pose getColliderPose(LivingEntityPatch<?> entitypatch, float time, float partialTicks) {
+		// Leg IK reads the whole chain of every leg
+		return this.getPoseByTime(entitypatch, time, partialTicks);
+	}
+	
 	@Override
 	public void begin(LivingEntityPatch<?> entitypatch) {
 		// Load if null
@@ -24,14 +24,9 @@ public interface ProceduralAnimation {
 	default void setIKInfo(IKInfo[] ikInfos, Map<String, TransformSheet> src, Map<String, TransformSheet> dest, Armature armature, boolean correctY, boolean correctZ) {
 		for (IKInfo ikInfo : ikInfos) {
 			ikInfo.pathToEndJoint = Lists.newArrayList();
-			Joint start = armature.searchJointByName(ikInfo.startJoint.getName());
-			int pathToEnd = Integer.parseInt(start.searchPath("", ikInfo.endJoint.getName()));
-			ikInfo.pathToEndJoint.add(start.getName());
 			
-			while (pathToEnd > 0) {
-				start = start.getSubJoints().get(pathToEnd % 10 - 1);
-				pathToEnd /= 10;
-				ikInfo.pathToEndJoint.add(start.getName());
+			for (Joint joint : armature.getJointPath(ikInfo.startJoint, ikInfo.endJoint)) {
+				ikInfo.pathToEndJoint.add(joint.getName());
 			}
 			
 			Keyframe[] keyframes = src.get(ikInfo.endJoint.getName()).getKeyframes();
@@ -0,0 +1,143 @@
+package yesman.epicfight.api.client.animation;
+
+import java.util.Arrays;
+
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import yesman.epicfight.config.EpicFightOptions;
+import yesman.epicfight.main.EpicFightMod;
+import yesman.epicfight.world.capabilities.entitypatch.LivingEntityPatch;
+
+/**
+ * Animation level of detail of client animators. The level is selected every tick by the distance to the camera
+ * measured when the entity was last rendered. An entity that hasn't been rendered for a few ticks is out of the
+ * frustum or the render distance, and its animator is frozen until it's rendered again. Animators of entities drawn
+ * by a renderer that never reports rendering are kept at full detail.
+ */
+@OnlyIn(Dist.CLIENT)
+public enum AnimationLOD {
+	/** Updated every tick with every layer and bind modifier */
+	FULL(false, false),
+	/** Bind modifiers are skipped */
+	REDUCED(false, true),
+	/** Updated every few ticks, posed from the base layer at the end of the tick */
+	LOW(true, true),
+	/** Not updated until rendered again */
+	FROZEN(true, true);
+	
+	/**
+	 * Ticks an animator catches up at once after skipping ticks, the server resends animations that ended meanwhile
+	 */
+	public static final int MAX_CATCH_UP_TICKS = 20;
+	
+	/**
+	 * Ticks without rendering before an animator freezes, so a few slow frames don't freeze visible entities
+	 */
+	public static final int FREEZE_TICKS = 4;
+	
+	private static final int[] ANIMATORS = new int[values().length];
+	private static final int[] LAST_ANIMATORS = new int[values().length];
+	private static final int[] POSES = new int[values().length];
+	private static final int[] LAST_POSES = new int[values().length];
+	private static int updates;
+	private static int lastUpdates;
+	private static long countingTick = Long.MIN_VALUE;
+	
+	private final boolean baseLayerOnly;
+	private final boolean skipBindModifier;
+	
+	AnimationLOD(boolean baseLayerOnly, boolean skipBindModifier) {
+		this.baseLayerOnly = baseLayerOnly;
+		this.skipBindModifier = skipBindModifier;
+	}
+	
+	/**
+	 * Composite layers keep updating but aren't posed. The pose is taken at the end of the tick so it's composed
+	 * once per update instead of every frame.
+	 */
+	public boolean isBaseLayerOnly() {
+		return this.baseLayerOnly;
+	}
+	
+	public boolean skipsBindModifier() {
+		return this.skipBindModifier;
+	}
+	
+	public int getUpdateInterval() {
+		return switch (this) {
+			case LOW -> EpicFightMod.CLIENT_CONFIGS.animationLODLowInterval.getValue();
+			case FROZEN -> Integer.MAX_VALUE;
+			default -> 1;
+		};
+	}
+	
+	/**
+	 * @param rendered whether the entity has ever been reported rendered, an entity that hasn't can't be told apart
+	 *                 from one drawn outside the patched renderers, so it's never frozen
+	 */
+	public static AnimationLOD select(LivingEntityPatch<?> entitypatch, boolean rendered, int ticksSinceRendered, double distanceSqr) {
+		EpicFightOptions options = EpicFightMod.CLIENT_CONFIGS;
+		Minecraft minecraft = Minecraft.getInstance();
+		
+		// The local player moves by its own animations
+		if (!rendered || !options.animationLOD.getValue() || entitypatch.getOriginal() == minecraft.player || entitypatch.getOriginal() == minecraft.getCameraEntity()) {
+			return FULL;
+		}
+		
+		if (ticksSinceRendered > FREEZE_TICKS) {
+			return FROZEN;
+		}
+		
+		double lowDistance = options.animationLODLowDistance.getValue();
+		
+		if (distanceSqr > lowDistance * lowDistance) {
+			return LOW;
+		}
+		
+		double reducedDistance = options.animationLODReducedDistance.getValue();
+		
+		return distanceSqr > reducedDistance * reducedDistance ? REDUCED : FULL;
+	}
+	
+	static void countAnimator(AnimationLOD lod, boolean updated, long gameTime) {
+		rollOver(gameTime);
+		ANIMATORS[lod.ordinal()]++;
+		
+		if (updated) {
+			updates++;
+		}
+	}
+	
+	static void countPose(AnimationLOD lod) {
+		POSES[lod.ordinal()]++;
+	}
+	
+	/**
+	 * Moves the counts of the finished tick to the report, animators are all ticked on the client thread
+	 */
+	private static void rollOver(long gameTime) {
+		if (countingTick != gameTime) {
+			System.arraycopy(ANIMATORS, 0, LAST_ANIMATORS, 0, ANIMATORS.length);
+			System.arraycopy(POSES, 0, LAST_POSES, 0, POSES.length);
+			Arrays.fill(ANIMATORS, 0);
+			Arrays.fill(POSES, 0);
+			lastUpdates = updates;
+			updates = 0;
+			countingTick = gameTime;
+		}
+	}
+	
+	/**
+	 * Animators per level, updated animators and poses composed per level in the last tick
+	 */
+	public static String getReport() {
+		StringBuilder sb = new StringBuilder("Animation LOD: ");
+		
+		for (AnimationLOD lod : values()) {
+			sb.append(lod.name().toLowerCase()).append(' ').append(LAST_ANIMATORS[lod.ordinal()]).append('/').append(LAST_POSES[lod.ordinal()]).append(' ');
+		}
+		
+		return sb.append("updated ").append(lastUpdates).toString();
+	}
+}
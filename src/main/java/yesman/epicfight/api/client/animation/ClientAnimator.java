@@ -1,5 +1,6 @@
 package yesman.epicfight.api.client.animation;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -29,7 +30,9 @@ import yesman.epicfight.api.client.animation.property.ClientAnimationProperties;
 import yesman.epicfight.api.client.animation.property.JointMask.BindModifier;
 import yesman.epicfight.api.client.animation.property.JointMask.JointMaskSet;
 import yesman.epicfight.api.client.animation.property.JointMaskEntry;
+import yesman.epicfight.api.model.Armature;
 import yesman.epicfight.api.utils.TypeFlexibleHashMap;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
 import yesman.epicfight.gameasset.Animations;
 import yesman.epicfight.world.capabilities.entitypatch.LivingEntityPatch;
 
@@ -46,6 +49,20 @@ public class ClientAnimator extends Animator {
 	private LivingMotion currentMotion;
 	private LivingMotion currentCompositeMotion;
 	
+	/**
+	 * Composed poses reused by the renderer, first person renderer and trails within a frame. The renderer, the trails
+	 * (0.0, 0.5 and 1.0) and link animations (0.0 without current motion) query at most five keys per tick.
+	 */
+	private final CachedPose[] poseCache = new CachedPose[6];
+	private int poseCacheCursor;
+	private int tickCount;
+	
+	private AnimationLOD lod = AnimationLOD.FULL;
+	private boolean rendered;
+	private int ticksSinceRendered;
+	private double renderDistanceSqr;
+	private int skippedTicks;
+	
 	public ClientAnimator(LivingEntityPatch<?> entitypatch) {
 		this(entitypatch, Layer.BaseLayer::new);
 	}
@@ -153,7 +170,20 @@ public class ClientAnimator extends Animator {
 		}
 		System.out.println();
 		**/
-		this.baseLayer.update(this.entitypatch);
+		this.lod = AnimationLOD.select(this.entitypatch, this.rendered, this.ticksSinceRendered++, this.renderDistanceSqr);
+		this.skippedTicks++;
+		
+		if (this.skippedTicks < this.lod.getUpdateInterval()) {
+			AnimationLOD.countAnimator(this.lod, false, this.entitypatch.getOriginal().level().getGameTime());
+			return;
+		}
+		
+		float ticks = Math.min(this.skippedTicks, AnimationLOD.MAX_CATCH_UP_TICKS);
+		this.skippedTicks = 0;
+		AnimationLOD.countAnimator(this.lod, true, this.entitypatch.getOriginal().level().getGameTime());
+		
+		this.tickCount++;
+		this.baseLayer.update(this.entitypatch, ticks);
 		
 		if (this.baseLayer.animationPlayer.isEnd() && this.baseLayer.nextAnimation == null && this.currentMotion != LivingMotions.DEATH) {
 			this.entitypatch.updateMotion(false);
@@ -204,6 +234,19 @@ public class ClientAnimator extends Animator {
 		}
 	}
 	
+	/**
+	 * Called by the renderer every frame the entity is rendered, which means it's inside the frustum
+	 */
+	public void markRendered(double distanceSqr) {
+		this.rendered = true;
+		this.ticksSinceRendered = 0;
+		this.renderDistanceSqr = distanceSqr;
+	}
+	
+	public AnimationLOD getLOD() {
+		return this.lod;
+	}
+	
 	public StaticAnimation getJumpAnimation() {
 		return this.livingAnimations.get(LivingMotions.JUMP);
 	}
@@ -225,12 +268,77 @@ public class ClientAnimator extends Animator {
 		return this.getPose(partialTicks, true);
 	}
 	
+	/**
+	 * Returns the composed pose of all layers. The pose is cached until the animator ticks or a layer changes its
+	 * animation or elapsed time, so it's shared by every caller in the frame and must not be modified.
+	 */
 	public Pose getPose(float partialTicks, boolean useCurrentMotion) {
+		return this.getCachedPose(partialTicks, useCurrentMotion).pose;
+	}
+	
+	/**
+	 * Returns the joint matrices of the cached pose without the origin transform. The array is shared like the pose.
+	 */
+	public OpenMatrix4f[] getPoseMatrices(float partialTicks) {
+		CachedPose cachedPose = this.getCachedPose(partialTicks, true);
+		Armature armature = this.entitypatch.getArmature();
+		OpenMatrix4f[] jointMatrices = cachedPose.getJointMatrices(armature);
+		
+		if (!cachedPose.allJointsBound) {
+			armature.getPoseAsTransformMatrix(cachedPose.pose, false, jointMatrices, this.transformScratch);
+			Arrays.fill(cachedPose.boundJoints, true);
+			cachedPose.allJointsBound = true;
+		}
+		
+		return jointMatrices;
+	}
+	
+	/**
+	 * Returns a copy of the joint's matrix in the cached pose, binding only the joints on its way from the root
+	 */
+	public OpenMatrix4f getBindedTransformFor(float partialTicks, Joint joint) {
+		CachedPose cachedPose = this.getCachedPose(partialTicks, true);
+		Armature armature = this.entitypatch.getArmature();
+		
+		return new OpenMatrix4f(armature.bindJointPath(cachedPose.pose, joint, cachedPose.getJointMatrices(armature), cachedPose.boundJoints, this.transformScratch));
+	}
+	
+	private CachedPose getCachedPose(float partialTicks, boolean useCurrentMotion) {
+		if (this.lod.isBaseLayerOnly()) {
+			partialTicks = 1.0F;
+		}
+		
+		for (CachedPose cachedPose : this.poseCache) {
+			if (cachedPose != null && cachedPose.matches(this, partialTicks, useCurrentMotion)) {
+				return cachedPose;
+			}
+		}
+		
+		Pose pose = this.composePose(partialTicks, useCurrentMotion);
+		AnimationLOD.countPose(this.lod);
+		CachedPose cachedPose = this.poseCache[this.poseCacheCursor];
+		
+		if (cachedPose == null) {
+			cachedPose = new CachedPose();
+			this.poseCache[this.poseCacheCursor] = cachedPose;
+		}
+		
+		cachedPose.set(this, partialTicks, useCurrentMotion, pose);
+		this.poseCacheCursor = (this.poseCacheCursor + 1) % this.poseCache.length;
+		
+		return cachedPose;
+	}
+	
+	private Pose composePose(float partialTicks, boolean useCurrentMotion) {
 		Pose composedPose = new Pose();
 		Pose baseLayerPose = this.baseLayer.getEnabledPose(this.entitypatch, useCurrentMotion, partialTicks);
+		composedPose.putJointData(baseLayerPose);
+		
+		if (this.lod.isBaseLayerOnly()) {
+			return composedPose;
+		}
 		
 		Map<Layer.Priority, Pair<DynamicAnimation, Pose>> layerPoses = Maps.newLinkedHashMap();
-		composedPose.putJointData(baseLayerPose);
 		
 		for (Layer.Priority priority : this.baseLayer.baseLayerPriority.uppers()) {
 			Layer compositeLayer = this.baseLayer.compositeLayers.get(priority);
@@ -246,15 +354,18 @@ public class ClientAnimator extends Animator {
 			}
 		}
 		
-		Joint rootJoint = this.entitypatch.getArmature().getRootJoint();
-		this.applyBindModifier(baseLayerPose, composedPose, rootJoint, layerPoses, useCurrentMotion);
+		if (!layerPoses.isEmpty() && !this.lod.skipsBindModifier()) {
+			Joint rootJoint = this.entitypatch.getArmature().getRootJoint();
+			this.applyBindModifier(baseLayerPose, composedPose, rootJoint, layerPoses, useCurrentMotion);
+		}
 		
 		return composedPose;
 	}
 	
 	public Pose getComposedLayerPoseBelow(Layer.Priority priorityLimit, float partialTicks) {
-		Pose composedPose = this.baseLayer.getEnabledPose(this.entitypatch, true, partialTicks);
+		Pose composedPose = new Pose();
 		Pose baseLayerPose = this.baseLayer.getEnabledPose(this.entitypatch, true, partialTicks);
+		composedPose.putJointData(baseLayerPose);
 		Map<Layer.Priority, Pair<DynamicAnimation, Pose>> layerPoses = Maps.newLinkedHashMap();
 		
 		for (Layer.Priority priority : priorityLimit.lowers()) {
@@ -416,4 +527,117 @@ public class ClientAnimator extends Animator {
 		
 		return new EntityState(stateMap);
 	}
+	
+	/**
+	 * A composed pose with the layer states it was composed from
+	 */
+	private static class CachedPose {
+		private Pose pose;
+		private float partialTicks;
+		private boolean useCurrentMotion;
+		private int tickCount;
+		private AnimationLOD lod;
+		private LivingMotion currentMotion;
+		private LivingMotion currentCompositeMotion;
+		private LivingMotion livingMotion;
+		private LivingMotion compositeMotion;
+		private Layer.Priority baseLayerPriority;
+		private DynamicAnimation[] animations = new DynamicAnimation[0];
+		private float[] elapsedTimes = new float[0];
+		private boolean[] disabled = new boolean[0];
+		
+		private Armature armature;
+		private OpenMatrix4f[] jointMatrices;
+		private boolean[] boundJoints;
+		private boolean allJointsBound;
+		
+		private void set(ClientAnimator animator, float partialTicks, boolean useCurrentMotion, Pose pose) {
+			int layerCount = animator.baseLayer.compositeLayers.size() + 1;
+			
+			if (this.animations.length != layerCount) {
+				this.animations = new DynamicAnimation[layerCount];
+				this.elapsedTimes = new float[layerCount * 2];
+				this.disabled = new boolean[layerCount];
+			}
+			
+			this.pose = pose;
+			this.partialTicks = partialTicks;
+			this.useCurrentMotion = useCurrentMotion;
+			this.tickCount = animator.tickCount;
+			this.lod = animator.lod;
+			this.currentMotion = animator.currentMotion;
+			this.currentCompositeMotion = animator.currentCompositeMotion;
+			this.livingMotion = animator.entitypatch.currentLivingMotion;
+			this.compositeMotion = animator.entitypatch.currentCompositeMotion;
+			this.baseLayerPriority = animator.baseLayer.baseLayerPriority;
+			this.setLayer(0, animator.baseLayer);
+			int i = 1;
+			
+			for (Layer layer : animator.baseLayer.compositeLayers.values()) {
+				this.setLayer(i++, layer);
+			}
+			
+			if (this.boundJoints != null) {
+				Arrays.fill(this.boundJoints, false);
+			}
+			
+			this.allJointsBound = false;
+		}
+		
+		private void setLayer(int index, Layer layer) {
+			this.animations[index] = layer.animationPlayer.getAnimation();
+			this.elapsedTimes[index * 2] = layer.animationPlayer.getPrevElapsedTime();
+			this.elapsedTimes[index * 2 + 1] = layer.animationPlayer.getElapsedTime();
+			this.disabled[index] = layer.disabled;
+		}
+		
+		private boolean matches(ClientAnimator animator, float partialTicks, boolean useCurrentMotion) {
+			if (this.partialTicks != partialTicks || this.useCurrentMotion != useCurrentMotion || this.tickCount != animator.tickCount || this.lod != animator.lod ||
+				this.currentMotion != animator.currentMotion || this.currentCompositeMotion != animator.currentCompositeMotion ||
+				this.livingMotion != animator.entitypatch.currentLivingMotion || this.compositeMotion != animator.entitypatch.currentCompositeMotion ||
+				this.baseLayerPriority != animator.baseLayer.baseLayerPriority || this.animations.length != animator.baseLayer.compositeLayers.size() + 1) {
+				return false;
+			}
+			
+			if (!this.matchesLayer(0, animator.baseLayer)) {
+				return false;
+			}
+			
+			int i = 1;
+			
+			for (Layer layer : animator.baseLayer.compositeLayers.values()) {
+				if (!this.matchesLayer(i++, layer)) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+		
+		private boolean matchesLayer(int index, Layer layer) {
+			return this.animations[index] == layer.animationPlayer.getAnimation() && this.elapsedTimes[index * 2] == layer.animationPlayer.getPrevElapsedTime() &&
+					this.elapsedTimes[index * 2 + 1] == layer.animationPlayer.getElapsedTime() && this.disabled[index] == layer.disabled;
+		}
+		
+		private OpenMatrix4f[] getJointMatrices(Armature armature) {
+			if (this.armature != armature) {
+				int jointNumber = armature.getJointNumber();
+				
+				if (this.jointMatrices == null || this.jointMatrices.length != jointNumber) {
+					this.jointMatrices = new OpenMatrix4f[jointNumber];
+					this.boundJoints = new boolean[jointNumber];
+					
+					for (int i = 0; i < jointNumber; i++) {
+						this.jointMatrices[i] = new OpenMatrix4f();
+					}
+				}
+				
+				Arrays.fill(this.boundJoints, false);
+				this.allJointsBound = false;
+				this.armature = armature;
+			}
+			
+			return this.jointMatrices;
+		}
+	}
 }
\ No newline at end of file
@@ -96,10 +96,17 @@ public class Layer {
 	}
 	
 	public void update(LivingEntityPatch<?> entitypatch) {
+		this.update(entitypatch, 1.0F);
+	}
+	
+	/**
+	 * Updates the layer by the given number of ticks at once, see {@link AnimationLOD}
+	 */
+	public void update(LivingEntityPatch<?> entitypatch, float ticks) {
 		if (this.paused) {
 			this.animationPlayer.setElapsedTime(this.animationPlayer.getElapsedTime());
 		} else {
-			this.animationPlayer.tick(entitypatch);
+			this.animationPlayer.tick(entitypatch, ticks);
 		}
 		
 		if (this.isBaseLayer()) {
@@ -244,11 +251,11 @@ public class Layer {
 		}
 		
 		@Override
-		public void update(LivingEntityPatch<?> entitypatch) {
-			super.update(entitypatch);
+		public void update(LivingEntityPatch<?> entitypatch, float ticks) {
+			super.update(entitypatch, ticks);
 			
 			for (Layer layer : this.compositeLayers.values()) {
-				layer.update(entitypatch);
+				layer.update(entitypatch, ticks);
 			}
 		}
 		
@@ -28,9 +28,9 @@ public class JointMask {
 	
 	public static final BindModifier KEEP_CHILD_LOCROT = (entitypatch, baseLayerPose, result, livingMotion, wholeEntry, priority, joint, poses) -> {
 		Pose currentPose = poses.get(priority).getSecond();
-		JointTransform lowestTransform = baseLayerPose.getOrDefaultTransform(joint.getName());
-		JointTransform currentTransform = currentPose.getOrDefaultTransform(joint.getName());
-		result.getJointTransformData().getOrDefault(joint.getName(), JointTransform.empty()).translation().y = lowestTransform.translation().y;
+		JointTransform lowestTransform = baseLayerPose.getOrDefaultTransform(joint);
+		JointTransform currentTransform = currentPose.getOrDefaultTransform(joint);
+		result.getOrDefaultTransform(joint).translation().y = lowestTransform.translation().y;
 		
 		OpenMatrix4f lowestMatrix = lowestTransform.toMatrix();
 		OpenMatrix4f currentMatrix = currentTransform.toMatrix();
@@ -40,11 +40,11 @@ public class JointMask {
 			if (wholeEntry.isMasked(livingMotion, subJoint.getName())) {
 				OpenMatrix4f lowestLocalTransform = OpenMatrix4f.mul(joint.getLocalTrasnform(), lowestMatrix, null);
 				OpenMatrix4f currentLocalTransform = OpenMatrix4f.mul(joint.getLocalTrasnform(), currentMatrix, null);
-				OpenMatrix4f childTransform = OpenMatrix4f.mul(subJoint.getLocalTrasnform(), result.getOrDefaultTransform(subJoint.getName()).toMatrix(), null);
+				OpenMatrix4f childTransform = OpenMatrix4f.mul(subJoint.getLocalTrasnform(), result.getOrDefaultTransform(subJoint).toMatrix(), null);
 				OpenMatrix4f lowestFinal = OpenMatrix4f.mul(lowestLocalTransform, childTransform, null);
 				OpenMatrix4f currentFinal = OpenMatrix4f.mul(currentLocalTransform, childTransform, null);
 				Vec3f vec = new Vec3f((currentFinal.m30 - lowestFinal.m30) * 0.5F, currentFinal.m31 - lowestFinal.m31, currentFinal.m32 - lowestFinal.m32);
-				JointTransform jt = result.getJointTransformData().getOrDefault(subJoint.getName(), JointTransform.empty());
+				JointTransform jt = result.getOrDefaultTransform(subJoint);
 				jt.parent(JointTransform.getTranslation(vec), OpenMatrix4f::mul);
 				jt.jointLocal(JointTransform.fromMatrixNoScale(currentToLowest), OpenMatrix4f::mul);
 			}
@@ -0,0 +1,34 @@
+package yesman.epicfight.api.client.model;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Vertex arrays of an animated mesh before it's uploaded, and the indices of each part
+ */
+@OnlyIn(Dist.CLIENT)
+public record AnimatedMeshData(float[] positions, float[] normals, float[] uvs, float[] weights, int[] affectJointCounts, int[] animationIndices, Map<MeshPartDefinition, int[]> partIndices) {
+	/**
+	 * Creates the mesh and its vertex buffers, must be called on the render thread
+	 */
+	public AnimatedMesh createMesh() {
+		Map<String, float[]> arrayMap = Maps.newHashMap();
+		Map<MeshPartDefinition, List<AnimatedVertexBuilder>> meshMap = Maps.newHashMap();
+		
+		arrayMap.put("positions", this.positions);
+		arrayMap.put("normals", this.normals);
+		arrayMap.put("uvs", this.uvs);
+		arrayMap.put("weights", this.weights);
+		
+		for (Map.Entry<MeshPartDefinition, int[]> e : this.partIndices.entrySet()) {
+			meshMap.put(e.getKey(), VertexBuilder.createAnimated(e.getValue(), this.affectJointCounts, this.animationIndices));
+		}
+		
+		return new AnimatedMesh(arrayMap, meshMap, null, Mesh.RenderProperties.create());
+	}
+}
\ No newline at end of file
@@ -21,6 +21,7 @@ import net.minecraftforge.fml.ModLoader;
 import yesman.epicfight.api.client.model.AnimatedMesh.AnimatedModelPart;
 import yesman.epicfight.api.client.model.Mesh.RenderProperties;
 import yesman.epicfight.api.client.model.RawMesh.RawModelPart;
+import yesman.epicfight.api.client.model.transformer.CustomModelBakery;
 import yesman.epicfight.api.forgeevent.ModelBuildEvent;
 import yesman.epicfight.api.model.JsonModelLoader;
 import yesman.epicfight.client.mesh.CreeperMesh;
@@ -83,6 +84,7 @@ public class Meshes implements PreparableReloadListener {
 		MESHES.values().stream().filter((mesh) -> mesh instanceof AnimatedMesh).map((mesh) -> (AnimatedMesh)mesh).forEach(AnimatedMesh::destroy);
 		MESHES.clear();
 		WearableItemLayer.clearModels();
+		CustomModelBakery.cancelBaking();
 		
 		ModelBuildEvent.MeshBuild event = new ModelBuildEvent.MeshBuild(resourceManager, MESHES);
 		
@@ -77,6 +77,13 @@ public class SingleGroupVertexBuilder {
 	}
 	
 	public static AnimatedMesh loadVertexInformation(List<SingleGroupVertexBuilder> vertices, Map<MeshPartDefinition, IntList> indices) {
+		return loadVertexData(vertices, indices).createMesh();
+	}
+	
+	/**
+	 * Builds the vertex arrays of a mesh without creating it, so it can be called off the render thread
+	 */
+	public static AnimatedMeshData loadVertexData(List<SingleGroupVertexBuilder> vertices, Map<MeshPartDefinition, IntList> indices) {
 		FloatList positions = new FloatArrayList();
 		FloatList normals = new FloatArrayList();
 		FloatList texCoords = new FloatArrayList();
@@ -131,19 +138,13 @@ public class SingleGroupVertexBuilder {
 		int[] animationIndexList = animationIndices.toIntArray();
 		float[] jointWeightList = jointWeights.toFloatArray();
 		int[] affectJointCounts = affectCountList.toIntArray();
-		Map<String, float[]> arrayMap = Maps.newHashMap();
-		Map<MeshPartDefinition, List<AnimatedVertexBuilder>> meshMap = Maps.newHashMap();
-		
-		arrayMap.put("positions", positionList);
-		arrayMap.put("normals", normalList);
-		arrayMap.put("uvs", texCoordList);
-		arrayMap.put("weights", jointWeightList);
+		Map<MeshPartDefinition, int[]> partIndices = Maps.newHashMap();
 		
 		for (Map.Entry<MeshPartDefinition, IntList> e : indices.entrySet()) {
-			meshMap.put(e.getKey(), VertexBuilder.createAnimated(e.getValue().toIntArray(), affectJointCounts, animationIndexList));
+			partIndices.put(e.getKey(), e.getValue().toIntArray());
 		}
 		
-		return new AnimatedMesh(arrayMap, meshMap, null, Mesh.RenderProperties.create());
+		return new AnimatedMeshData(positionList, normalList, texCoordList, jointWeightList, affectJointCounts, animationIndexList, partIndices);
 	}
 	
 	public enum State {
@@ -0,0 +1,246 @@
+package yesman.epicfight.api.client.model.transformer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.model.geom.ModelPart;
+import net.minecraft.client.model.geom.PartPose;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.ModList;
+import yesman.epicfight.api.client.model.AnimatedMeshData;
+import yesman.epicfight.api.client.model.MeshPartDefinition;
+import yesman.epicfight.api.client.model.transformer.VanillaModelTransformer.VanillaMeshPartDefinition;
+import yesman.epicfight.api.client.model.transformer.VanillaModelTransformer.VanillaModelPartition;
+import yesman.epicfight.api.utils.math.OpenMatrix4f;
+import yesman.epicfight.main.EpicFightMod;
+
+/**
+ * Stores the vertex data of armor models baked by {@link VanillaModelTransformer} in the game directory, so later
+ * sessions load them instead of baking. A file is named by the hash of the model parts it was baked from, under the
+ * directory of the item. The hash includes the mod version and {@link #VERSION}, so changes of the baking are never
+ * loaded from old files.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ArmorModelCache {
+	private static final int VERSION = 1;
+	
+	/**
+	 * Loads the baked armor model from the cache or bakes and caches it, called off the render thread
+	 */
+	static AnimatedMeshData loadOrBake(ResourceLocation itemName, List<VanillaModelPartition> partitions) {
+		Path directory = getCacheDirectory().resolve(itemName.getNamespace()).resolve(itemName.getPath());
+		Path cacheFile = directory.resolve(hash(partitions) + ".bin");
+		
+		if (Files.isRegularFile(cacheFile)) {
+			try {
+				return read(cacheFile, partitions);
+			} catch (IOException | RuntimeException e) {
+				EpicFightMod.LOGGER.warn("Failed to read cached armor model " + cacheFile + ": " + e.getMessage());
+			}
+		}
+		
+		long startTime = System.nanoTime();
+		AnimatedMeshData meshData = VanillaModelTransformer.bakeMeshData(partitions);
+		EpicFightMod.LOGGER.debug("Baked armor model " + itemName + " in " + (System.nanoTime() - startTime) / 1000000L + "ms");
+		
+		try {
+			write(directory, cacheFile, meshData, partitions);
+		} catch (IOException e) {
+			EpicFightMod.LOGGER.warn("Failed to cache armor model " + itemName + ": " + e.getMessage());
+		}
+		
+		return meshData;
+	}
+	
+	private static String hash(List<VanillaModelPartition> partitions) {
+		Hasher hasher = Hashing.murmur3_128().newHasher();
+		hasher.putInt(VERSION);
+		hasher.putUnencodedChars(ModList.get().getModFileById(EpicFightMod.MODID).versionString());
+		
+		for (VanillaModelPartition partition : partitions) {
+			hasher.putUnencodedChars(partition.partName());
+			hashPart(hasher, partition.bakedPart());
+		}
+		
+		return hasher.hash().toString();
+	}
+	
+	private static void hashPart(Hasher hasher, ModelPart part) {
+		PartPose initialPose = part.getInitialPose();
+		hasher.putBoolean(part.visible);
+		hasher.putFloat(initialPose.x).putFloat(initialPose.y).putFloat(initialPose.z);
+		hasher.putFloat(initialPose.xRot).putFloat(initialPose.yRot).putFloat(initialPose.zRot);
+		hasher.putFloat(part.xScale).putFloat(part.yScale).putFloat(part.zScale);
+		hasher.putInt(part.cubes.size());
+		
+		for (ModelPart.Cube cube : part.cubes) {
+			for (ModelPart.Polygon polygon : cube.polygons) {
+				hasher.putFloat(polygon.normal.x()).putFloat(polygon.normal.y()).putFloat(polygon.normal.z());
+				
+				for (ModelPart.Vertex vertex : polygon.vertices) {
+					hasher.putFloat(vertex.pos.x()).putFloat(vertex.pos.y()).putFloat(vertex.pos.z()).putFloat(vertex.u).putFloat(vertex.v);
+				}
+			}
+		}
+		
+		hasher.putInt(part.children.size());
+		
+		for (Map.Entry<String, ModelPart> child : part.children.entrySet()) {
+			hasher.putUnencodedChars(child.getKey());
+			hashPart(hasher, child.getValue());
+		}
+	}
+	
+	/**
+	 * Parts bound to a child of the model are written with the name of their partition, and bound to the part of the
+	 * current model when read
+	 */
+	private static void write(Path directory, Path cacheFile, AnimatedMeshData meshData, List<VanillaModelPartition> partitions) throws IOException {
+		Map<ModelPart, String> partitionNames = Maps.newIdentityHashMap();
+		partitions.forEach((partition) -> partitionNames.put(partition.modelPart(), partition.partName()));
+		
+		Files.createDirectories(directory);
+		
+		// Files baked from older models of the item
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>)files::iterator) {
+				if (Files.isRegularFile(file) && file.getFileName().toString().endsWith(".bin")) {
+					Files.deleteIfExists(file);
+				}
+			}
+		}
+		
+		try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(Files.newOutputStream(cacheFile)))) {
+			writeFloats(output, meshData.positions());
+			writeFloats(output, meshData.normals());
+			writeFloats(output, meshData.uvs());
+			writeFloats(output, meshData.weights());
+			writeInts(output, meshData.affectJointCounts());
+			writeInts(output, meshData.animationIndices());
+			output.writeInt(meshData.partIndices().size());
+			
+			for (Map.Entry<MeshPartDefinition, int[]> entry : meshData.partIndices().entrySet()) {
+				VanillaMeshPartDefinition partDefinition = (VanillaMeshPartDefinition)entry.getKey();
+				output.writeUTF(partDefinition.partName());
+				output.writeBoolean(partDefinition.root() != null);
+				
+				if (partDefinition.root() != null) {
+					output.writeUTF(partitionNames.get(partDefinition.root()));
+					output.writeInt(partDefinition.path().size());
+					
+					for (String childName : partDefinition.path()) {
+						output.writeUTF(childName);
+					}
+					
+					for (float element : partDefinition.invertedParentTransform().toList()) {
+						output.writeFloat(element);
+					}
+				}
+				
+				writeInts(output, entry.getValue());
+			}
+		}
+	}
+	
+	private static AnimatedMeshData read(Path cacheFile, List<VanillaModelPartition> partitions) throws IOException {
+		Map<String, ModelPart> partitionParts = Maps.newHashMap();
+		partitions.forEach((partition) -> partitionParts.put(partition.partName(), partition.modelPart()));
+		
+		try (DataInputStream input = new DataInputStream(new InflaterInputStream(Files.newInputStream(cacheFile)))) {
+			float[] positions = readFloats(input);
+			float[] normals = readFloats(input);
+			float[] uvs = readFloats(input);
+			float[] weights = readFloats(input);
+			int[] affectJointCounts = readInts(input);
+			int[] animationIndices = readInts(input);
+			int partCount = input.readInt();
+			Map<MeshPartDefinition, int[]> partIndices = Maps.newHashMap();
+			
+			for (int i = 0; i < partCount; i++) {
+				String partName = input.readUTF();
+				MeshPartDefinition partDefinition = VanillaMeshPartDefinition.of(partName);
+				
+				if (input.readBoolean()) {
+					ModelPart root = partitionParts.get(input.readUTF());
+					int pathSize = input.readInt();
+					List<String> path = Lists.newArrayList();
+					float[] elements = new float[16];
+					
+					for (int j = 0; j < pathSize; j++) {
+						path.add(input.readUTF());
+					}
+					
+					for (int j = 0; j < elements.length; j++) {
+						elements[j] = input.readFloat();
+					}
+					
+					if (root == null) {
+						throw new IOException("Unknown part " + partName);
+					}
+					
+					partDefinition = VanillaMeshPartDefinition.of(partName, path, OpenMatrix4f.load(null, elements), root);
+				}
+				
+				partIndices.put(partDefinition, readInts(input));
+			}
+			
+			return new AnimatedMeshData(positions, normals, uvs, weights, affectJointCounts, animationIndices, partIndices);
+		}
+	}
+	
+	private static void writeFloats(DataOutputStream output, float[] array) throws IOException {
+		output.writeInt(array.length);
+		
+		for (float f : array) {
+			output.writeFloat(f);
+		}
+	}
+	
+	private static void writeInts(DataOutputStream output, int[] array) throws IOException {
+		output.writeInt(array.length);
+		
+		for (int i : array) {
+			output.writeInt(i);
+		}
+	}
+	
+	private static float[] readFloats(DataInputStream input) throws IOException {
+		float[] array = new float[input.readInt()];
+		
+		for (int i = 0; i < array.length; i++) {
+			array[i] = input.readFloat();
+		}
+		
+		return array;
+	}
+	
+	private static int[] readInts(DataInputStream input) throws IOException {
+		int[] array = new int[input.readInt()];
+		
+		for (int i = 0; i < array.length; i++) {
+			array[i] = input.readInt();
+		}
+		
+		return array;
+	}
+	
+	private static Path getCacheDirectory() {
+		return Minecraft.getInstance().gameDirectory.toPath().resolve(EpicFightMod.MODID).resolve("armor_cache");
+	}
+}
\ No newline at end of file
@@ -6,9 +6,12 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import javax.annotation.Nullable;
+
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -17,6 +20,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 
 import net.minecraft.SharedConstants;
+import net.minecraft.Util;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.client.model.Model;
 import net.minecraft.client.model.geom.ModelPart;
@@ -30,6 +34,9 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.registries.ForgeRegistries;
 import yesman.epicfight.api.client.model.AnimatedMesh;
+import yesman.epicfight.api.client.model.AnimatedMeshData;
+import yesman.epicfight.api.client.model.Meshes;
+import yesman.epicfight.api.client.model.transformer.VanillaModelTransformer.VanillaModelPartition;
 import yesman.epicfight.client.mesh.HumanoidMesh;
 import yesman.epicfight.main.EpicFightMod;
 
@@ -39,6 +46,7 @@ public class CustomModelBakery {
 	static final List<HumanoidModelTransformer> MODEL_TRANSFORMERS = Lists.newArrayList();
 	static final Set<ArmorItem> EXCEPTIONAL_MODELS = Sets.newHashSet();
 	static final Set<ModelPart> MODEL_PARTS = Sets.newHashSet();
+	static final Map<ArmorItem, BakingModel> BAKING_MODELS = Maps.newHashMap();
 	
 	public static final HumanoidModelTransformer VANILLA_TRANSFORMER = new VanillaModelTransformer();
 	
@@ -77,6 +85,12 @@ public class CustomModelBakery {
 		out.close();
 	}
 	
+	/**
+	 * Transforms the armor model with the registered transformers, or starts baking it with {@link #VANILLA_TRANSFORMER}
+	 * in background and returns null. The model baked in background is loaded from {@link ArmorModelCache} if the same
+	 * model was baked before, and returned by {@link #getBakedArmor} when it's done.
+	 */
+	@Nullable
 	public static AnimatedMesh bakeArmor(LivingEntity entityLiving, ItemStack itemstack, ArmorItem armorItem, EquipmentSlot slot, HumanoidModel<?> originalModel, Model forgeModel, HumanoidModel<?> entityModel, HumanoidMesh entityMesh) {
 		AnimatedMesh animatedArmorModel = null;
 		
@@ -102,7 +116,11 @@ public class CustomModelBakery {
 			}
 			
 			if (animatedArmorModel == null) {
-				animatedArmorModel = VANILLA_TRANSFORMER.transformArmorModel(modelName, humanoidModel);
+				List<VanillaModelPartition> partitions = VanillaModelTransformer.getPartitions(humanoidModel, true);
+				ResourceLocation itemName = ForgeRegistries.ITEMS.getKey(armorItem);
+				BAKING_MODELS.put(armorItem, new BakingModel(modelName, CompletableFuture.supplyAsync(() -> ArmorModelCache.loadOrBake(itemName, partitions), Util.backgroundExecutor())));
+				
+				return null;
 			}
 		}
 		
@@ -110,4 +128,50 @@ public class CustomModelBakery {
 		
 		return animatedArmorModel;
 	}
+	
+	public static boolean isBaking(ArmorItem armorItem) {
+		return BAKING_MODELS.containsKey(armorItem);
+	}
+	
+	/**
+	 * Returns the armor model once it's baked, creating its buffers on the render thread, or null while it's being baked
+	 */
+	@Nullable
+	public static AnimatedMesh getBakedArmor(ArmorItem armorItem) {
+		BakingModel bakingModel = BAKING_MODELS.get(armorItem);
+		
+		if (bakingModel == null || !bakingModel.meshData.isDone()) {
+			return null;
+		}
+		
+		BAKING_MODELS.remove(armorItem);
+		AnimatedMesh animatedArmorModel;
+		
+		try {
+			animatedArmorModel = bakingModel.meshData.join().createMesh();
+		} catch (Exception e) {
+			EpicFightMod.LOGGER.warn("Can't transform the model of " + ForgeRegistries.ITEMS.getKey(armorItem) + " because of :");
+			e.printStackTrace();
+			EXCEPTIONAL_MODELS.add(armorItem);
+			
+			return null;
+		}
+		
+		Meshes.addMesh(bakingModel.modelName, animatedArmorModel);
+		BAKED_MODELS.put(ForgeRegistries.ITEMS.getKey(armorItem), animatedArmorModel);
+		
+		return animatedArmorModel;
+	}
+	
+	/**
+	 * Called when the meshes are rebuilt, the models being baked are dropped when they're done
+	 */
+	public static void cancelBaking() {
+		BAKING_MODELS.values().forEach((bakingModel) -> bakingModel.meshData.cancel(false));
+		BAKING_MODELS.clear();
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	private static record BakingModel(ResourceLocation modelName, CompletableFuture<AnimatedMeshData> meshData) {
+	}
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import yesman.epicfight.api.client.model.AnimatedMesh;
+import yesman.epicfight.api.client.model.AnimatedMeshData;
 import yesman.epicfight.api.client.model.MeshPartDefinition;
 import yesman.epicfight.api.client.model.Meshes;
 import yesman.epicfight.api.client.model.SingleGroupVertexBuilder;
@@ -45,14 +46,19 @@ public class VanillaModelTransformer extends HumanoidModelTransformer {
 	public static final PartTransformer<ModelPart.Cube> RIGHT_LEG = new LimbPartTransformer(1, 2, 3, 6.0F, true, AABB.ofSize(new Vec3(2.0D, 6.0D, 0), 8.0D, 14.0D, 8.0D));
 	public static final PartTransformer<ModelPart.Cube> CHEST = new ChestPartTransformer(8, 7, 18.0F, AABB.ofSize(new Vec3(0, 18.0D, 0), 12.0D, 14.0D, 6.0D));
 	
+	/**
+	 * @param modelPart the part of the model, which the animations of the bound child parts follow
+	 * @param bakedPart the part the vertices are baked from, a copy of modelPart when baked off the render thread
+	 */
 	@OnlyIn(Dist.CLIENT)
-	static record VanillaModelPartition(PartTransformer<ModelPart.Cube> partTransformer, ModelPart modelPart, String partName) {
+	static record VanillaModelPartition(PartTransformer<ModelPart.Cube> partTransformer, ModelPart modelPart, String partName, ModelPart bakedPart) {
+		VanillaModelPartition(PartTransformer<ModelPart.Cube> partTransformer, ModelPart modelPart, String partName) {
+			this(partTransformer, modelPart, partName, modelPart);
+		}
 	}
 	
 	@Override
 	public AnimatedMesh transformArmorModel(ResourceLocation modelLocation, HumanoidModel<?> humanoidModel) {
-		List<VanillaModelPartition> boxes = Lists.newArrayList();
-		
 		//Remove entity animation
 		humanoidModel.head.loadPose(humanoidModel.head.getInitialPose());
 		humanoidModel.hat.loadPose(humanoidModel.hat.getInitialPose());
@@ -62,41 +68,65 @@ public class VanillaModelTransformer extends HumanoidModelTransformer {
 		humanoidModel.leftLeg.loadPose(humanoidModel.leftLeg.getInitialPose());
 		humanoidModel.rightLeg.loadPose(humanoidModel.rightLeg.getInitialPose());
 		
-		if (humanoidModel.head.visible) {
-			boxes.add(new VanillaModelPartition(HEAD, humanoidModel.head, "head"));
-		}
-		
-		if (humanoidModel.hat.visible) {
-			boxes.add(new VanillaModelPartition(HEAD, humanoidModel.hat, "hat"));
-		}
-		
-		if (humanoidModel.body.visible) {
-			boxes.add(new VanillaModelPartition(CHEST, humanoidModel.body, "body"));
-		}
+		AnimatedMesh mesh = bakeMeshFromCubes(getPartitions(humanoidModel, false));
+		Meshes.addMesh(modelLocation, mesh);
 		
-		if (humanoidModel.rightArm.visible) {
-			boxes.add(new VanillaModelPartition(RIGHT_ARM, humanoidModel.rightArm, "rightArm"));
-		}
+		return mesh;
+	}
+	
+	/**
+	 * Returns the visible parts of the model. Parts are copied if snapshot is true, so they can be baked off the render
+	 * thread while the model is rendered.
+	 */
+	static List<VanillaModelPartition> getPartitions(HumanoidModel<?> humanoidModel, boolean snapshot) {
+		List<VanillaModelPartition> boxes = Lists.newArrayList();
 		
-		if (humanoidModel.leftArm.visible) {
-			boxes.add(new VanillaModelPartition(LEFT_ARM, humanoidModel.leftArm, "leftArm"));
-		}
+		addPartition(boxes, HEAD, humanoidModel.head, "head", snapshot);
+		addPartition(boxes, HEAD, humanoidModel.hat, "hat", snapshot);
+		addPartition(boxes, CHEST, humanoidModel.body, "body", snapshot);
+		addPartition(boxes, RIGHT_ARM, humanoidModel.rightArm, "rightArm", snapshot);
+		addPartition(boxes, LEFT_ARM, humanoidModel.leftArm, "leftArm", snapshot);
+		addPartition(boxes, LEFT_LEG, humanoidModel.leftLeg, "leftLeg", snapshot);
+		addPartition(boxes, RIGHT_LEG, humanoidModel.rightLeg, "rightLeg", snapshot);
 		
-		if (humanoidModel.leftLeg.visible) {
-			boxes.add(new VanillaModelPartition(LEFT_LEG, humanoidModel.leftLeg, "leftLeg"));
+		return boxes;
+	}
+	
+	private static void addPartition(List<VanillaModelPartition> boxes, PartTransformer<ModelPart.Cube> partTransformer, ModelPart modelPart, String partName, boolean snapshot) {
+		if (modelPart.visible) {
+			boxes.add(new VanillaModelPartition(partTransformer, modelPart, partName, snapshot ? copyPart(modelPart) : modelPart));
 		}
+	}
+	
+	/**
+	 * Copies what the baking reads from a part, cubes are immutable and shared
+	 */
+	private static ModelPart copyPart(ModelPart part) {
+		Map<String, ModelPart> children = Maps.newLinkedHashMap();
 		
-		if (humanoidModel.rightLeg.visible) {
-			boxes.add(new VanillaModelPartition(RIGHT_LEG, humanoidModel.rightLeg, "rightLeg"));
+		for (Map.Entry<String, ModelPart> child : part.children.entrySet()) {
+			children.put(child.getKey(), copyPart(child.getValue()));
 		}
 		
-		AnimatedMesh mesh = bakeMeshFromCubes(boxes);
-		Meshes.addMesh(modelLocation, mesh);
+		ModelPart copy = new ModelPart(part.cubes, children);
+		copy.setInitialPose(part.getInitialPose());
+		copy.loadPose(part.getInitialPose());
+		copy.visible = part.visible;
+		copy.xScale = part.xScale;
+		copy.yScale = part.yScale;
+		copy.zScale = part.zScale;
 		
-		return mesh;
+		return copy;
 	}
 	
 	private static AnimatedMesh bakeMeshFromCubes(List<VanillaModelPartition> partitions) {
+		return bakeMeshData(partitions).createMesh();
+	}
+	
+	/**
+	 * Bakes the vertex arrays of the parts, safe off the render thread if the partitions are snapshots
+	 */
+	static AnimatedMeshData bakeMeshData(List<VanillaModelPartition> partitions) {
 		List<SingleGroupVertexBuilder> vertices = Lists.newArrayList();
 		Map<MeshPartDefinition, IntList> indices = Maps.newHashMap();
 		PoseStack poseStack = new PoseStack();
@@ -107,10 +137,10 @@ public class VanillaModelTransformer extends HumanoidModelTransformer {
 		poseStack.translate(0.0F, -24.0F, 0.0F);
 		
 		for (VanillaModelPartition modelpartition : partitions) {
-			bake(poseStack, modelpartition.partName, modelpartition, modelpartition.modelPart, vertices, indices, Lists.newArrayList(), indexCounter, false);
+			bake(poseStack, modelpartition.partName, modelpartition, modelpartition.bakedPart, vertices, indices, Lists.newArrayList(), indexCounter, false);
 		}
 		
-		return SingleGroupVertexBuilder.loadVertexInformation(vertices, indices);
+		return SingleGroupVertexBuilder.loadVertexData(vertices, indices);
 	}
 	
 	private static void bake(PoseStack poseStack, String partName, VanillaModelPartition modelpartition, ModelPart part, List<SingleGroupVertexBuilder> vertices, Map<MeshPartDefinition, IntList> indices, List<String> path, PartTransformer.IndexCounter indexCounter, boolean bindPart) {
@@ -0,0 +1,134 @@
+package yesman.epicfight.api.collider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.entity.PartEntity;
+
+/**
+ * Entity lookups of attack colliders. On the server, the entities of each chunk section touched by a hitbox are gathered
+ * once per tick and shared by every collider of every attacker querying that section in the same tick, so crowds of
+ * attackers don't scan the section storage once per collider. Hits are still resolved in the tick of each attacker.
+ */
+public class AttackBroadphase {
+	/**
+	 * Sections are gathered with this margin, so an entity crossing a section border later in the tick is still found
+	 * through the section it came from
+	 */
+	private static final double SECTION_MARGIN = 2.0D;
+	private static final Map<Level, AttackBroadphase> BROADPHASES = new WeakHashMap<> ();
+	
+	private static long queries;
+	private static long sectionsGathered;
+	private static long sectionsReused;
+	private static long candidates;
+	private static long hits;
+	
+	private final Long2ObjectMap<List<Entity>> sectionEntities = new Long2ObjectOpenHashMap<> ();
+	private long gameTime = Long.MIN_VALUE;
+	
+	/**
+	 * Same as {@link Level#getEntities(Entity, AABB, Predicate)}, the predicate is the narrowphase test of the collider
+	 */
+	public static List<Entity> getEntities(Entity attacker, AABB aabb, Predicate<Entity> narrowphase) {
+		if (!(attacker.level() instanceof ServerLevel serverLevel)) {
+			return attacker.level().getEntities(attacker, aabb, narrowphase);
+		}
+		
+		return BROADPHASES.computeIfAbsent(serverLevel, (level) -> new AttackBroadphase()).query(serverLevel, attacker, aabb, narrowphase);
+	}
+	
+	private List<Entity> query(ServerLevel level, Entity attacker, AABB aabb, Predicate<Entity> narrowphase) {
+		if (this.gameTime != level.getGameTime()) {
+			this.sectionEntities.clear();
+			this.gameTime = level.getGameTime();
+		}
+		
+		List<Entity> result = Lists.newArrayList();
+		Set<Entity> visited = Sets.newIdentityHashSet();
+		int minX = SectionPos.blockToSectionCoord(Mth.floor(aabb.minX));
+		int minY = SectionPos.blockToSectionCoord(Mth.floor(aabb.minY));
+		int minZ = SectionPos.blockToSectionCoord(Mth.floor(aabb.minZ));
+		int maxX = SectionPos.blockToSectionCoord(Mth.floor(aabb.maxX));
+		int maxY = SectionPos.blockToSectionCoord(Mth.floor(aabb.maxY));
+		int maxZ = SectionPos.blockToSectionCoord(Mth.floor(aabb.maxZ));
+		queries++;
+		
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					for (Entity entity : this.getSectionEntities(level, x, y, z)) {
+						// Entities overlapping several sections are listed in each of them
+						if (entity != attacker && !entity.isRemoved() && entity.getBoundingBox().intersects(aabb) && visited.add(entity)) {
+							this.test(entity, narrowphase, result);
+						}
+					}
+				}
+			}
+		}
+		
+		// Part entities aren't stored in the sections
+		for (PartEntity<?> partEntity : level.getPartEntities()) {
+			if (partEntity != attacker && partEntity.getBoundingBox().intersects(aabb)) {
+				this.test(partEntity, narrowphase, result);
+			}
+		}
+		
+		return result;
+	}
+	
+	private void test(Entity entity, Predicate<Entity> narrowphase, List<Entity> result) {
+		candidates++;
+		
+		if (narrowphase.test(entity)) {
+			hits++;
+			result.add(entity);
+		}
+	}
+	
+	private List<Entity> getSectionEntities(ServerLevel level, int x, int y, int z) {
+		long key = SectionPos.asLong(x, y, z);
+		List<Entity> entities = this.sectionEntities.get(key);
+		
+		if (entities == null) {
+			int blockX = SectionPos.sectionToBlockCoord(x);
+			int blockY = SectionPos.sectionToBlockCoord(y);
+			int blockZ = SectionPos.sectionToBlockCoord(z);
+			AABB section = new AABB(blockX, blockY, blockZ, blockX + 16, blockY + 16, blockZ + 16).inflate(SECTION_MARGIN);
+			entities = Lists.newArrayList();
+			level.getEntities().get(section, entities::add);
+			this.sectionEntities.put(key, entities);
+			sectionsGathered++;
+		} else {
+			sectionsReused++;
+		}
+		
+		return entities;
+	}
+	
+	public static String getReport() {
+		return String.format("%d attack queries, sections gathered %d / reused %d, narrowphase tests %d, hits %d (%.1f%%)", queries, sectionsGathered, sectionsReused, candidates, hits, candidates == 0L ? 0.0D : hits * 100.0D / candidates);
+	}
+	
+	public static void resetMetrics() {
+		queries = 0L;
+		sectionsGathered = 0L;
+		sectionsReused = 0L;
+		candidates = 0L;
+		hits = 0L;
+	}
+}
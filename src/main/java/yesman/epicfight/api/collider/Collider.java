@@ -43,15 +43,15 @@ public abstract class Collider {
 	public List<Entity> updateAndSelectCollideEntity(LivingEntityPatch<?> entitypatch, AttackAnimation attackAnimation, float prevElapsedTime, float elapsedTime, Joint joint, float attackSpeed) {
 		OpenMatrix4f transformMatrix;
 		Armature armature = entitypatch.getArmature();
-		int pathIndex = armature.searchPathIndex(joint.getName());
+		boolean isRootJoint = armature.isRootJoint(joint);
 		
-		if (pathIndex == -1) {
+		if (isRootJoint) {
 			Pose rootPose = new Pose();
 			rootPose.putJointData("Root", JointTransform.empty());
 			attackAnimation.modifyPose(attackAnimation, rootPose, entitypatch, elapsedTime, 1.0F);
 			transformMatrix = rootPose.getOrDefaultTransform("Root").getAnimationBindedMatrix(armature.rootJoint, new OpenMatrix4f()).removeTranslation();
 		} else {
-			transformMatrix = armature.getBindedTransformByJointIndex(attackAnimation.getPoseByTime(entitypatch, elapsedTime, 1.0F), pathIndex);
+			transformMatrix = armature.getBindedTransformFor(attackAnimation.getColliderPose(entitypatch, elapsedTime, 1.0F), joint);
 		}
 		
 		OpenMatrix4f toWorldCoord = OpenMatrix4f.createTranslation(-(float)entitypatch.getOriginal().getX(), (float)entitypatch.getOriginal().getY(), -(float)entitypatch.getOriginal().getZ());
@@ -62,7 +62,7 @@ public abstract class Collider {
 	}
 	
 	public List<Entity> getCollideEntities(Entity entity) {
-		List<Entity> list = entity.level().getEntities(entity, this.getHitboxAABB(), (e) -> {
+		List<Entity> list = AttackBroadphase.getEntities(entity, this.getHitboxAABB(), (e) -> {
 			if (e instanceof PartEntity<?> partEntity) {
 				if (partEntity.getParent().is(entity)) {
 					return false;
@@ -87,14 +87,14 @@ public abstract class Collider {
 	@OnlyIn(Dist.CLIENT)
 	public void draw(PoseStack poseStack, MultiBufferSource buffer, LivingEntityPatch<?> entitypatch, AttackAnimation animation, Joint joint, float prevElapsedTime, float elapsedTime, float partialTicks, float attackSpeed) {
 		Armature armature = entitypatch.getArmature();
-		int pathIndex =  armature.searchPathIndex(joint.getName());
+		boolean isRootJoint = armature.isRootJoint(joint);
 		EntityState state = animation.getState(entitypatch, elapsedTime);
 		EntityState prevState = animation.getState(entitypatch, prevElapsedTime);
 		boolean attacking = prevState.attacking() || state.attacking() || (prevState.getLevel() < 2 && state.getLevel() > 2);
 		Pose prevPose;
 		Pose currentPose;
 		
-		if (pathIndex == -1) {
+		if (isRootJoint) {
 			prevPose = new Pose();
 			currentPose = new Pose();
 			prevPose.putJointData("Root", JointTransform.empty());
@@ -102,8 +102,8 @@ public abstract class Collider {
 			animation.modifyPose(animation, prevPose, entitypatch, prevElapsedTime, 0.0F);
 			animation.modifyPose(animation, currentPose, entitypatch, elapsedTime, 1.0F);
 		} else {
-			prevPose = animation.getPoseByTime(entitypatch, prevElapsedTime, 0.0F);
-			currentPose = animation.getPoseByTime(entitypatch, elapsedTime, 1.0F);
+			prevPose = animation.getColliderPose(entitypatch, prevElapsedTime, 0.0F);
+			currentPose = animation.getColliderPose(entitypatch, elapsedTime, 1.0F);
 		}
 		
 		this.drawInternal(poseStack, buffer.getBuffer(this.getRenderType()), armature, joint, prevPose, currentPose, partialTicks, attacking ? 0xFFFF0000 : -1);
@@ -113,6 +113,14 @@ public abstract class Collider {
 	
 	public abstract boolean isCollide(Entity opponent);
 	
+	/**
+	 * Tests the collider moved from (worldCenter - motion) to its world center, the motion is in the coordinates of worldCenter.
+	 * Colliders without a continuous test only check their current position.
+	 */
+	protected boolean isSweptCollide(Entity opponent, double motionX, double motionY, double motionZ) {
+		return this.isCollide(opponent);
+	}
+	
 	@OnlyIn(Dist.CLIENT)
 	public abstract RenderType getRenderType();
 	
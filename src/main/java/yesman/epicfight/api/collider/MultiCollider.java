@@ -1,5 +1,6 @@
 package yesman.epicfight.api.collider;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,6 +16,7 @@ import net.minecraftforge.entity.PartEntity;
 import yesman.epicfight.api.animation.Joint;
 import yesman.epicfight.api.animation.JointTransform;
 import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.animation.TransformScratch;
 import yesman.epicfight.api.animation.property.AnimationProperty.AttackAnimationProperty;
 import yesman.epicfight.api.animation.types.AttackAnimation;
 import yesman.epicfight.api.model.Armature;
@@ -24,6 +26,7 @@ import yesman.epicfight.world.capabilities.entitypatch.LivingEntityPatch;
 public abstract class MultiCollider<T extends Collider> extends Collider {
 	protected final List<T> colliders = Lists.newArrayList();
 	protected final int numberOfColliders;
+	private final ThreadLocal<SweepBuffer> sweepBuffer = ThreadLocal.withInitial(SweepBuffer::new);
 	
 	public MultiCollider(int arrayLength, double centerX, double centerY, double centerZ, AABB outerAABB) {
 		super(new Vec3(centerX, centerY, centerZ), outerAABB);
@@ -47,31 +50,33 @@ public abstract class MultiCollider<T extends Collider> extends Collider {
 		int numberOf = Math.max(Math.round((this.numberOfColliders + attackAnimation.getProperty(AttackAnimationProperty.EXTRA_COLLIDERS).orElse(0)) * attackSpeed), this.numberOfColliders);
 		float partialScale = 1.0F / (numberOf - 1);
 		float interpolation = 0.0F;
-		List<Collider> colliders = Lists.newArrayList();
 		LivingEntity original = entitypatch.getOriginal();
+		Armature armature = entitypatch.getArmature();
+		boolean isRootJoint = armature.isRootJoint(joint);
+		TransformScratch scratch = entitypatch.getAnimator().getTransformScratch();
+		OpenMatrix4f[] jointMatrices = scratch.getJointMatrices(armature.getJointNumber());
+		SweepBuffer sweepBuffer = this.sweepBuffer.get();
+		sweepBuffer.ensureCapacity(numberOf, armature.getJointNumber());
+		Collider[] colliders = sweepBuffer.colliders;
+		double[] motions = sweepBuffer.motions;
 		float index = 0.0F;
 		float interIndex = Math.min((float)(this.numberOfColliders - 1) / (numberOf - 1), 1.0F);
-		
-		for (int i = 0; i < numberOf; i++) {
-			colliders.add(this.colliders.get((int)index).deepCopy());
-			index += interIndex;
-		}
-		
 		AABB outerBox = null;
 		
-		for (Collider collider : colliders) {
+		for (int i = 0; i < numberOf; i++) {
+			Collider collider = sweepBuffer.getCollider(i, this.colliders.get((int)index));
 			OpenMatrix4f transformMatrix;
-			Armature armature = entitypatch.getArmature();
-			int pathIndex = armature.searchPathIndex(joint.getName());
+			index += interIndex;
 			
-			if (pathIndex == -1) {
+			if (isRootJoint) {
 				Pose rootPose = new Pose();
 				rootPose.putJointData("Root", JointTransform.empty());
 				attackAnimation.modifyPose(attackAnimation, rootPose, entitypatch, elapsedTime, 1.0F);
 				transformMatrix = rootPose.getOrDefaultTransform("Root").getAnimationBindedMatrix(entitypatch.getArmature().rootJoint, new OpenMatrix4f()).removeTranslation();
 			} else {
 				float interpolateTime = prevElapsedTime + (elapsedTime - prevElapsedTime) * interpolation;
-				transformMatrix = armature.getBindedTransformByJointIndex(attackAnimation.getPoseByTime(entitypatch, interpolateTime, 1.0F), pathIndex);
+				Arrays.fill(sweepBuffer.boundJoints, false);
+				transformMatrix = armature.bindJointPath(attackAnimation.getColliderPose(entitypatch, interpolateTime, 1.0F), joint, jointMatrices, sweepBuffer.boundJoints, scratch);
 			}
 			
 			double x = entitypatch.getXOld() + (original.getX() - entitypatch.getXOld()) * interpolation;
@@ -85,11 +90,15 @@ public abstract class MultiCollider<T extends Collider> extends Collider {
 			if (outerBox == null) {
 				outerBox = collider.getHitboxAABB();
 			} else {
-				outerBox.minmax(collider.getHitboxAABB());
+				// The union of two sample boxes also bounds the sweep between them
+				outerBox = outerBox.minmax(collider.getHitboxAABB());
+				motions[i * 3] = collider.worldCenter.x - colliders[i - 1].worldCenter.x;
+				motions[i * 3 + 1] = collider.worldCenter.y - colliders[i - 1].worldCenter.y;
+				motions[i * 3 + 2] = collider.worldCenter.z - colliders[i - 1].worldCenter.z;
 			}
 		}
 		
-		List<Entity> entities = entitypatch.getOriginal().level().getEntities(entitypatch.getOriginal(), outerBox, (entity) -> {
+		List<Entity> entities = AttackBroadphase.getEntities(entitypatch.getOriginal(), outerBox, (entity) -> {
 			if (entity.isSpectator()) {
 				return false;
 			}
@@ -100,8 +109,13 @@ public abstract class MultiCollider<T extends Collider> extends Collider {
 				}
 			}
 			
-			for (Collider collider : colliders) {
-				if (collider.isCollide(entity)) {
+			if (colliders[0].isCollide(entity)) {
+				return true;
+			}
+			
+			// Sweeps each sample from the previous one, so fast swings don't pass through targets between samples
+			for (int i = 1; i < numberOf; i++) {
+				if (colliders[i].isSweptCollide(entity, motions[i * 3], motions[i * 3 + 1], motions[i * 3 + 2])) {
 					return true;
 				}
 			}
@@ -141,6 +155,37 @@ public abstract class MultiCollider<T extends Collider> extends Collider {
 		return false;
 	}
 	
+	/**
+	 * Per-thread copies of the sub colliders transformed at each sample, since colliders are shared by every entity
+	 */
+	private static class SweepBuffer {
+		private Collider[] colliders = new Collider[0];
+		private Collider[] sources = new Collider[0];
+		private double[] motions = new double[0];
+		private boolean[] boundJoints = new boolean[0];
+		
+		private void ensureCapacity(int sampleCount, int jointNumber) {
+			if (this.colliders.length < sampleCount) {
+				this.colliders = Arrays.copyOf(this.colliders, sampleCount);
+				this.sources = Arrays.copyOf(this.sources, sampleCount);
+				this.motions = new double[sampleCount * 3];
+			}
+			
+			if (this.boundJoints.length != jointNumber) {
+				this.boundJoints = new boolean[jointNumber];
+			}
+		}
+		
+		private Collider getCollider(int index, Collider source) {
+			if (this.sources[index] != source) {
+				this.colliders[index] = source.deepCopy();
+				this.sources[index] = source;
+			}
+			
+			return this.colliders[index];
+		}
+	}
+	
 	@Override
 	public String toString() {
 		return super.toString() + " collider count: " + this.numberOfColliders + " " + this.colliders.get(0);
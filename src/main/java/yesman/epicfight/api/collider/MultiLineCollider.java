@@ -33,7 +33,7 @@ public class MultiLineCollider extends MultiCollider<LineCollider> {
 		float partialScale = 1.0F / numberOf;
 		float interpolation = partialScale;
 		Armature armature = entitypatch.getArmature();
-		int pathIndex =  armature.searchPathIndex(joint.getName());
+		boolean isRootJoint = armature.isRootJoint(joint);
 		EntityState state = animation.getState(entitypatch, elapsedTime);
 		EntityState prevState = animation.getState(entitypatch, prevElapsedTime);
 		boolean attacking = prevState.attacking() || state.attacking() || (prevState.getLevel() < 2 && state.getLevel() > 2);
@@ -56,12 +56,12 @@ public class MultiLineCollider extends MultiCollider<LineCollider> {
 			
 			Pose pose;
 			
-			if (pathIndex == -1) {
+			if (isRootJoint) {
 				pose = new Pose();
 				pose.putJointData("Root", JointTransform.empty());
 				animation.modifyPose(animation, pose, entitypatch, elapsedTime, 1.0F);
 			} else {
-				pose = animation.getPoseByTime(entitypatch, pt2, 1.0F);
+				pose = animation.getColliderPose(entitypatch, pt2, 1.0F);
 			}
 			
 			lineCollider.drawInternal(poseStack, buffer.getBuffer(this.getRenderType()), armature, joint, pose, pose, 1.0F, attacking ? 0xFFFF0000 : -1);
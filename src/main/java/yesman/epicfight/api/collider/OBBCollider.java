@@ -25,8 +25,17 @@ import yesman.epicfight.api.utils.math.Vec3f;
 public class OBBCollider extends Collider {
 	protected final Vec3[] modelVertex;
 	protected final Vec3[] modelNormal;
-	protected Vec3[] rotatedVertex;
-	protected Vec3[] rotatedNormal;
+	/**
+	 * Transformed vertices and normals as x, y, z triples. The vertices are relative to the world center, and
+	 * they give the other corners when negated.
+	 */
+	protected final double[] rotatedVertex;
+	protected final double[] rotatedNormal;
+	/**
+	 * Projection radius of the box on the x, y, z axes and on each of its normals
+	 */
+	protected final double[] axisExtent = new double[3];
+	protected final double[] normalExtent;
 	protected Vec3f scale;
 	
 	/**
@@ -45,8 +54,9 @@ public class OBBCollider extends Collider {
 		super(new Vec3(centerX, centerY, centerZ), outerAABB);
 		this.modelVertex = new Vec3[4];
 		this.modelNormal = new Vec3[3];
-		this.rotatedVertex = new Vec3[4];
-		this.rotatedNormal = new Vec3[3];
+		this.rotatedVertex = new double[12];
+		this.rotatedNormal = new double[9];
+		this.normalExtent = new double[3];
 		this.modelVertex[0] = new Vec3(vertexX, vertexY, -vertexZ);
 		this.modelVertex[1] = new Vec3(vertexX, vertexY, vertexZ);
 		this.modelVertex[2] = new Vec3(-vertexX, vertexY, vertexZ);
@@ -54,13 +64,6 @@ public class OBBCollider extends Collider {
 		this.modelNormal[0] = new Vec3(1, 0, 0);
 		this.modelNormal[1] = new Vec3(0, 1, 0);
 		this.modelNormal[2] = new Vec3(0, 0, -1);
-		this.rotatedVertex[0] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedVertex[1] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedVertex[2] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedVertex[3] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedNormal[0] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedNormal[1] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedNormal[2] = new Vec3(0.0D, 0.0D, 0.0D);
 	}
 	
 	static AABB getInitialAABB(double posX, double posY, double posZ, double center_x, double center_y, double center_z) {
@@ -82,16 +85,13 @@ public class OBBCollider extends Collider {
 		super(new Vec3(center_x, center_y, center_z), entityCallAABB);
 		this.modelVertex = new Vec3[2];
 		this.modelNormal = new Vec3[2];
-		this.rotatedVertex = new Vec3[2];
-		this.rotatedNormal = new Vec3[2];
+		this.rotatedVertex = new double[6];
+		this.rotatedNormal = new double[6];
+		this.normalExtent = new double[2];
 		this.modelVertex[0] = new Vec3(pos1_x, pos1_y, pos1_z);
 		this.modelVertex[1] = new Vec3(pos2_x, pos2_y, pos2_z);
 		this.modelNormal[0] = new Vec3(norm1_x,norm1_y,norm1_z);
 		this.modelNormal[1] = new Vec3(norm2_x,norm2_y,norm2_z);
-		this.rotatedVertex[0] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedVertex[1] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedNormal[0] = new Vec3(0.0D, 0.0D, 0.0D);
-		this.rotatedNormal[1] = new Vec3(0.0D, 0.0D, 0.0D);
 	}
 	
 	/**
@@ -106,15 +106,10 @@ public class OBBCollider extends Collider {
 		double ySize = (aabbCopy.maxY - aabbCopy.minY) / 2;
 		double zSize = (aabbCopy.maxZ - aabbCopy.minZ) / 2;
 		this.worldCenter = new Vec3(-((float)aabbCopy.minX + xSize), (float)aabbCopy.minY + ySize, -((float)aabbCopy.minZ + zSize));
-		this.rotatedVertex = new Vec3[4];
-		this.rotatedNormal = new Vec3[3];
-		this.rotatedVertex[0] = new Vec3(-xSize, ySize, -zSize);
-		this.rotatedVertex[1] = new Vec3(-xSize, ySize, zSize);
-		this.rotatedVertex[2] = new Vec3(xSize, ySize, zSize);
-		this.rotatedVertex[3] = new Vec3(xSize, ySize, -zSize);
-		this.rotatedNormal[0] = new Vec3(1, 0, 0);
-		this.rotatedNormal[1] = new Vec3(0, 1, 0);
-		this.rotatedNormal[2] = new Vec3(0, 0, 1);
+		this.rotatedVertex = new double[] { -xSize, ySize, -zSize, -xSize, ySize, zSize, xSize, ySize, zSize, xSize, ySize, -zSize };
+		this.rotatedNormal = new double[] { 1.0D, 0.0D, 0.0D, 0.0D, 1.0D, 0.0D, 0.0D, 0.0D, 1.0D };
+		this.normalExtent = new double[3];
+		this.updateExtents();
 	}
 	
 	/**
@@ -122,21 +117,64 @@ public class OBBCollider extends Collider {
 	 **/
 	@Override
 	public void transform(OpenMatrix4f modelMatrix) {
-		OpenMatrix4f noTranslation = modelMatrix.removeTranslation();
-		
 		for (int i = 0; i < this.modelVertex.length; i++) {
-			this.rotatedVertex[i] = OpenMatrix4f.transform(noTranslation, this.modelVertex[i]);
+			rotate(modelMatrix, this.modelVertex[i], this.rotatedVertex, i * 3);
 		}
 		
 		for (int i = 0; i < this.modelNormal.length; i++) {
-			this.rotatedNormal[i] = OpenMatrix4f.transform(noTranslation, this.modelNormal[i]);
+			rotate(modelMatrix, this.modelNormal[i], this.rotatedNormal, i * 3);
+		}
+		
+		if (this.scale == null) {
+			this.scale = new Vec3f();
 		}
 		
-		this.scale = noTranslation.toScaleVector();
+		this.scale.set((float)Math.sqrt(modelMatrix.m00 * modelMatrix.m00 + modelMatrix.m01 * modelMatrix.m01 + modelMatrix.m02 * modelMatrix.m02),
+						(float)Math.sqrt(modelMatrix.m10 * modelMatrix.m10 + modelMatrix.m11 * modelMatrix.m11 + modelMatrix.m12 * modelMatrix.m12),
+						(float)Math.sqrt(modelMatrix.m20 * modelMatrix.m20 + modelMatrix.m21 * modelMatrix.m21 + modelMatrix.m22 * modelMatrix.m22));
+		this.updateExtents();
 		
 		super.transform(modelMatrix);
 	}
 	
+	/**
+	 * Applies the rotation and scale of the matrix, the translation is ignored
+	 */
+	private static void rotate(OpenMatrix4f matrix, Vec3 src, double[] dest, int offset) {
+		dest[offset] = matrix.m00 * src.x + matrix.m10 * src.y + matrix.m20 * src.z;
+		dest[offset + 1] = matrix.m01 * src.x + matrix.m11 * src.y + matrix.m21 * src.z;
+		dest[offset + 2] = matrix.m02 * src.x + matrix.m12 * src.y + matrix.m22 * src.z;
+	}
+	
+	private void updateExtents() {
+		for (int axis = 0; axis < 3; axis++) {
+			double extent = 0.0D;
+			
+			for (int i = axis; i < this.rotatedVertex.length; i += 3) {
+				extent = Math.max(extent, Math.abs(this.rotatedVertex[i]));
+			}
+			
+			this.axisExtent[axis] = extent;
+		}
+		
+		for (int i = 0; i < this.normalExtent.length; i++) {
+			this.normalExtent[i] = this.projectionRadius(this.rotatedNormal[i * 3], this.rotatedNormal[i * 3 + 1], this.rotatedNormal[i * 3 + 2]);
+		}
+	}
+	
+	/**
+	 * Projections aren't normalized in the separating axis tests since both sides of a comparison are scaled by the axis length
+	 */
+	private double projectionRadius(double axisX, double axisY, double axisZ) {
+		double radius = 0.0D;
+		
+		for (int i = 0; i < this.rotatedVertex.length; i += 3) {
+			radius = Math.max(radius, Math.abs(this.rotatedVertex[i] * axisX + this.rotatedVertex[i + 1] * axisY + this.rotatedVertex[i + 2] * axisZ));
+		}
+		
+		return radius;
+	}
+	
 	@Override
 	protected AABB getHitboxAABB() {
 		return this.outerAABB.inflate((this.outerAABB.maxX - this.outerAABB.minX) * this.scale.x,
@@ -145,16 +183,18 @@ public class OBBCollider extends Collider {
 	}
 	
 	public boolean isCollide(OBBCollider opponent) {
-		Vec3 toOpponent = opponent.worldCenter.subtract(this.worldCenter);
+		double toX = opponent.worldCenter.x - this.worldCenter.x;
+		double toY = opponent.worldCenter.y - this.worldCenter.y;
+		double toZ = opponent.worldCenter.z - this.worldCenter.z;
 		
-		for (Vec3 seperateAxis : this.rotatedNormal) {
-			if (!collisionDetection(seperateAxis, toOpponent, this, opponent)) {
+		for (int i = 0; i < this.rotatedNormal.length; i += 3) {
+			if (isSeparated(this.rotatedNormal, i, toX, toY, toZ, this, opponent)) {
 				return false;
 			}
 		}
 		
-		for (Vec3 seperateAxis : opponent.rotatedNormal) {
-			if (!collisionDetection(seperateAxis, toOpponent, this, opponent)) {
+		for (int i = 0; i < opponent.rotatedNormal.length; i += 3) {
+			if (isSeparated(opponent.rotatedNormal, i, toX, toY, toZ, this, opponent)) {
 				return false;
 			}
 		}
@@ -181,44 +221,75 @@ public class OBBCollider extends Collider {
 		return true;
 	}
 	
+	private static boolean isSeparated(double[] axes, int offset, double toX, double toY, double toZ, OBBCollider box1, OBBCollider box2) {
+		double axisX = axes[offset];
+		double axisY = axes[offset + 1];
+		double axisZ = axes[offset + 2];
+		
+		return Math.abs(toX * axisX + toY * axisY + toZ * axisZ) > box1.projectionRadius(axisX, axisY, axisZ) + box2.projectionRadius(axisX, axisY, axisZ);
+	}
+	
 	@Override
 	public boolean isCollide(Entity entity) {
-		OBBCollider obb = new OBBCollider(entity.getBoundingBox());
-		return isCollide(obb);
+		return this.isCollide(entity.getBoundingBox(), 0.0D, 0.0D, 0.0D);
+	}
+	
+	/**
+	 * Separating axis test against an axis aligned box without allocating
+	 */
+	public boolean isCollide(AABB aabb) {
+		return this.isCollide(aabb, 0.0D, 0.0D, 0.0D);
 	}
 	
 	@Override
-	public OBBCollider deepCopy() {
-		Vec3 xyzVec = this.modelVertex[1];
-		return new OBBCollider(xyzVec.x, xyzVec.y, xyzVec.z, this.modelCenter.x, this.modelCenter.y, this.modelCenter.z);
+	protected boolean isSweptCollide(Entity opponent, double motionX, double motionY, double motionZ) {
+		return this.isCollide(opponent.getBoundingBox(), motionX, motionY, motionZ);
 	}
 	
-	private static boolean collisionDetection(Vec3 seperateAxis, Vec3 toOpponent, OBBCollider box1, OBBCollider box2) {
-		Vec3 maxProj1 = null, maxProj2 = null, distance;
-		double maxDot1 = -1, maxDot2 = -1;
-		distance = seperateAxis.dot(toOpponent) > 0.0F ? toOpponent : toOpponent.scale(-1.0D);
+	/**
+	 * Separating axis test of this box translated along the motion against the axis aligned box. The motion is in
+	 * the coordinates of worldCenter and the orientation of the box is kept during the motion.
+	 */
+	protected boolean isCollide(AABB aabb, double motionX, double motionY, double motionZ) {
+		double halfX = (aabb.maxX - aabb.minX) * 0.5D;
+		double halfY = (aabb.maxY - aabb.minY) * 0.5D;
+		double halfZ = (aabb.maxZ - aabb.minZ) * 0.5D;
+		// worldCenter has negated x and z
+		double toX = -(aabb.minX + halfX) - this.worldCenter.x;
+		double toY = aabb.minY + halfY - this.worldCenter.y;
+		double toZ = -(aabb.minZ + halfZ) - this.worldCenter.z;
 		
-		for (Vec3 vertexVector : box1.rotatedVertex) {
-			Vec3 temp = seperateAxis.dot(vertexVector) > 0.0F ? vertexVector : vertexVector.scale(-1.0D);
-			double dot = seperateAxis.dot(temp);
-			
-			if (dot > maxDot1) {
-				maxDot1 = dot;
-				maxProj1 = temp;
-			}
+		// The axes of the aabb first, where the radius of this box is already known
+		if (isSeparatedInMotion(toX, motionX, this.axisExtent[0] + halfX) || isSeparatedInMotion(toY, motionY, this.axisExtent[1] + halfY) || isSeparatedInMotion(toZ, motionZ, this.axisExtent[2] + halfZ)) {
+			return false;
 		}
 		
-		for (Vec3 vertexVector : box2.rotatedVertex) {
-			Vec3 temp = seperateAxis.dot(vertexVector) > 0.0F ? vertexVector : vertexVector.scale(-1.0D);
-			double dot = seperateAxis.dot(temp);
+		for (int i = 0; i < this.normalExtent.length; i++) {
+			double axisX = this.rotatedNormal[i * 3];
+			double axisY = this.rotatedNormal[i * 3 + 1];
+			double axisZ = this.rotatedNormal[i * 3 + 2];
+			double radius = this.normalExtent[i] + Math.abs(axisX) * halfX + Math.abs(axisY) * halfY + Math.abs(axisZ) * halfZ;
 			
-			if (dot > maxDot2) {
-				maxDot2 = dot;
-				maxProj2 = temp;
+			if (isSeparatedInMotion(toX * axisX + toY * axisY + toZ * axisZ, motionX * axisX + motionY * axisY + motionZ * axisZ, radius)) {
+				return false;
 			}
 		}
-
-		return !(MathUtils.projectVector(distance, seperateAxis).length() > MathUtils.projectVector(maxProj1, seperateAxis).length() + MathUtils.projectVector(maxProj2, seperateAxis).length());
+		
+		return true;
+	}
+	
+	/**
+	 * @param distance projected distance to the opponent at the end of the motion
+	 */
+	private static boolean isSeparatedInMotion(double distance, double motion, double radius) {
+		double start = distance + motion;
+		return Math.min(start, distance) > radius || Math.max(start, distance) < -radius;
+	}
+	
+	@Override
+	public OBBCollider deepCopy() {
+		Vec3 xyzVec = this.modelVertex[1];
+		return new OBBCollider(xyzVec.x, xyzVec.y, xyzVec.z, this.modelCenter.x, this.modelCenter.y, this.modelCenter.z);
 	}
 	
 	@Override
@@ -235,11 +306,11 @@ public class OBBCollider extends Collider {
 	@Override
 	@OnlyIn(Dist.CLIENT)
 	public void drawInternal(PoseStack poseStack, VertexConsumer vertexConsumer, Armature armature, Joint joint, Pose pose1, Pose pose2, float partialTicks, int color) {
-		int pathIndex = armature.searchPathIndex(joint.getName());
+		boolean isRootJoint = armature.isRootJoint(joint);
 		OpenMatrix4f poseMatrix;
 		Pose interpolatedPose = Pose.interpolatePose(pose1, pose2, partialTicks);
 		
-		if (pathIndex == -1) {
+		if (isRootJoint) {
 			JointTransform jt = interpolatedPose.getOrDefaultTransform("Root");
 			jt.rotation().x = 0.0F;
 			jt.rotation().y = 0.0F;
@@ -248,7 +319,7 @@ public class OBBCollider extends Collider {
 			
 			poseMatrix = jt.getAnimationBindedMatrix(armature.rootJoint, new OpenMatrix4f()).removeTranslation();
 		} else {
-			poseMatrix = armature.getBindedTransformByJointIndex(interpolatedPose, pathIndex);
+			poseMatrix = armature.getBindedTransformFor(interpolatedPose, joint);
 		}
 		
 		OpenMatrix4f transpose = new OpenMatrix4f();
@@ -0,0 +1,316 @@
+package yesman.epicfight.api.data.reloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.registries.ForgeRegistries;
+import yesman.epicfight.api.exception.DatapackException;
+import yesman.epicfight.main.EpicFightMod;
+import yesman.epicfight.network.EpicFightNetworkManager;
+import yesman.epicfight.network.client.CPRequestDatapackSync;
+import yesman.epicfight.network.server.SPDatapackSync;
+import yesman.epicfight.network.server.SPDatapackSyncChunk;
+import yesman.epicfight.network.server.SPDatapackSyncDelta;
+import yesman.epicfight.network.server.SPDatapackSyncHash;
+import yesman.epicfight.world.capabilities.item.WeaponTypeReloadListener;
+
+/**
+ * Weapon type, armor, weapon and mob patch data synchronized to clients. The server encodes them once per reload into
+ * a compressed payload addressed by its hash, and offers the hash to logging in players. A client that has the payload
+ * in its disk cache applies it without downloading, otherwise it requests the payload and receives it in chunks.
+ */
+public class DatapackSyncCache {
+	public static final int CHUNK_SIZE = 262144;
+	private static final int MAX_CACHED_FILES = 8;
+	private static final SPDatapackSync.Type[] SYNCED_TYPES = { SPDatapackSync.Type.WEAPON_TYPE, SPDatapackSync.Type.ARMOR, SPDatapackSync.Type.WEAPON, SPDatapackSync.Type.MOB };
+	
+	private static DatapackSyncCache serverCache;
+	private static final Map<ServerPlayer, String> OFFERED_HASHES = new WeakHashMap<> ();
+	
+	private static String receivingHash;
+	private static byte[][] receivedChunks;
+	private static int receivedChunkCount;
+	
+	private final String hash;
+	private final byte[][] chunks;
+	private final int size;
+	
+	private DatapackSyncCache(byte[] payload) {
+		this.hash = hash(payload);
+		this.size = payload.length;
+		this.chunks = new byte[Math.max(1, (payload.length + CHUNK_SIZE - 1) / CHUNK_SIZE)][];
+		
+		for (int i = 0; i < this.chunks.length; i++) {
+			this.chunks[i] = Arrays.copyOfRange(payload, i * CHUNK_SIZE, Math.min(payload.length, (i + 1) * CHUNK_SIZE));
+		}
+	}
+	
+	/**
+	 * Returns the payload of the current data, encoding it at the first call after a reload
+	 */
+	public static synchronized DatapackSyncCache getServerCache() {
+		if (serverCache == null) {
+			long startTime = System.nanoTime();
+			serverCache = new DatapackSyncCache(encode());
+			EpicFightMod.LOGGER.debug("Encoded datapack sync payload " + serverCache.hash + " (" + serverCache.size + " bytes) in " + (System.nanoTime() - startTime) / 1000000L + "ms");
+		}
+		
+		return serverCache;
+	}
+	
+	/**
+	 * Called when the data is reloaded or the server stops. Offered hashes are kept, so a player requesting the old
+	 * payload is offered the new one.
+	 */
+	public static synchronized void invalidate() {
+		serverCache = null;
+	}
+	
+	/**
+	 * Called after a reload, returns the changes for the connected players. If weapon types have changed the players
+	 * are offered the whole data, and the delta holds only the removals since the whole data is merged into theirs.
+	 */
+	public static synchronized SPDatapackSyncDelta reload() {
+		invalidate();
+		
+		List<Integer> removedItems = ItemCapabilityReloadListener.getRemovedItems().stream().map(Item::getId).collect(Collectors.toList());
+		List<ResourceLocation> removedMobPatches = MobPatchReloadListener.getRemovedEntityTypes().map(ForgeRegistries.ENTITY_TYPES::getKey).collect(Collectors.toList());
+		
+		if (needsWholeData()) {
+			return new SPDatapackSyncDelta(Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList(), removedItems, removedMobPatches);
+		}
+		
+		return new SPDatapackSyncDelta(
+			ItemCapabilityReloadListener.getChangedArmorDataStream().collect(Collectors.toList()),
+			ItemCapabilityReloadListener.getChangedWeaponDataStream().collect(Collectors.toList()),
+			MobPatchReloadListener.getChangedDataStream().collect(Collectors.toList()),
+			removedItems,
+			removedMobPatches
+		);
+	}
+	
+	/**
+	 * Weapons are built from the weapon type builders, so the connected players need the whole data when they changed
+	 */
+	public static boolean needsWholeData() {
+		return WeaponTypeReloadListener.hasChanged();
+	}
+	
+	public static synchronized void offer(ServerPlayer player) {
+		DatapackSyncCache cache = getServerCache();
+		OFFERED_HASHES.put(player, cache.hash);
+		EpicFightNetworkManager.sendToPlayer(new SPDatapackSyncHash(cache.hash, cache.size), player);
+	}
+	
+	/**
+	 * Sends the payload to a player that doesn't have it. Only an offered payload is sent once, and an outdated request
+	 * is answered by offering the current payload.
+	 */
+	public static synchronized void sendChunks(ServerPlayer player, String hash) {
+		if (!hash.equals(OFFERED_HASHES.remove(player))) {
+			return;
+		}
+		
+		DatapackSyncCache cache = getServerCache();
+		
+		if (!cache.hash.equals(hash)) {
+			offer(player);
+			return;
+		}
+		
+		for (int i = 0; i < cache.chunks.length; i++) {
+			EpicFightNetworkManager.sendToPlayer(new SPDatapackSyncChunk(hash, i, cache.chunks.length, cache.chunks[i]), player);
+		}
+	}
+	
+	private static byte[] encode() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+			for (SPDatapackSync.Type type : SYNCED_TYPES) {
+				List<CompoundTag> tags = getTags(type);
+				output.writeInt(tags.size());
+				
+				for (CompoundTag tag : tags) {
+					NbtIo.write(tag, output);
+				}
+			}
+		} catch (IOException e) {
+			throw new DatapackException("Failed to encode datapack sync payload: " + e.getMessage());
+		}
+		
+		return bytes.toByteArray();
+	}
+	
+	/**
+	 * The tags are sorted so the same data is encoded into the same payload after a restart
+	 */
+	private static List<CompoundTag> getTags(SPDatapackSync.Type type) {
+		return switch (type) {
+			case WEAPON_TYPE -> sorted(WeaponTypeReloadListener.getWeaponTypeDataStream(), Comparator.comparing((tag) -> tag.getString("registry_name")));
+			case ARMOR -> sorted(ItemCapabilityReloadListener.getArmorDataStream(), Comparator.comparingInt((tag) -> tag.getInt("id")));
+			case WEAPON -> sorted(ItemCapabilityReloadListener.getWeaponDataStream(), Comparator.comparingInt((tag) -> tag.getInt("id")));
+			case MOB -> sorted(MobPatchReloadListener.getDataStream(), Comparator.comparing((tag) -> tag.getString("id")));
+			default -> Lists.newArrayList();
+		};
+	}
+	
+	private static List<CompoundTag> sorted(Stream<CompoundTag> tags, Comparator<CompoundTag> comparator) {
+		return tags.sorted(comparator).collect(Collectors.toList());
+	}
+	
+	private static List<SPDatapackSync> decode(byte[] payload) throws IOException {
+		List<SPDatapackSync> packets = Lists.newArrayList();
+		
+		try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+			for (SPDatapackSync.Type type : SYNCED_TYPES) {
+				SPDatapackSync packet = new SPDatapackSync(input.readInt(), type);
+				
+				for (int i = 0; i < packet.getTags().length; i++) {
+					packet.write(NbtIo.read(input, NbtAccounter.UNLIMITED));
+				}
+				
+				packets.add(packet);
+			}
+		}
+		
+		return packets;
+	}
+	
+	private static String hash(byte[] payload) {
+		return Hashing.sha256().hashBytes(payload).toString();
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	public static void onHashReceived(String hash) {
+		receivingHash = null;
+		receivedChunks = null;
+		
+		if (!hash.matches("[0-9a-f]{64}")) {
+			throw new DatapackException("Invalid datapack sync hash " + hash);
+		}
+		
+		Path cacheFile = getCacheDirectory().resolve(hash + ".bin");
+		
+		if (Files.isRegularFile(cacheFile)) {
+			try {
+				byte[] payload = Files.readAllBytes(cacheFile);
+				
+				if (hash(payload).equals(hash)) {
+					// Touched so the least recently used payloads are removed first
+					Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+					apply(payload);
+					return;
+				}
+			} catch (IOException e) {
+				EpicFightMod.LOGGER.warn("Failed to read cached datapack " + cacheFile + ": " + e.getMessage());
+			}
+		}
+		
+		receivingHash = hash;
+		EpicFightNetworkManager.sendToServer(new CPRequestDatapackSync(hash));
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	public static void onChunkReceived(String hash, int index, int total, byte[] chunk) {
+		if (!hash.equals(receivingHash) || index < 0 || index >= total) {
+			return;
+		}
+		
+		if (receivedChunks == null || receivedChunks.length != total) {
+			receivedChunks = new byte[total][];
+			receivedChunkCount = 0;
+		}
+		
+		if (receivedChunks[index] == null) {
+			receivedChunks[index] = chunk;
+			receivedChunkCount++;
+		}
+		
+		if (receivedChunkCount < total) {
+			return;
+		}
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		for (byte[] receivedChunk : receivedChunks) {
+			bytes.writeBytes(receivedChunk);
+		}
+		
+		byte[] payload = bytes.toByteArray();
+		receivingHash = null;
+		receivedChunks = null;
+		
+		if (!hash(payload).equals(hash)) {
+			throw new DatapackException("Received datapack doesn't match its hash " + hash);
+		}
+		
+		save(hash, payload);
+		apply(payload);
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	private static void apply(byte[] payload) {
+		try {
+			for (SPDatapackSync packet : decode(payload)) {
+				SPDatapackSync.process(packet);
+			}
+		} catch (IOException e) {
+			throw new DatapackException("Failed to decode datapack sync payload: " + e.getMessage());
+		}
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	private static void save(String hash, byte[] payload) {
+		Path directory = getCacheDirectory();
+		
+		try {
+			Files.createDirectories(directory);
+			Files.write(directory.resolve(hash + ".bin"), payload);
+			
+			List<Path> cachedFiles;
+			
+			try (Stream<Path> files = Files.list(directory)) {
+				cachedFiles = files.filter((path) -> path.getFileName().toString().endsWith(".bin")).sorted(Comparator.comparingLong((path) -> path.toFile().lastModified())).collect(Collectors.toList());
+			}
+			
+			for (int i = 0; i < cachedFiles.size() - MAX_CACHED_FILES; i++) {
+				Files.deleteIfExists(cachedFiles.get(i));
+			}
+		} catch (IOException e) {
+			EpicFightMod.LOGGER.warn("Failed to cache datapack " + hash + ": " + e.getMessage());
+		}
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	private static Path getCacheDirectory() {
+		return Minecraft.getInstance().gameDirectory.toPath().resolve(EpicFightMod.MODID).resolve("datapack_cache");
+	}
+}
\ No newline at end of file
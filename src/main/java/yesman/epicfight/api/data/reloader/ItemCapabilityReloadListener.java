@@ -3,11 +3,13 @@ package yesman.epicfight.api.data.reloader;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
@@ -36,6 +38,7 @@ import yesman.epicfight.data.conditions.EpicFightConditions;
 import yesman.epicfight.gameasset.ColliderPreset;
 import yesman.epicfight.main.EpicFightMod;
 import yesman.epicfight.network.server.SPDatapackSync;
+import yesman.epicfight.network.server.SPDatapackSyncDelta;
 import yesman.epicfight.world.capabilities.item.ArmorCapability;
 import yesman.epicfight.world.capabilities.item.CapabilityItem;
 import yesman.epicfight.world.capabilities.item.Style;
@@ -50,21 +53,19 @@ public class ItemCapabilityReloadListener extends SimpleJsonResourceReloadListen
 	private static final Gson GSON = (new GsonBuilder()).create();
 	private static final Map<Item, CompoundTag> CAPABILITY_ARMOR_DATA_MAP = Maps.newHashMap();
 	private static final Map<Item, CompoundTag> CAPABILITY_WEAPON_DATA_MAP = Maps.newHashMap();
+	private static final ResourceDelta<Item> ARMOR_DELTA = new ResourceDelta<> ();
+	private static final ResourceDelta<Item> WEAPON_DELTA = new ResourceDelta<> ();
 	
 	public ItemCapabilityReloadListener() {
 		super(GSON, DIRECTORY);
 	}
 	
-	@Override
-	protected Map<ResourceLocation, JsonElement> prepare(ResourceManager resourceManager, ProfilerFiller profileIn) {
-		CAPABILITY_ARMOR_DATA_MAP.clear();
-		CAPABILITY_WEAPON_DATA_MAP.clear();
-		
-		return super.prepare(resourceManager, profileIn);
-	}
-	
 	@Override
 	protected void apply(Map<ResourceLocation, JsonElement> objectIn, ResourceManager resourceManagerIn, ProfilerFiller profilerIn) {
+		// Weapons are built from weapon types, which are rebuilt before item capabilities
+		ARMOR_DELTA.begin(false);
+		WEAPON_DELTA.begin(WeaponTypeReloadListener.hasChanged());
+		
 		for (Map.Entry<ResourceLocation, JsonElement> entry : objectIn.entrySet()) {
 			ResourceLocation rl = entry.getKey();
 			String path = rl.getPath();
@@ -78,6 +79,12 @@ public class ItemCapabilityReloadListener extends SimpleJsonResourceReloadListen
 					continue;
 				}
 				
+				ResourceDelta<Item> delta = str[0].equals("armors") ? ARMOR_DELTA : str[0].equals("weapons") ? WEAPON_DELTA : null;
+				
+				if (delta == null || delta.isUnchanged(rl, entry.getValue())) {
+					continue;
+				}
+				
 				Item item = ForgeRegistries.ITEMS.getValue(registryName);
 				CompoundTag tag = null;
 				
@@ -97,6 +104,8 @@ public class ItemCapabilityReloadListener extends SimpleJsonResourceReloadListen
 						ItemCapabilityProvider.put(item, capability);
 						CAPABILITY_WEAPON_DATA_MAP.put(item, tag);
 					}
+					
+					delta.rebuilt(rl, item);
 				} catch (Exception e) {
 					EpicFightMod.LOGGER.warn("Error while deserializing datapack for " + registryName);
 					e.printStackTrace();
@@ -104,9 +113,58 @@ public class ItemCapabilityReloadListener extends SimpleJsonResourceReloadListen
 			}
 		}
 		
+		ARMOR_DELTA.end().forEach(CAPABILITY_ARMOR_DATA_MAP::remove);
+		WEAPON_DELTA.end().forEach(CAPABILITY_WEAPON_DATA_MAP::remove);
+		removeCapabilities(getRemovedItems());
+		
 		ItemCapabilityProvider.addDefaultItems();
 	}
 	
+	/**
+	 * Items whose capabilities were removed in the last reload, they're given the default capability of their class
+	 */
+	public static Set<Item> getRemovedItems() {
+		Set<Item> removed = Sets.newHashSet();
+		ARMOR_DELTA.getRemoved().stream().filter((item) -> !CAPABILITY_WEAPON_DATA_MAP.containsKey(item)).forEach(removed::add);
+		WEAPON_DELTA.getRemoved().stream().filter((item) -> !CAPABILITY_ARMOR_DATA_MAP.containsKey(item)).forEach(removed::add);
+		
+		return removed;
+	}
+	
+	/**
+	 * Called when the server stops, the client clears the shared capabilities of an integrated server on logout
+	 */
+	public static void resetDelta() {
+		ARMOR_DELTA.reset();
+		WEAPON_DELTA.reset();
+	}
+	
+	public static boolean hasChanged() {
+		return ARMOR_DELTA.hasChanges() || WEAPON_DELTA.hasChanges();
+	}
+	
+	public static Stream<CompoundTag> getChangedArmorDataStream() {
+		return ARMOR_DELTA.getChanged().stream().map((item) -> {
+			CompoundTag tag = CAPABILITY_ARMOR_DATA_MAP.get(item);
+			tag.putInt("id", Item.getId(item));
+			return tag;
+		});
+	}
+	
+	public static Stream<CompoundTag> getChangedWeaponDataStream() {
+		return WEAPON_DELTA.getChanged().stream().map((item) -> {
+			CompoundTag tag = CAPABILITY_WEAPON_DATA_MAP.get(item);
+			tag.putInt("id", Item.getId(item));
+			return tag;
+		});
+	}
+	
+	private static void removeCapabilities(Set<Item> items) {
+		for (Item item : items) {
+			ItemCapabilityProvider.remove(item);
+		}
+	}
+	
 	public static CapabilityItem deserializeArmor(Item item, CompoundTag tag) {
 		ArmorCapability.Builder builder = ArmorCapability.builder();
 		
@@ -294,4 +352,41 @@ public class ItemCapabilityReloadListener extends SimpleJsonResourceReloadListen
 			ItemCapabilityProvider.addDefaultItems();
 		}
 	}
+	
+	/**
+	 * Applies the capabilities changed or removed by a reload while the player is connected
+	 */
+	@OnlyIn(Dist.CLIENT)
+	public static void processServerDelta(SPDatapackSyncDelta packet) {
+		for (CompoundTag tag : packet.getArmors()) {
+			Item item = Item.byId(tag.getInt("id"));
+			CAPABILITY_ARMOR_DATA_MAP.put(item, tag);
+			putCapability(item, () -> deserializeArmor(item, tag));
+		}
+		
+		for (CompoundTag tag : packet.getWeapons()) {
+			Item item = Item.byId(tag.getInt("id"));
+			CAPABILITY_WEAPON_DATA_MAP.put(item, tag);
+			putCapability(item, () -> deserializeWeapon(item, tag));
+		}
+		
+		for (int id : packet.getRemovedItems()) {
+			Item item = Item.byId(id);
+			CAPABILITY_ARMOR_DATA_MAP.remove(item);
+			CAPABILITY_WEAPON_DATA_MAP.remove(item);
+			ItemCapabilityProvider.remove(item);
+		}
+		
+		ItemCapabilityProvider.addDefaultItems();
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	private static void putCapability(Item item, Supplier<CapabilityItem> deserializer) {
+		try {
+			ItemCapabilityProvider.put(item, deserializer.get());
+		} catch (Exception e) {
+			EpicFightMod.LOGGER.warn("Can't read item capability for " + item);
+			e.printStackTrace();
+		}
+	}
 }
\ No newline at end of file
@@ -55,6 +55,7 @@ import yesman.epicfight.gameasset.EpicFightSounds;
 import yesman.epicfight.main.EpicFightMod;
 import yesman.epicfight.model.armature.HumanoidArmature;
 import yesman.epicfight.network.server.SPDatapackSync;
+import yesman.epicfight.network.server.SPDatapackSyncDelta;
 import yesman.epicfight.particle.EpicFightParticles;
 import yesman.epicfight.particle.HitParticleType;
 import yesman.epicfight.world.capabilities.entitypatch.CustomHumanoidMobPatch;
@@ -77,20 +78,16 @@ public class MobPatchReloadListener extends SimpleJsonResourceReloadListener {
 	private static final Gson GSON = (new GsonBuilder()).create();
 	private static final Map<EntityType<?>, CompoundTag> TAGMAP = Maps.newHashMap();
 	private static final Map<EntityType<?>, AbstractMobPatchProvider> MOB_PATCH_PROVIDERS = Maps.newHashMap();
+	private static final ResourceDelta<EntityType<?>> DELTA = new ResourceDelta<> ();
 	
 	public MobPatchReloadListener() {
 		super(GSON, DIRECTORY);
 	}
 	
-	@Override
-	protected Map<ResourceLocation, JsonElement> prepare(ResourceManager resourceManager, ProfilerFiller profileIn) {
-		MOB_PATCH_PROVIDERS.clear();
-		TAGMAP.clear();
-		return super.prepare(resourceManager, profileIn);
-	}
-	
 	@Override
 	protected void apply(Map<ResourceLocation, JsonElement> objectIn, ResourceManager resourceManager, ProfilerFiller profilerIn) {
+		DELTA.begin(false);
+		
 		for (Map.Entry<ResourceLocation, JsonElement> entry : objectIn.entrySet()) {
 			ResourceLocation rl = entry.getKey();
 			String pathString = rl.getPath();
@@ -101,6 +98,10 @@ public class MobPatchReloadListener extends SimpleJsonResourceReloadListener {
 				continue;
 			}
 			
+			if (DELTA.isUnchanged(rl, entry.getValue())) {
+				continue;
+			}
+			
 			EntityType<?> entityType = ForgeRegistries.ENTITY_TYPES.getValue(registryName);
 			CompoundTag tag = null;
 			
@@ -115,10 +116,47 @@ public class MobPatchReloadListener extends SimpleJsonResourceReloadListener {
 			EntityPatchProvider.putCustomEntityPatch(entityType, (entity) -> () -> MOB_PATCH_PROVIDERS.get(entity.getType()).get(entity));
 			TAGMAP.put(entityType, filterClientData(tag));
 			
+			DELTA.rebuilt(rl, entityType);
+			
 			if (EpicFightMod.isPhysicalClient()) {
 				ClientEngine.getInstance().renderEngine.registerCustomEntityRenderer(entityType, tag.contains("preset") ? tag.getString("preset") : tag.getString("renderer"), tag);
 			}
 		}
+		
+		DELTA.end().forEach(MobPatchReloadListener::remove);
+	}
+	
+	private static void remove(EntityType<?> entityType) {
+		MOB_PATCH_PROVIDERS.remove(entityType);
+		TAGMAP.remove(entityType);
+		EntityPatchProvider.removeCustomEntityPatch(entityType);
+		
+		if (EpicFightMod.isPhysicalClient()) {
+			ClientEngine.getInstance().renderEngine.unregisterCustomEntityRenderer(entityType);
+		}
+	}
+	
+	/**
+	 * Called when the server stops, the client clears the shared capabilities of an integrated server on logout
+	 */
+	public static void resetDelta() {
+		DELTA.reset();
+	}
+	
+	public static boolean hasChanged() {
+		return DELTA.hasChanges();
+	}
+	
+	public static Stream<CompoundTag> getChangedDataStream() {
+		return DELTA.getChanged().stream().map((entityType) -> {
+			CompoundTag tag = TAGMAP.get(entityType);
+			tag.putString("id", ForgeRegistries.ENTITY_TYPES.getKey(entityType).toString());
+			return tag;
+		});
+	}
+	
+	public static Stream<EntityType<?>> getRemovedEntityTypes() {
+		return DELTA.getRemoved().stream();
 	}
 	
 	public static abstract class AbstractMobPatchProvider {
@@ -562,4 +600,18 @@ public class MobPatchReloadListener extends SimpleJsonResourceReloadListener {
 			}
 		}
 	}
+	
+	/**
+	 * Applies the mob patches changed or removed by a reload while the player is connected
+	 */
+	@OnlyIn(Dist.CLIENT)
+	public static void processServerDelta(SPDatapackSyncDelta packet) {
+		SPDatapackSync changed = new SPDatapackSync(packet.getMobPatches().size(), SPDatapackSync.Type.MOB);
+		packet.getMobPatches().forEach(changed::write);
+		processServerPacket(changed);
+		
+		for (ResourceLocation rl : packet.getRemovedMobPatches()) {
+			remove(ForgeRegistries.ENTITY_TYPES.getValue(rl));
+		}
+	}
 }
\ No newline at end of file
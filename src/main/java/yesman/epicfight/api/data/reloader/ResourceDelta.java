@@ -0,0 +1,106 @@
+package yesman.epicfight.api.data.reloader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Compares the resources of a reload listener with the previous reload by their hashes, so only the entries of added
+ * or changed resources are rebuilt. Keys are what the entries are stored by, e.g. items or entity types.
+ */
+public class ResourceDelta<K> {
+	private Map<ResourceLocation, HashCode> hashes = Maps.newHashMap();
+	private Map<ResourceLocation, K> keys = Maps.newHashMap();
+	private Map<ResourceLocation, HashCode> newHashes = Maps.newHashMap();
+	private Map<ResourceLocation, K> newKeys = Maps.newHashMap();
+	private final Map<ResourceLocation, HashCode> pendingHashes = Maps.newHashMap();
+	private final Set<K> changed = Sets.newHashSet();
+	private final Set<K> removed = Sets.newHashSet();
+	private boolean rebuildAll;
+	
+	/**
+	 * Starts a reload, all entries are rebuilt if rebuildAll is true
+	 */
+	public void begin(boolean rebuildAll) {
+		this.newHashes = Maps.newHashMap();
+		this.newKeys = Maps.newHashMap();
+		this.pendingHashes.clear();
+		this.changed.clear();
+		this.removed.clear();
+		this.rebuildAll = rebuildAll;
+	}
+	
+	/**
+	 * Returns true if the resource is the same as in the previous reload, then its entry is kept
+	 */
+	public boolean isUnchanged(ResourceLocation rl, JsonElement json) {
+		HashCode hash = Hashing.sha256().hashString(json.toString(), StandardCharsets.UTF_8);
+		
+		if (!this.rebuildAll && hash.equals(this.hashes.get(rl))) {
+			this.newHashes.put(rl, hash);
+			this.newKeys.put(rl, this.keys.get(rl));
+			return true;
+		}
+		
+		this.pendingHashes.put(rl, hash);
+		
+		return false;
+	}
+	
+	/**
+	 * Called when the entry of a changed resource is rebuilt
+	 */
+	public void rebuilt(ResourceLocation rl, K key) {
+		this.newHashes.put(rl, this.pendingHashes.get(rl));
+		this.newKeys.put(rl, key);
+		this.changed.add(key);
+	}
+	
+	/**
+	 * Finishes the reload and returns the keys of the entries whose resources are gone or failed to load
+	 */
+	public Set<K> end() {
+		Set<K> keptKeys = Sets.newHashSet(this.newKeys.values());
+		
+		for (Map.Entry<ResourceLocation, K> entry : this.keys.entrySet()) {
+			if (!keptKeys.contains(entry.getValue())) {
+				this.removed.add(entry.getValue());
+			}
+		}
+		
+		this.hashes = this.newHashes;
+		this.keys = this.newKeys;
+		
+		return this.removed;
+	}
+	
+	/**
+	 * Forgets the previous resources so the next reload rebuilds everything, e.g. when the entries were cleared
+	 */
+	public void reset() {
+		this.hashes = Maps.newHashMap();
+		this.keys = Maps.newHashMap();
+		this.changed.clear();
+		this.removed.clear();
+	}
+	
+	public Set<K> getChanged() {
+		return this.changed;
+	}
+	
+	public Set<K> getRemoved() {
+		return this.removed;
+	}
+	
+	public boolean hasChanges() {
+		return !this.changed.isEmpty() || !this.removed.isEmpty();
+	}
+}
\ No newline at end of file
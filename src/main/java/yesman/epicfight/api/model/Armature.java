@@ -2,8 +2,13 @@ package yesman.epicfight.api.model;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -15,11 +20,15 @@ import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import yesman.epicfight.api.animation.Joint;
 import yesman.epicfight.api.animation.JointTransform;
 import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.animation.TransformScratch;
 import yesman.epicfight.api.animation.TransformSheet;
 import yesman.epicfight.api.utils.math.OpenMatrix4f;
 import yesman.epicfight.main.EpicFightMod;
 
 public class Armature {
+	/** Never modified, the root joint binds to identity **/
+	private static final OpenMatrix4f ROOT_PARENT_TRANSFORM = new OpenMatrix4f();
+	
 	private final String name;
 	private final Int2ObjectMap<Joint> jointById;
 	private final Map<String, Joint> jointByName;
@@ -28,6 +37,14 @@ public class Armature {
 	public final Joint rootJoint;
 	private final TransformSheet actionAnimationCoord = new TransformSheet();
 	
+	/** Joints by id, -1 parent for the root **/
+	private final Joint[] joints;
+	private final int[] parentIds;
+	/** Joint ids ordered so that every parent comes before its children **/
+	private final int[] topologicalOrder;
+	/** Joint ids from the root to each joint, both inclusive **/
+	private final int[][] rootPaths;
+	
 	public Armature(String name, int jointNumber, Joint rootJoint, Map<String, Joint> jointMap) {
 		this.name = name;
 		this.jointNumber = jointNumber;
@@ -38,6 +55,31 @@ public class Armature {
 		this.jointByName.values().forEach((joint) -> {
 			this.jointById.put(joint.getId(), joint);
 		});
+		
+		this.joints = new Joint[jointNumber];
+		this.parentIds = new int[jointNumber];
+		this.rootPaths = new int[jointNumber][];
+		
+		int[] order = new int[jointNumber];
+		int orderedJoints = this.flatten(rootJoint, -1, new int[0], order, 0);
+		this.topologicalOrder = Arrays.copyOf(order, orderedJoints);
+	}
+	
+	private int flatten(Joint joint, int parentId, int[] parentPath, int[] order, int orderIndex) {
+		int id = joint.getId();
+		int[] path = Arrays.copyOf(parentPath, parentPath.length + 1);
+		path[parentPath.length] = id;
+		
+		this.joints[id] = joint;
+		this.parentIds[id] = parentId;
+		this.rootPaths[id] = path;
+		order[orderIndex++] = id;
+		
+		for (Joint subJoint : joint.getSubJoints()) {
+			orderIndex = this.flatten(subJoint, id, path, order, orderIndex);
+		}
+		
+		return orderIndex;
 	}
 	
 	protected Joint getOrLogException(Map<String, Joint> jointMap, String name) {
@@ -52,40 +94,155 @@ public class Armature {
 	
 	public OpenMatrix4f[] getPoseAsTransformMatrix(Pose pose, boolean applyOriginTransform) {
 		OpenMatrix4f[] jointMatrices = new OpenMatrix4f[this.jointNumber];
-		this.getPoseTransform(this.rootJoint, new OpenMatrix4f(), pose, jointMatrices, applyOriginTransform);
-		return jointMatrices;
+		
+		for (int i = 0; i < jointMatrices.length; i++) {
+			jointMatrices[i] = new OpenMatrix4f();
+		}
+		
+		return this.getPoseAsTransformMatrix(pose, applyOriginTransform, jointMatrices, new TransformScratch());
 	}
 	
 	/**
-	 * @param applyOriginTransform if you need a final pose of the animations, give it false. 
+	 * Writes the joint matrices into the given array, which must hold {@link #getJointNumber()} matrices
 	 */
-	private void getPoseTransform(Joint joint, OpenMatrix4f parentTransform, Pose pose, OpenMatrix4f[] jointMatrices, boolean applyOriginTransform) {
-		OpenMatrix4f result = pose.getOrDefaultTransform(joint.getName()).getAnimationBindedMatrix(joint, parentTransform);
-		jointMatrices[joint.getId()] = result;
-		
-		for (Joint joints : joint.getSubJoints()) {
-			this.getPoseTransform(joints, result, pose, jointMatrices, applyOriginTransform);
+	public OpenMatrix4f[] getPoseAsTransformMatrix(Pose pose, boolean applyOriginTransform, OpenMatrix4f[] jointMatrices, TransformScratch scratch) {
+		for (int id : this.topologicalOrder) {
+			int parentId = this.parentIds[id];
+			this.bindJoint(pose, id, parentId < 0 ? ROOT_PARENT_TRANSFORM : jointMatrices[parentId], jointMatrices[id], scratch);
 		}
 		
+		// Applied after the whole pass since children are bound to the matrices of their parents
 		if (applyOriginTransform) {
-			result.mulBack(joint.getToOrigin());
+			for (int id : this.topologicalOrder) {
+				jointMatrices[id].mulBack(this.joints[id].getToOrigin());
+			}
 		}
+		
+		return jointMatrices;
 	}
 	
+	private OpenMatrix4f bindJoint(Pose pose, int jointId, OpenMatrix4f parentTransform, OpenMatrix4f dest, TransformScratch scratch) {
+		Joint joint = this.joints[jointId];
+		JointTransform jt = pose.get(joint);
+		
+		if (jt == null) {
+			return OpenMatrix4f.mul(parentTransform, joint.getLocalTrasnform(), dest);
+		}
+		
+		return jt.getAnimationBindedMatrix(joint, parentTransform, dest, scratch);
+	}
+	
+	/**
+	 * Get binded position of joint. The joint is looked up by name, so joints of another armature sharing the names are allowed.
+	 */
 	public OpenMatrix4f getBindedTransformFor(Pose pose, Joint joint) {
-		return this.getBindedTransformByJointIndex(pose, this.searchPathIndex(joint.getName()));
+		return this.getBindedTransformByJointId(pose, this.getJointIdOrThrow(joint));
+	}
+	
+	/**
+	 * Binds only the joints from the root to the given joint
+	 */
+	public OpenMatrix4f getBindedTransformByJointId(Pose pose, int jointId) {
+		TransformScratch scratch = new TransformScratch();
+		OpenMatrix4f parent = new OpenMatrix4f();
+		OpenMatrix4f result = new OpenMatrix4f();
+		
+		for (int id : this.rootPaths[jointId]) {
+			OpenMatrix4f swap = parent;
+			parent = this.bindJoint(pose, id, this.parentIds[id] < 0 ? ROOT_PARENT_TRANSFORM : parent, result, scratch);
+			result = swap;
+		}
+		
+		return parent;
 	}
 	
-	/** Get binded position of joint **/
+	/**
+	 * Binds the joints from the root to the given joint that aren't marked in boundJoints yet, and marks them.
+	 * Both arrays must hold {@link #getJointNumber()} elements and belong to the given pose. Returns the matrix
+	 * of the joint in jointMatrices.
+	 */
+	public OpenMatrix4f bindJointPath(Pose pose, Joint joint, OpenMatrix4f[] jointMatrices, boolean[] boundJoints, TransformScratch scratch) {
+		return this.bindJointPath(pose, this.getJointIdOrThrow(joint), jointMatrices, boundJoints, scratch);
+	}
+	
+	private OpenMatrix4f bindJointPath(Pose pose, int jointId, OpenMatrix4f[] jointMatrices, boolean[] boundJoints, TransformScratch scratch) {
+		for (int id : this.rootPaths[jointId]) {
+			if (!boundJoints[id]) {
+				int parentId = this.parentIds[id];
+				this.bindJoint(pose, id, parentId < 0 ? ROOT_PARENT_TRANSFORM : jointMatrices[parentId], jointMatrices[id], scratch);
+				boundJoints[id] = true;
+			}
+		}
+		
+		return jointMatrices[jointId];
+	}
+	
+	/**
+	 * @deprecated a base-10 path can't address the tenth or later child of a joint. Use {@link #getBindedTransformFor(Pose, Joint)} or {@link #getBindedTransformByJointId(Pose, int)}.
+	 */
+	@Deprecated
 	public OpenMatrix4f getBindedTransformByJointIndex(Pose pose, int pathIndex) {
-		return getBindedJointTransformByIndexInternal(pose, this.rootJoint, new OpenMatrix4f(), pathIndex);
+		Joint joint = this.rootJoint;
+		
+		while (pathIndex > 0) {
+			joint = joint.getSubJoints().get(pathIndex % 10 - 1);
+			pathIndex /= 10;
+		}
+		
+		return this.getBindedTransformByJointId(pose, joint.getId());
+	}
+	
+	/**
+	 * Returns the joints from one joint down to its descendant, both inclusive
+	 */
+	public List<Joint> getJointPath(Joint from, Joint to) {
+		int fromId = this.getJointIdOrThrow(from);
+		int[] rootPath = this.rootPaths[this.getJointIdOrThrow(to)];
+		List<Joint> path = Lists.newArrayList();
+		
+		for (int id : rootPath) {
+			if (id == fromId || !path.isEmpty()) {
+				path.add(this.joints[id]);
+			}
+		}
+		
+		if (path.isEmpty()) {
+			throw new IllegalArgumentException(to.getName() + " is not a descendant of " + from.getName() + " in " + this.name);
+		}
+		
+		return path;
+	}
+	
+	/**
+	 * Returns the joints from the root down to the given joint, both inclusive
+	 */
+	public List<Joint> getJointPath(Joint to) {
+		return this.getJointPath(this.rootJoint, to);
+	}
+	
+	@Nullable
+	public Joint getParentJoint(Joint joint) {
+		int parentId = this.parentIds[this.getJointIdOrThrow(joint)];
+		return parentId < 0 ? null : this.joints[parentId];
 	}
 	
-	private OpenMatrix4f getBindedJointTransformByIndexInternal(Pose pose, Joint joint, OpenMatrix4f parentTransform, int pathIndex) {
-		JointTransform jt = pose.getOrDefaultTransform(joint.getName());
-		OpenMatrix4f result = jt.getAnimationBindedMatrix(joint, parentTransform);
-		int nextIndex = pathIndex % 10;
-		return nextIndex > 0 ? this.getBindedJointTransformByIndexInternal(pose, joint.getSubJoints().get(nextIndex - 1), result, pathIndex / 10) : result;
+	public boolean hasJoint(Joint joint) {
+		Joint armatureJoint = this.jointByName.get(joint.getName());
+		return armatureJoint != null && armatureJoint.getId() >= 0;
+	}
+	
+	public boolean isRootJoint(Joint joint) {
+		return this.rootJoint.getName().equals(joint.getName());
+	}
+	
+	private int getJointIdOrThrow(Joint joint) {
+		Joint armatureJoint = this.jointByName.get(joint.getName());
+		
+		if (armatureJoint == null || armatureJoint.getId() < 0) {
+			throw new IllegalArgumentException("failed to find joint " + joint.getName() + " in " + this.name);
+		}
+		
+		return armatureJoint.getId();
 	}
 	
 	public Joint searchJointById(int id) {
@@ -96,6 +253,10 @@ public class Armature {
 		return this.jointByName.get(name);
 	}
 	
+	/**
+	 * @deprecated base-10 paths break for joints with more than nine children, look joints up with {@link #searchJointByName(String)}
+	 */
+	@Deprecated
 	public int searchPathIndex(String joint) {
 		if (this.pathIndexMap.containsKey(joint)) {
 			return this.pathIndexMap.getInt(joint);
@@ -0,0 +1,431 @@
+package yesman.epicfight.api.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Compact binary form of the "animation" array of clip json files, read by {@link JsonModelLoader} when a
+ * {@link #EXTENSION} file sits next to the json in the same pack. Joints keyed at the same times share one time array,
+ * translations and scales are stored as floats and rotations as 16-bit quaternion components. Sheets that don't
+ * survive the decomposition within {@link #TOLERANCE} keep their raw matrices.
+ *
+ * This class must not depend on Minecraft classes since the build runs {@link #main(String[])} to convert the clips.
+ */
+public class BinaryClipFormat {
+	public static final String EXTENSION = ".efclip";
+	
+	private static final int MAGIC = 0x45464143;
+	private static final short VERSION = 1;
+	private static final int FLAG_SCALE = 1;
+	private static final int FLAG_RAW_MATRIX = 2;
+	private static final float QUANTIZE = 32767.0F;
+	private static final float TOLERANCE = 0.001F;
+	
+	/**
+	 * A joint's keyframes as they are written in json: times and row major matrices in Blender coordinates
+	 */
+	public record RawSheet(String name, float[] times, float[] transforms) {
+	}
+	
+	public static List<RawSheet> fromJson(JsonArray animation) {
+		List<RawSheet> sheets = Lists.newArrayList();
+		
+		for (JsonElement element : animation) {
+			JsonObject keyObject = element.getAsJsonObject();
+			JsonArray timeArray = keyObject.getAsJsonArray("time");
+			JsonArray transformArray = keyObject.getAsJsonArray("transform");
+			float[] times = new float[timeArray.size()];
+			float[] transforms = new float[transformArray.size() * 16];
+			
+			for (int i = 0; i < times.length; i++) {
+				times[i] = timeArray.get(i).getAsFloat();
+			}
+			
+			for (int i = 0; i < transformArray.size(); i++) {
+				JsonArray matrixJson = transformArray.get(i).getAsJsonArray();
+				
+				for (int j = 0; j < 16; j++) {
+					transforms[i * 16 + j] = matrixJson.get(j).getAsFloat();
+				}
+			}
+			
+			sheets.add(new RawSheet(keyObject.get("name").getAsString(), times, transforms));
+		}
+		
+		return sheets;
+	}
+	
+	public static List<RawSheet> read(ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt() != MAGIC) {
+				throw new IOException("Not an animation clip file");
+			}
+			
+			short version = buffer.getShort();
+			
+			if (version != VERSION) {
+				throw new IOException("Unsupported animation clip version " + version);
+			}
+			
+			float[][] timeArrays = new float[buffer.getInt()][];
+			
+			for (int i = 0; i < timeArrays.length; i++) {
+				timeArrays[i] = new float[buffer.getInt()];
+				buffer.asFloatBuffer().get(timeArrays[i]);
+				buffer.position(buffer.position() + timeArrays[i].length * 4);
+			}
+			
+			int sheetCount = buffer.getInt();
+			List<RawSheet> sheets = Lists.newArrayListWithCapacity(sheetCount);
+			
+			for (int i = 0; i < sheetCount; i++) {
+				byte[] nameBytes = new byte[buffer.getShort() & 0xFFFF];
+				buffer.get(nameBytes);
+				float[] times = timeArrays[buffer.getInt()];
+				int flags = buffer.get();
+				float[] transforms = new float[times.length * 16];
+				
+				if ((flags & FLAG_RAW_MATRIX) != 0) {
+					buffer.asFloatBuffer().get(transforms);
+					buffer.position(buffer.position() + transforms.length * 4);
+				} else {
+					float[] trs = new float[10];
+					
+					for (int k = 0; k < times.length; k++) {
+						trs[0] = buffer.getFloat();
+						trs[1] = buffer.getFloat();
+						trs[2] = buffer.getFloat();
+						
+						for (int j = 3; j < 7; j++) {
+							trs[j] = buffer.getShort() / QUANTIZE;
+						}
+						
+						if ((flags & FLAG_SCALE) != 0) {
+							trs[7] = buffer.getFloat();
+							trs[8] = buffer.getFloat();
+							trs[9] = buffer.getFloat();
+						} else {
+							trs[7] = 1.0F;
+							trs[8] = 1.0F;
+							trs[9] = 1.0F;
+						}
+						
+						compose(trs, transforms, k * 16);
+					}
+				}
+				
+				sheets.add(new RawSheet(new String(nameBytes, StandardCharsets.UTF_8), times, transforms));
+			}
+			
+			return sheets;
+		} catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+			throw new IOException("Corrupted animation clip file", e);
+		}
+	}
+	
+	public static void write(List<RawSheet> sheets, OutputStream outputStream) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+		List<float[]> timeArrays = Lists.newArrayList();
+		Map<TimeKey, Integer> timeArrayIndices = Maps.newHashMap();
+		int[] sheetTimeIndices = new int[sheets.size()];
+		
+		for (int i = 0; i < sheets.size(); i++) {
+			RawSheet sheet = sheets.get(i);
+			
+			if (sheet.transforms.length != sheet.times.length * 16) {
+				throw new IOException("Joint " + sheet.name + " has " + sheet.times.length + " times but " + sheet.transforms.length / 16 + " matrices");
+			}
+			
+			sheetTimeIndices[i] = timeArrayIndices.computeIfAbsent(new TimeKey(sheet.times), (key) -> {
+				timeArrays.add(key.times);
+				return timeArrays.size() - 1;
+			});
+		}
+		
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		out.writeInt(timeArrays.size());
+		
+		for (float[] times : timeArrays) {
+			out.writeInt(times.length);
+			
+			for (float time : times) {
+				out.writeFloat(time);
+			}
+		}
+		
+		out.writeInt(sheets.size());
+		
+		for (int i = 0; i < sheets.size(); i++) {
+			RawSheet sheet = sheets.get(i);
+			byte[] nameBytes = sheet.name.getBytes(StandardCharsets.UTF_8);
+			int keyframes = sheet.times.length;
+			float[][] trs = new float[keyframes][10];
+			boolean raw = false;
+			boolean scale = false;
+			float[] decoded = new float[16];
+			
+			for (int k = 0; k < keyframes && !raw; k++) {
+				if (!decompose(sheet.transforms, k * 16, trs[k])) {
+					raw = true;
+					break;
+				}
+				
+				// Round the rotation the way the reader will see it before checking the error
+				for (int j = 3; j < 7; j++) {
+					trs[k][j] = Math.round(trs[k][j] * QUANTIZE) / QUANTIZE;
+				}
+				
+				compose(trs[k], decoded, 0);
+				
+				for (int j = 0; j < 16; j++) {
+					if (Math.abs(decoded[j] - sheet.transforms[k * 16 + j]) > TOLERANCE) {
+						raw = true;
+						break;
+					}
+				}
+				
+				scale |= Math.abs(trs[k][7] - 1.0F) > 1.0E-6F || Math.abs(trs[k][8] - 1.0F) > 1.0E-6F || Math.abs(trs[k][9] - 1.0F) > 1.0E-6F;
+			}
+			
+			out.writeShort(nameBytes.length);
+			out.write(nameBytes);
+			out.writeInt(sheetTimeIndices[i]);
+			out.writeByte(raw ? FLAG_RAW_MATRIX : (scale ? FLAG_SCALE : 0));
+			
+			if (raw) {
+				for (float f : sheet.transforms) {
+					out.writeFloat(f);
+				}
+				
+				continue;
+			}
+			
+			for (float[] keyframe : trs) {
+				out.writeFloat(keyframe[0]);
+				out.writeFloat(keyframe[1]);
+				out.writeFloat(keyframe[2]);
+				
+				for (int j = 3; j < 7; j++) {
+					out.writeShort(Math.round(keyframe[j] * QUANTIZE));
+				}
+				
+				if (scale) {
+					out.writeFloat(keyframe[7]);
+					out.writeFloat(keyframe[8]);
+					out.writeFloat(keyframe[9]);
+				}
+			}
+		}
+		
+		out.flush();
+	}
+	
+	/**
+	 * Splits a row major matrix into translation, unit quaternion (x, y, z, w) and scale
+	 *
+	 * @return false if the matrix isn't an affine transform without shear
+	 */
+	private static boolean decompose(float[] m, int offset, float[] trs) {
+		if (Math.abs(m[offset + 12]) > TOLERANCE || Math.abs(m[offset + 13]) > TOLERANCE || Math.abs(m[offset + 14]) > TOLERANCE || Math.abs(m[offset + 15] - 1.0F) > TOLERANCE) {
+			return false;
+		}
+		
+		float sx = length(m[offset], m[offset + 4], m[offset + 8]);
+		float sy = length(m[offset + 1], m[offset + 5], m[offset + 9]);
+		float sz = length(m[offset + 2], m[offset + 6], m[offset + 10]);
+		
+		if (sx < 1.0E-6F || sy < 1.0E-6F || sz < 1.0E-6F) {
+			return false;
+		}
+		
+		float r00 = m[offset] / sx, r01 = m[offset + 1] / sy, r02 = m[offset + 2] / sz;
+		float r10 = m[offset + 4] / sx, r11 = m[offset + 5] / sy, r12 = m[offset + 6] / sz;
+		float r20 = m[offset + 8] / sx, r21 = m[offset + 9] / sy, r22 = m[offset + 10] / sz;
+		float det = r00 * (r11 * r22 - r12 * r21) - r01 * (r10 * r22 - r12 * r20) + r02 * (r10 * r21 - r11 * r20);
+		
+		// Mirrored bones keep the reflection in the scale
+		if (det < 0.0F) {
+			sx = -sx;
+			r00 = -r00;
+			r10 = -r10;
+			r20 = -r20;
+		}
+		
+		float x, y, z, w;
+		float trace = r00 + r11 + r22;
+		
+		if (trace > 0.0F) {
+			float s = (float)Math.sqrt(trace + 1.0F) * 2.0F;
+			w = 0.25F * s;
+			x = (r21 - r12) / s;
+			y = (r02 - r20) / s;
+			z = (r10 - r01) / s;
+		} else if (r00 > r11 && r00 > r22) {
+			float s = (float)Math.sqrt(1.0F + r00 - r11 - r22) * 2.0F;
+			w = (r21 - r12) / s;
+			x = 0.25F * s;
+			y = (r01 + r10) / s;
+			z = (r02 + r20) / s;
+		} else if (r11 > r22) {
+			float s = (float)Math.sqrt(1.0F + r11 - r00 - r22) * 2.0F;
+			w = (r02 - r20) / s;
+			x = (r01 + r10) / s;
+			y = 0.25F * s;
+			z = (r12 + r21) / s;
+		} else {
+			float s = (float)Math.sqrt(1.0F + r22 - r00 - r11) * 2.0F;
+			w = (r10 - r01) / s;
+			x = (r02 + r20) / s;
+			y = (r12 + r21) / s;
+			z = 0.25F * s;
+		}
+		
+		float norm = (float)Math.sqrt(x * x + y * y + z * z + w * w);
+		
+		trs[0] = m[offset + 3];
+		trs[1] = m[offset + 7];
+		trs[2] = m[offset + 11];
+		trs[3] = x / norm;
+		trs[4] = y / norm;
+		trs[5] = z / norm;
+		trs[6] = w / norm;
+		trs[7] = sx;
+		trs[8] = sy;
+		trs[9] = sz;
+		
+		return true;
+	}
+	
+	private static void compose(float[] trs, float[] m, int offset) {
+		float x = trs[3], y = trs[4], z = trs[5], w = trs[6];
+		float norm = (float)Math.sqrt(x * x + y * y + z * z + w * w);
+		x /= norm;
+		y /= norm;
+		z /= norm;
+		w /= norm;
+		
+		float sx = trs[7], sy = trs[8], sz = trs[9];
+		m[offset] = (1.0F - 2.0F * (y * y + z * z)) * sx;
+		m[offset + 1] = 2.0F * (x * y - z * w) * sy;
+		m[offset + 2] = 2.0F * (x * z + y * w) * sz;
+		m[offset + 3] = trs[0];
+		m[offset + 4] = 2.0F * (x * y + z * w) * sx;
+		m[offset + 5] = (1.0F - 2.0F * (x * x + z * z)) * sy;
+		m[offset + 6] = 2.0F * (y * z - x * w) * sz;
+		m[offset + 7] = trs[1];
+		m[offset + 8] = 2.0F * (x * z - y * w) * sx;
+		m[offset + 9] = 2.0F * (y * z + x * w) * sy;
+		m[offset + 10] = (1.0F - 2.0F * (x * x + y * y)) * sz;
+		m[offset + 11] = trs[2];
+		m[offset + 12] = 0.0F;
+		m[offset + 13] = 0.0F;
+		m[offset + 14] = 0.0F;
+		m[offset + 15] = 1.0F;
+	}
+	
+	private static float length(float x, float y, float z) {
+		return (float)Math.sqrt(x * x + y * y + z * z);
+	}
+	
+	private record TimeKey(float[] times) {
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof TimeKey timeKey && Arrays.equals(this.times, timeKey.times);
+		}
+		
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.times);
+		}
+	}
+	
+	/**
+	 * Converts every clip json under the input directory into {@link #EXTENSION} files at the same relative paths
+	 * under the output directory. Used by the convertAnimationClips gradle task.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: BinaryClipFormat <input directory> <output directory>");
+			System.exit(1);
+		}
+		
+		Path input = Paths.get(args[0]);
+		Path output = Paths.get(args[1]);
+		List<Path> jsonFiles;
+		int converted = 0;
+		long jsonBytes = 0;
+		long binaryBytes = 0;
+		
+		try (Stream<Path> paths = Files.walk(input)) {
+			jsonFiles = paths.filter((path) -> path.toString().endsWith(".json")).toList();
+		}
+		
+		for (Path jsonFile : jsonFiles) {
+			JsonElement root;
+			
+			try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+				root = JsonParser.parseReader(reader);
+			} catch (Exception e) {
+				continue;
+			}
+			
+			if (!isClipJson(root)) {
+				continue;
+			}
+			
+			String fileName = jsonFile.getFileName().toString();
+			Path binaryFile = output.resolve(input.relativize(jsonFile)).resolveSibling(fileName.substring(0, fileName.length() - 5) + EXTENSION);
+			Files.createDirectories(binaryFile.getParent());
+			
+			try (OutputStream outputStream = Files.newOutputStream(binaryFile)) {
+				write(fromJson(root.getAsJsonObject().getAsJsonArray("animation")), outputStream);
+			}
+			
+			converted++;
+			jsonBytes += Files.size(jsonFile);
+			binaryBytes += Files.size(binaryFile);
+		}
+		
+		System.out.println("Converted " + converted + " animation clips, " + jsonBytes / 1024 + " KiB of json into " + binaryBytes / 1024 + " KiB");
+	}
+	
+	private static boolean isClipJson(JsonElement root) {
+		if (!root.isJsonObject() || !root.getAsJsonObject().has("animation") || !root.getAsJsonObject().get("animation").isJsonArray()) {
+			return false;
+		}
+		
+		// Meshes and armatures are read through the same loader and need the json itself
+		if (root.getAsJsonObject().has("vertices") || root.getAsJsonObject().has("armature")) {
+			return false;
+		}
+		
+		for (JsonElement element : root.getAsJsonObject().getAsJsonArray("animation")) {
+			if (!element.isJsonObject() || !element.getAsJsonObject().has("name") || !element.getAsJsonObject().has("time") || !element.getAsJsonObject().has("transform")) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+}
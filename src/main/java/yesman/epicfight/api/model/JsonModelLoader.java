@@ -5,10 +5,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
 
 import com.google.common.collect.Lists;
@@ -29,6 +31,7 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.loading.FMLEnvironment;
 import yesman.epicfight.api.animation.AnimationClip;
+import yesman.epicfight.api.animation.ClipOptimizer;
 import yesman.epicfight.api.animation.Joint;
 import yesman.epicfight.api.animation.JointTransform;
 import yesman.epicfight.api.animation.Keyframe;
@@ -52,26 +55,55 @@ import yesman.epicfight.api.utils.ParseUtil;
 import yesman.epicfight.api.utils.math.OpenMatrix4f;
 import yesman.epicfight.api.utils.math.Vec3f;
 import yesman.epicfight.api.utils.math.Vec4f;
+import yesman.epicfight.config.ConfigManager;
 import yesman.epicfight.gameasset.Armatures.ArmatureContructor;
 import yesman.epicfight.main.EpicFightMod;
 
 public class JsonModelLoader {
 	public static final OpenMatrix4f BLENDER_TO_MINECRAFT_COORD = OpenMatrix4f.createRotatorDeg(-90.0F, Vec3f.X_AXIS);
 	private JsonObject rootJson;
+	private List<BinaryClipFormat.RawSheet> binarySheets;
 	private ResourceManager resourceManager;
 	private ResourceLocation resourceLocation;
 	
 	public JsonModelLoader(ResourceManager resourceManager, ResourceLocation resourceLocation) throws IllegalStateException {
-		JsonReader jsonReader = null;
 		this.resourceManager = resourceManager;
 		this.resourceLocation = resourceLocation;
 		
+		if (!this.readBinaryClip()) {
+			this.rootJson = readJson(resourceManager, resourceLocation);
+		}
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	public JsonModelLoader(InputStream inputstream, ResourceLocation resourceLocation) throws IOException {
+		JsonReader jsonReader = null;
+		this.resourceManager = Minecraft.getInstance().getResourceManager();
+		this.resourceLocation = resourceLocation;
+		
+		jsonReader = new JsonReader(new InputStreamReader(inputstream, StandardCharsets.UTF_8));
+		jsonReader.setLenient(true);
+		this.rootJson = Streams.parse(jsonReader).getAsJsonObject();
+		jsonReader.close();
+	}
+	
+	@OnlyIn(Dist.CLIENT)
+	public JsonModelLoader(JsonObject rootJson, ResourceLocation rl) throws IOException {
+		this.resourceManager = Minecraft.getInstance().getResourceManager();
+		this.rootJson = rootJson;
+		this.resourceLocation = rl;
+	}
+	
+	private static JsonObject readJson(ResourceManager resourceManager, ResourceLocation resourceLocation) throws IllegalStateException {
+		JsonReader jsonReader = null;
+		JsonObject rootJson;
+		
 		try {
 			try {
 				Resource resource = resourceManager.getResource(resourceLocation).orElseThrow();
 				jsonReader = new JsonReader(new InputStreamReader(resource.open(), StandardCharsets.UTF_8));
 				jsonReader.setLenient(true);
-				this.rootJson = Streams.parse(jsonReader).getAsJsonObject();
+				rootJson = Streams.parse(jsonReader).getAsJsonObject();
 			} catch (NoSuchElementException e) {
 				// In this case, reads the animation data from mod.jar (Especially in a server)
 				Class<?> modClass = ModList.get().getModObjectById(resourceLocation.getNamespace()).get().getClass();
@@ -85,7 +117,7 @@ public class JsonModelLoader {
 				Reader reader = new InputStreamReader(bufferedInputStream, StandardCharsets.UTF_8);
 				jsonReader = new JsonReader(reader);
 				jsonReader.setLenient(true);
-				this.rootJson = Streams.parse(jsonReader).getAsJsonObject();
+				rootJson = Streams.parse(jsonReader).getAsJsonObject();
 			}
 		} catch (IOException e) {
 			throw new IllegalStateException("Can't read " + resourceLocation.toString() + " because of " + e);
@@ -98,25 +130,58 @@ public class JsonModelLoader {
 				}
 			}
 		}
-	}
-	
-	@OnlyIn(Dist.CLIENT)
-	public JsonModelLoader(InputStream inputstream, ResourceLocation resourceLocation) throws IOException {
-		JsonReader jsonReader = null;
-		this.resourceManager = Minecraft.getInstance().getResourceManager();
-		this.resourceLocation = resourceLocation;
 		
-		jsonReader = new JsonReader(new InputStreamReader(inputstream, StandardCharsets.UTF_8));
-		jsonReader.setLenient(true);
-		this.rootJson = Streams.parse(jsonReader).getAsJsonObject();
-		jsonReader.close();
+		return rootJson;
 	}
 	
-	@OnlyIn(Dist.CLIENT)
-	public JsonModelLoader(JsonObject rootJson, ResourceLocation rl) throws IOException {
-		this.resourceManager = Minecraft.getInstance().getResourceManager();
-		this.rootJson = rootJson;
-		this.resourceLocation = rl;
+	/**
+	 * Reads the {@link BinaryClipFormat} file next to the json if the pack providing the json also provides it
+	 */
+	private boolean readBinaryClip() {
+		String namespace = this.resourceLocation.getNamespace();
+		String path = this.resourceLocation.getPath();
+		
+		if (!path.endsWith(".json")) {
+			return false;
+		}
+		
+		ResourceLocation binaryLocation = new ResourceLocation(namespace, path.substring(0, path.length() - 5) + BinaryClipFormat.EXTENSION);
+		Optional<Resource> jsonResource = this.resourceManager.getResource(this.resourceLocation);
+		InputStream inputStream;
+		
+		try {
+			if (jsonResource.isPresent()) {
+				Optional<Resource> binaryResource = this.resourceManager.getResource(binaryLocation);
+				
+				// A resource pack overriding the json must not be shadowed by the clip compiled from the mod's json
+				if (binaryResource.isEmpty() || !binaryResource.get().sourcePackId().equals(jsonResource.get().sourcePackId())) {
+					return false;
+				}
+				
+				inputStream = binaryResource.get().open();
+			} else {
+				Optional<?> modObject = ModList.get().getModObjectById(namespace);
+				
+				if (modObject.isEmpty()) {
+					return false;
+				}
+				
+				inputStream = modObject.get().getClass().getResourceAsStream("/assets/" + namespace + "/" + binaryLocation.getPath());
+				
+				if (inputStream == null) {
+					return false;
+				}
+			}
+			
+			try (InputStream in = inputStream) {
+				this.binarySheets = BinaryClipFormat.read(ByteBuffer.wrap(in.readAllBytes()));
+			}
+			
+			return true;
+		} catch (IOException e) {
+			EpicFightMod.LOGGER.warn("Can't read " + binaryLocation + ", reading the json instead: " + e);
+			return false;
+		}
 	}
 	
 	@OnlyIn(Dist.CLIENT)
@@ -329,14 +394,14 @@ public class JsonModelLoader {
 	}
 	
 	public AnimationClip loadClipForAnimation(StaticAnimation animation) {
-		if (this.rootJson == null) {
+		if (this.rootJson == null && this.binarySheets == null) {
 			throw new IllegalStateException("Can't find animation in path: " + animation);
 		}
 		
-		JsonArray array = this.rootJson.get("animation").getAsJsonArray();
 		boolean action = animation instanceof ActionAnimation;
 		boolean attack = animation instanceof AttackAnimation;
 		boolean noTransformData = !action && !attack && FMLEnvironment.dist == Dist.DEDICATED_SERVER;
+		boolean optimize = ConfigManager.OPTIMIZE_ANIMATION_CLIPS.get();
 		boolean root = true;
 		Armature armature = animation.getArmature();
 		
@@ -344,21 +409,9 @@ public class JsonModelLoader {
 		
 		if (attack) {
 			for (Phase phase : ((AttackAnimation)animation).phases) {
-				Joint joint = armature.getRootJoint();
-				
 				for (AttackAnimation.JointColliderPair colliderInfo : phase.getColliders()) {
-					int pathIndex = armature.searchPathIndex(colliderInfo.getFirst().getName());
-					
-					while (joint != null) {
+					for (Joint joint : armature.getJointPath(colliderInfo.getFirst())) {
 						allowedJoints.add(joint.getName());
-						int nextJoint = pathIndex % 10;
-						
-						if (nextJoint > 0) {
-							pathIndex /= 10;
-							joint = joint.getSubJoints().get(nextJoint - 1);
-						} else {
-							joint = null;
-						}
 					}
 				}
 			}
@@ -368,9 +421,8 @@ public class JsonModelLoader {
 		
 		AnimationClip clip = new AnimationClip();
 		
-		for (JsonElement element : array) {
-			JsonObject keyObject = element.getAsJsonObject();
-			String name = keyObject.get("name").getAsString();
+		for (BinaryClipFormat.RawSheet rawSheet : this.getRawSheets()) {
+			String name = rawSheet.name();
 			
 			if (attack && FMLEnvironment.dist == Dist.DEDICATED_SERVER && !allowedJoints.contains(name)) {
 				if (name.equals("Coord")) {
@@ -384,26 +436,7 @@ public class JsonModelLoader {
 			
 			if (joint == null) {
 				if (name.equals("Coord") && action) {
-					JsonArray timeArray = keyObject.getAsJsonArray("time");
-					JsonArray transformArray = keyObject.getAsJsonArray("transform");
-					int timeNum = timeArray.size();
-					int matrixNum = transformArray.size();
-					float[] times = new float[timeNum];
-					float[] transforms = new float[matrixNum * 16];
-					
-					for (int i = 0; i < timeNum; i++) {
-						times[i] = timeArray.get(i).getAsFloat();
-					}
-					
-					for (int i = 0; i < matrixNum; i++) {
-						JsonArray matrixJson = transformArray.get(i).getAsJsonArray();
-						
-						for (int j = 0; j < 16; j++) {
-							transforms[i * 16 + j] = matrixJson.get(j).getAsFloat();
-						}
-					}
-					
-					TransformSheet sheet = getTransformSheet(times, transforms, new OpenMatrix4f(), true);
+					TransformSheet sheet = getTransformSheet(rawSheet.times(), rawSheet.transforms(), new OpenMatrix4f(), true);
 					((ActionAnimation)animation).addProperty(ActionAnimationProperty.COORD, sheet);
 					root = false;
 					continue;
@@ -413,27 +446,14 @@ public class JsonModelLoader {
 				}
 			}
 			
-			JsonArray timeArray = keyObject.getAsJsonArray("time");
-			JsonArray transformArray = keyObject.getAsJsonArray("transform");
-			int timeNum = timeArray.size();
-			int matrixNum = transformArray.size();
-			float[] times = new float[timeNum];
-			float[] transforms = new float[matrixNum * 16];
+			float[] times = rawSheet.times();
+			TransformSheet sheet = getTransformSheet(times, rawSheet.transforms(), OpenMatrix4f.invert(joint.getLocalTrasnform(), null), root);
 			
-			for (int i = 0; i < timeNum; i++) {
-				times[i] = timeArray.get(i).getAsFloat();
+			// Root motion is read by keyframe index
+			if (optimize && !armature.isRootJoint(joint)) {
+				sheet = ClipOptimizer.optimize(sheet);
 			}
 			
-			for (int i = 0; i < matrixNum; i++) {
-				JsonArray matrixJson = transformArray.get(i).getAsJsonArray();
-				
-				for (int j = 0; j < 16; j++) {
-					transforms[i * 16 + j] = matrixJson.get(j).getAsFloat();
-				}
-			}
-			
-			TransformSheet sheet = getTransformSheet(times, transforms, OpenMatrix4f.invert(joint.getLocalTrasnform(), null), root);
-			
 			if (!noTransformData) {
 				clip.addJointTransform(name, sheet);
 			}
@@ -449,14 +469,12 @@ public class JsonModelLoader {
 	}
 	
 	public AnimationClip loadAllJointsClipForAnimation(StaticAnimation animation) {
-		JsonArray array = this.rootJson.get("animation").getAsJsonArray();
 		boolean root = true;
 		Armature armature = animation.getArmature();
 		AnimationClip clip = new AnimationClip();
 		
-		for (JsonElement element : array) {
-			JsonObject keyObject = element.getAsJsonObject();
-			String name = keyObject.get("name").getAsString();
+		for (BinaryClipFormat.RawSheet rawSheet : this.getRawSheets()) {
+			String name = rawSheet.name();
 			Joint joint = armature.searchJointByName(name);
 			
 			if (joint == null) {
@@ -464,26 +482,8 @@ public class JsonModelLoader {
 				continue;
 			}
 			
-			JsonArray timeArray = keyObject.getAsJsonArray("time");
-			JsonArray transformArray = keyObject.getAsJsonArray("transform");
-			int timeNum = timeArray.size();
-			int matrixNum = transformArray.size();
-			float[] times = new float[timeNum];
-			float[] transforms = new float[matrixNum * 16];
-			
-			for (int i = 0; i < timeNum; i++) {
-				times[i] = timeArray.get(i).getAsFloat();
-			}
-			
-			for (int i = 0; i < matrixNum; i++) {
-				JsonArray matrixJson = transformArray.get(i).getAsJsonArray();
-				
-				for (int j = 0; j < 16; j++) {
-					transforms[i * 16 + j] = matrixJson.get(j).getAsFloat();
-				}
-			}
-			
-			TransformSheet sheet = getTransformSheet(times, transforms, OpenMatrix4f.invert(joint.getLocalTrasnform(), null), root);
+			float[] times = rawSheet.times();
+			TransformSheet sheet = getTransformSheet(times, rawSheet.transforms(), OpenMatrix4f.invert(joint.getLocalTrasnform(), null), root);
 			clip.addJointTransform(name, sheet);
 			
 			if (clip.getClipTime() < times[times.length - 1]) {
@@ -497,43 +497,28 @@ public class JsonModelLoader {
 	}
 	
 	public JsonObject getRootJson() {
+		// Clips read from the binary format skip json parsing until someone asks for it
+		if (this.rootJson == null && this.binarySheets != null) {
+			this.rootJson = readJson(this.resourceManager, this.resourceLocation);
+		}
+		
 		return this.rootJson;
 	}
 	
 	public AnimationClip loadAnimationClip(Armature armature) {
-		JsonArray array = this.rootJson.get("animation").getAsJsonArray();
 		AnimationClip clip = new AnimationClip();
 		boolean root = true;
 		
-		for (JsonElement element : array) {
-			JsonObject keyObject = element.getAsJsonObject();
-			String name = keyObject.get("name").getAsString();
+		for (BinaryClipFormat.RawSheet rawSheet : this.getRawSheets()) {
+			String name = rawSheet.name();
 			Joint joint = armature.searchJointByName(name);
 			
 			if (joint == null) {
 				continue;
 			}
 			
-			JsonArray timeArray = keyObject.getAsJsonArray("time");
-			JsonArray transformArray = keyObject.getAsJsonArray("transform");
-			int timeNum = timeArray.size();
-			int matrixNum = transformArray.size();
-			float[] times = new float[timeNum];
-			float[] transforms = new float[matrixNum * 16];
-			
-			for (int i = 0; i < timeNum; i++) {
-				times[i] = timeArray.get(i).getAsFloat();
-			}
-			
-			for (int i = 0; i < matrixNum; i++) {
-				JsonArray matrixJson = transformArray.get(i).getAsJsonArray();
-				
-				for (int j = 0; j < 16; j++) {
-					transforms[i * 16 + j] = matrixJson.get(j).getAsFloat();
-				}
-			}
-			
-			TransformSheet sheet = getTransformSheet(times, transforms, OpenMatrix4f.invert(joint.getLocalTrasnform(), null), root);
+			float[] times = rawSheet.times();
+			TransformSheet sheet = getTransformSheet(times, rawSheet.transforms(), OpenMatrix4f.invert(joint.getLocalTrasnform(), null), root);
 			clip.addJointTransform(name, sheet);
 			
 			if (clip.getClipTime() < times[times.length - 1]) {
@@ -546,6 +531,10 @@ public class JsonModelLoader {
 		return clip;
 	}
 	
+	private List<BinaryClipFormat.RawSheet> getRawSheets() {
+		return this.binarySheets != null ? this.binarySheets : BinaryClipFormat.fromJson(this.rootJson.get("animation").getAsJsonArray());
+	}
+	
 	private static TransformSheet getTransformSheet(float[] times, float[] trasnformMatrix, OpenMatrix4f invLocalTransform, boolean correct) {
 		List<Keyframe> keyframeList = Lists.newArrayList();
 		
@@ -1,12 +1,10 @@
 package yesman.epicfight.api.utils;
 
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.function.ToDoubleBiFunction;
 
 import com.google.common.collect.Lists;
 
-import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
-import it.unimi.dsi.fastutil.doubles.DoubleList;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.GoalSelector;
@@ -16,118 +14,143 @@ import yesman.epicfight.world.capabilities.EpicFightCapabilities;
 import yesman.epicfight.world.capabilities.entitypatch.LivingEntityPatch;
 
 public class HitEntityList {
-	private final List<Entity> hitEntites;
-	private int index;
+	/**
+	 * Key of entities left out by a priority
+	 */
+	private static final double EXCLUDED = Double.NaN;
+	
+	private final List<Entity> candidates;
+	private final double[] keys;
+	/**
+	 * Binary min-heap of candidate indices. It's built in linear time and only popped as far as the attack consumes it,
+	 * so the candidates that can't be struck anymore are never ordered.
+	 */
+	private final int[] heap;
+	private int heapSize;
+	private Entity entity;
 	
 	public HitEntityList(LivingEntityPatch<?> attacker, List<Entity> entities, Priority priority) {
-		this.index = -1;
-		this.hitEntites = priority.sort(attacker, entities);
+		this.candidates = entities;
+		this.keys = new double[entities.size()];
+		this.heap = new int[entities.size()];
+		
+		for (int i = 0; i < entities.size(); i++) {
+			double key = priority.keyFunction.applyAsDouble(attacker, entities.get(i));
+			
+			if (!Double.isNaN(key)) {
+				this.keys[i] = key;
+				this.heap[this.heapSize++] = i;
+			}
+		}
+		
+		for (int i = (this.heapSize >> 1) - 1; i >= 0; i--) {
+			this.siftDown(i);
+		}
 	}
 	
 	public Entity getEntity() {
-		return this.hitEntites.get(this.index);
+		return this.entity;
 	}
 	
 	public boolean next() {
-		this.index++;
-		return this.hitEntites.size() > this.index;
+		if (this.heapSize == 0) {
+			this.entity = null;
+			return false;
+		}
+		
+		this.entity = this.candidates.get(this.heap[0]);
+		this.heap[0] = this.heap[--this.heapSize];
+		this.siftDown(0);
+		
+		return true;
 	}
 	
-	public enum Priority {
-		DISTANCE((attacker, list) -> {
-			DoubleList distanceToAttacker = new DoubleArrayList();
-			List<Entity> hitEntites = Lists.newArrayList();
+	/**
+	 * Equal keys keep the order of the candidate list
+	 */
+	private boolean isBefore(int index1, int index2) {
+		return this.keys[index1] < this.keys[index2] || (this.keys[index1] == this.keys[index2] && index1 < index2);
+	}
+	
+	private void siftDown(int position) {
+		int index = this.heap[position];
+		int half = this.heapSize >> 1;
+		
+		while (position < half) {
+			int child = position * 2 + 1;
 			
-			Outer:
-			for (Entity entity : list) {
-				double distance = attacker.getOriginal().distanceToSqr(entity);
-				int index = 0;
-				
-				for (; index < hitEntites.size(); index++) {
-					if (distance < distanceToAttacker.getDouble(index)) {
-						hitEntites.add(index, entity);
-						distanceToAttacker.add(index, distance);
-						continue Outer;
-					}
-				}
-				
-				hitEntites.add(index, entity);
-				distanceToAttacker.add(index, distance);
+			if (child + 1 < this.heapSize && this.isBefore(this.heap[child + 1], this.heap[child])) {
+				child++;
+			}
+			
+			if (!this.isBefore(this.heap[child], index)) {
+				break;
 			}
-			return hitEntites;
-		}),
+			
+			this.heap[position] = this.heap[child];
+			position = child;
+		}
 		
-		TARGET((attacker, list) -> {
-			List<Entity> hitEntites = Lists.newArrayList();
+		this.heap[position] = index;
+	}
+	
+	public enum Priority {
+		DISTANCE((attacker, entity) -> attacker.getOriginal().distanceToSqr(entity)),
+		TARGET((attacker, entity) -> entity.is(attacker.getTarget()) ? 0.0D : EXCLUDED),
+		HOSTILITY((attacker, entity) -> {
+			if (attacker.isTeammate(entity)) {
+				return EXCLUDED;
+			}
 			
-			for (Entity entity : list) {
-				if (entity.is(attacker.getTarget())) {
-					hitEntites.add(entity);
-				}
+			if (attacker.getOriginal().getLastHurtByMob() == entity || attacker.getTarget() == entity) {
+				return 0.0D;
 			}
 			
-			return hitEntites;
-		}),
-		HOSTILITY((attacker, list) -> {
-			List<Entity> firstTargets = Lists.newArrayList();
-			List<Entity> secondTargets = Lists.newArrayList();
-			List<Entity> lastTargets = Lists.newArrayList();
+			LivingEntityPatch<?> entitypatch = EpicFightCapabilities.getEntityPatch(entity, LivingEntityPatch.class);
 			
-			Outer:
-			for (Entity e : list) {
-				if (attacker.isTeammate(e)) {
-					continue;
-				}
-
-				if (attacker.getOriginal().getLastHurtByMob() == e || attacker.getTarget() == e) {
-					firstTargets.add(e);
-					continue;
-				}
-
-				LivingEntityPatch<?> entitypatch = EpicFightCapabilities.getEntityPatch(e, LivingEntityPatch.class);
-
-				if (entitypatch != null) {
-					if (attacker.getOriginal().is(entitypatch.getTarget())) {
-						firstTargets.add(e);
-						continue;
-					}
+			if (entitypatch != null) {
+				if (attacker.getOriginal().is(entitypatch.getTarget())) {
+					return 0.0D;
 				}
-				
-				if (e instanceof Mob mob) {
-					if (attacker.getOriginal().is(mob.getTarget())) {
-						firstTargets.add(mob);
-						continue;
-					} else {
-						GoalSelector targetingAi = mob.targetSelector;
-						
-						for (WrappedGoal goal : targetingAi.getAvailableGoals()) {
-							if (goal.getGoal() instanceof NearestAttackableTargetGoal<?> targetGoal) {
-								if (targetGoal.targetConditions.test(mob, attacker.getOriginal())) {
-									secondTargets.add(mob);
-									continue Outer;
-								}
+			}
+			
+			if (entity instanceof Mob mob) {
+				if (attacker.getOriginal().is(mob.getTarget())) {
+					return 0.0D;
+				} else {
+					GoalSelector targetingAi = mob.targetSelector;
+					
+					for (WrappedGoal goal : targetingAi.getAvailableGoals()) {
+						if (goal.getGoal() instanceof NearestAttackableTargetGoal<?> targetGoal) {
+							if (targetGoal.targetConditions.test(mob, attacker.getOriginal())) {
+								return 1.0D;
 							}
 						}
 					}
 				}
-				
-				lastTargets.add(e);
 			}
 			
-			secondTargets.addAll(lastTargets);
-			firstTargets.addAll(secondTargets);
-			
-			return firstTargets;
+			return 2.0D;
 		});
 		
-		BiFunction<LivingEntityPatch<?>, List<Entity>, List<Entity>> sortingFunction;
+		/**
+		 * Lower keys are struck first, {@link HitEntityList#EXCLUDED} leaves the entity out
+		 */
+		final ToDoubleBiFunction<LivingEntityPatch<?>, Entity> keyFunction;
 		
-		Priority(BiFunction<LivingEntityPatch<?>, List<Entity>, List<Entity>> sortingFunction) {
-			this.sortingFunction = sortingFunction;
+		Priority(ToDoubleBiFunction<LivingEntityPatch<?>, Entity> keyFunction) {
+			this.keyFunction = keyFunction;
 		}
 		
 		public List<Entity> sort(LivingEntityPatch<?> attacker, List<Entity> entities) {
-			return this.sortingFunction.apply(attacker, entities);
+			HitEntityList hitEntityList = new HitEntityList(attacker, entities, this);
+			List<Entity> sorted = Lists.newArrayList();
+			
+			while (hitEntityList.next()) {
+				sorted.add(hitEntityList.getEntity());
+			}
+			
+			return sorted;
 		}
 	}
 }
\ No newline at end of file
@@ -27,20 +27,16 @@ public class FABRIK {
 	
 	public void addChain(Pose pose, Joint startJoint, Joint endJoint) {
 		OpenMatrix4f bindTransform = armature.getBindedTransformFor(pose, startJoint);
-		int pathIndex = Integer.parseInt(startJoint.searchPath("", endJoint.getName()));
+		List<Joint> path = this.armature.getJointPath(startJoint, endJoint);
 		this.startPos.set(bindTransform.toTranslationVector());
-		this.addChainInternal(pose, bindTransform, startJoint, pathIndex);
-	}
-	
-	private void addChainInternal(Pose pose, OpenMatrix4f parentTransform, Joint joint, int pathIndex) {
-		Joint nextJoint = joint.getSubJoints().get((pathIndex % 10) - 1);
-		JointTransform jt = pose.getOrDefaultTransform(nextJoint.getName());
-		OpenMatrix4f result = jt.getAnimationBindedMatrix(nextJoint, parentTransform);
-		this.chains.add(new Chain(joint.getName(), parentTransform.toTranslationVector(), result.toTranslationVector()));
-		int remainPath = pathIndex / 10;
 		
-		if (remainPath > 0) {
-			this.addChainInternal(pose, result, nextJoint, remainPath);
+		for (int i = 1; i < path.size(); i++) {
+			Joint joint = path.get(i - 1);
+			Joint nextJoint = path.get(i);
+			JointTransform jt = pose.getOrDefaultTransform(nextJoint.getName());
+			OpenMatrix4f result = jt.getAnimationBindedMatrix(nextJoint, bindTransform);
+			this.chains.add(new Chain(joint.getName(), bindTransform.toTranslationVector(), result.toTranslationVector()));
+			bindTransform = result;
 		}
 	}
 	
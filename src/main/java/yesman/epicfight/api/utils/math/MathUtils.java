@@ -138,10 +138,16 @@ public class MathUtils {
 	}
 	
 	public static Vec3f lerpVector(Vec3f start, Vec3f end, float weight) {
+		return lerpVector(start, end, weight, new Vec3f());
+	}
+	
+	public static Vec3f lerpVector(Vec3f start, Vec3f end, float weight, Vec3f dest) {
 		float x = start.x + (end.x - start.x) * weight;
 		float y = start.y + (end.y - start.y) * weight;
 		float z = start.z + (end.z - start.z) * weight;
-		return new Vec3f(x, y, z);
+		dest.set(x, y, z);
+		
+		return dest;
 	}
 	
 	public static Vector3f lerpMojangVector(Vector3f start, Vector3f end, float weight) {
@@ -185,6 +191,10 @@ public class MathUtils {
 	}
 	
 	public static Quaternionf lerpQuaternion(Quaternionf from, Quaternionf to, float lerpAmount) {
+		return lerpQuaternion(from, to, lerpAmount, new Quaternionf());
+	}
+	
+	public static Quaternionf lerpQuaternion(Quaternionf from, Quaternionf to, float lerpAmount, Quaternionf dest) {
 		float fromX = from.x();
 		float fromY = from.y();
 		float fromZ = from.z();
@@ -212,9 +222,9 @@ public class MathUtils {
 			resultZ = blendI * fromZ + lerpAmount * toZ;
 		}
 
-		Quaternionf result = new Quaternionf(resultX, resultY, resultZ, resultW);
-		normalizeQuaternion(result);
-		return result;
+		dest.set(resultX, resultY, resultZ, resultW);
+		normalizeQuaternion(dest);
+		return dest;
 	}
 	
 	private static void normalizeQuaternion(Quaternionf quaternion) {
@@ -623,7 +623,11 @@ public class OpenMatrix4f {
 	}
 	
 	public static OpenMatrix4f fromQuaternion(Quaternionf quaternion) {
-		OpenMatrix4f matrix = new OpenMatrix4f();
+		return fromQuaternion(quaternion, new OpenMatrix4f());
+	}
+	
+	public static OpenMatrix4f fromQuaternion(Quaternionf quaternion, OpenMatrix4f matrix) {
+		matrix.setIdentity();
 		float x = quaternion.x();
 		float y = quaternion.y();
 		float z = quaternion.z();
@@ -65,6 +65,7 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModLoader;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.registries.ForgeRegistries;
+import yesman.epicfight.api.client.animation.AnimationLOD;
 import yesman.epicfight.api.client.forgeevent.PatchedRenderersEvent;
 import yesman.epicfight.api.client.forgeevent.RenderEnderDragonEvent;
 import yesman.epicfight.api.client.model.AnimatedMesh;
@@ -288,6 +289,17 @@ public class RenderEngine {
 		}
 	}
 	
+	/**
+	 * Restores the built-in renderer of the entity type, or removes its renderer if it has none
+	 */
+	public void unregisterCustomEntityRenderer(EntityType<?> entityType) {
+		if (this.entityRendererProvider.containsKey(entityType)) {
+			this.entityRendererCache.put(entityType, this.entityRendererProvider.get(entityType).apply(entityType));
+		} else {
+			this.entityRendererCache.remove(entityType);
+		}
+	}
+	
 	public RenderItemBase getItemRenderer(ItemStack itemstack) {
 		RenderItemBase renderItem = this.itemRendererMapByInstance.get(itemstack.getItem());
 		
@@ -523,6 +535,10 @@ public class RenderEngine {
 					return;
 				}
 				
+				if (entitypatch != null) {
+					entitypatch.getClientAnimator().markRendered(livingentity.distanceToSqr(renderEngine.minecraft.gameRenderer.getMainCamera().getPosition()));
+				}
+				
 				if (entitypatch != null && entitypatch.overrideRender()) {
 					renderEngine.renderEntityArmatureModel(livingentity, entitypatch, event.getRenderer(), event.getMultiBufferSource(), event.getPoseStack(), event.getPackedLight(), event.getPartialTick());
 					
@@ -676,6 +692,13 @@ public class RenderEngine {
 			}
 		}
 		
+		@SubscribeEvent
+		public static void debugText(CustomizeGuiOverlayEvent.DebugText event) {
+			if (renderEngine.minecraft.options.renderDebug) {
+				event.getLeft().add(AnimationLOD.getReport());
+			}
+		}
+		
 		@SuppressWarnings("unchecked")
 		@SubscribeEvent(priority = EventPriority.HIGHEST)
 		public static void renderHand(RenderHandEvent event) {
@@ -717,6 +740,8 @@ public class RenderEngine {
 				EnderDragonPatch entitypatch = EpicFightCapabilities.getEntityPatch(livingentity, EnderDragonPatch.class);
 				
 				if (entitypatch != null) {
+					// Not a living entity renderer, so it isn't marked rendered by the living render event
+					entitypatch.getClientAnimator().markRendered(livingentity.distanceToSqr(renderEngine.minecraft.gameRenderer.getMainCamera().getPosition()));
 					event.setCanceled(true);
 					renderEngine.getEntityRenderer(livingentity).render(livingentity, entitypatch, event.getRenderer(), event.getBuffers(), event.getPoseStack(), event.getLight(), event.getPartialRenderTick());
 				}
@@ -108,7 +108,14 @@ public class EntityAfterImageParticle extends CustomModelParticle<AnimatedMesh>
 				Armature armature = entitypatch.getArmature();
 				PoseStack poseStack = new PoseStack();
 				renderer.mulPoseStack(poseStack, armature, entitypatch.getOriginal(), entitypatch, 1.0F);
-				OpenMatrix4f[] matrices = renderer.getPoseMatrices(entitypatch, armature, 1.0F, true);
+				OpenMatrix4f[] poseMatrices = renderer.getPoseMatrices(entitypatch, armature, 1.0F, true);
+				OpenMatrix4f[] matrices = new OpenMatrix4f[poseMatrices.length];
+				
+				// The renderer reuses its matrices every frame
+				for (int i = 0; i < poseMatrices.length; i++) {
+					matrices[i] = new OpenMatrix4f(poseMatrices[i]);
+				}
+				
 				MeshProvider<AnimatedMesh> meshProvider = ClientEngine.getInstance().renderEngine.getEntityRenderer(entitypatch.getOriginal()).getMeshProvider(entitypatch);
 				EntityAfterImageParticle particle = new EntityAfterImageParticle(level, x, y, z, xSpeed, ySpeed, zSpeed, meshProvider, matrices, poseStack.last().pose());
 				
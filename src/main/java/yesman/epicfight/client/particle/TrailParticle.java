@@ -75,9 +75,6 @@ public class TrailParticle extends TextureSheetParticle {
 		this.setSize(size, size);
 		this.setSpriteFromAge(spriteSet);
 		
-		Pose prevPose = this.entitypatch.getAnimator().getPose(0.0F);
-		Pose middlePose = this.entitypatch.getAnimator().getPose(0.5F);
-		Pose currentPose = this.entitypatch.getAnimator().getPose(1.0F);
 		Vec3 posOld = this.entitypatch.getOriginal().getPosition(0.0F);
 		Vec3 posMid = this.entitypatch.getOriginal().getPosition(0.5F);
 		Vec3 posCur = this.entitypatch.getOriginal().getPosition(1.0F);
@@ -92,9 +89,9 @@ public class TrailParticle extends TextureSheetParticle {
 										.mulBack(OpenMatrix4f.createRotatorDeg(180.0F, Vec3f.Y_AXIS)
 										.mulBack(this.entitypatch.getModelMatrix(1.0F)));
 		
-		OpenMatrix4f prevJointTf = this.entitypatch.getArmature().getBindedTransformFor(prevPose, this.joint).mulFront(prvmodelTf);
-		OpenMatrix4f middleJointTf = this.entitypatch.getArmature().getBindedTransformFor(middlePose, this.joint).mulFront(middleModelTf);
-		OpenMatrix4f currentJointTf = this.entitypatch.getArmature().getBindedTransformFor(currentPose, this.joint).mulFront(curModelTf);
+		OpenMatrix4f prevJointTf = this.entitypatch.getClientAnimator().getBindedTransformFor(0.0F, this.joint).mulFront(prvmodelTf);
+		OpenMatrix4f middleJointTf = this.entitypatch.getClientAnimator().getBindedTransformFor(0.5F, this.joint).mulFront(middleModelTf);
+		OpenMatrix4f currentJointTf = this.entitypatch.getClientAnimator().getBindedTransformFor(1.0F, this.joint).mulFront(curModelTf);
 		
 		Vec3 prevStartPos = OpenMatrix4f.transform(prevJointTf, trailInfo.start);
 		Vec3 prevEndPos = OpenMatrix4f.transform(prevJointTf, trailInfo.end);
@@ -205,9 +202,6 @@ public class TrailParticle extends TextureSheetParticle {
 		}
 		
 		TrailInfo trailInfo = this.trailInfo;
-		Pose prevPose = this.entitypatch.getAnimator().getPose(0.0F);
-		Pose middlePose = this.entitypatch.getAnimator().getPose(0.5F);
-		Pose currentPose = this.entitypatch.getAnimator().getPose(1.0F);
 		Vec3 posOld = this.entitypatch.getOriginal().getPosition(0.0F);
 		Vec3 posMid = this.entitypatch.getOriginal().getPosition(0.5F);
 		Vec3 posCur = this.entitypatch.getOriginal().getPosition(1.0F);
@@ -222,9 +216,9 @@ public class TrailParticle extends TextureSheetParticle {
 										.mulBack(OpenMatrix4f.createRotatorDeg(180.0F, Vec3f.Y_AXIS)
 										.mulBack(this.entitypatch.getModelMatrix(1.0F)));
 		
-		OpenMatrix4f prevJointTf = this.entitypatch.getArmature().getBindedTransformFor(prevPose, this.joint).mulFront(prvmodelTf);
-		OpenMatrix4f middleJointTf = this.entitypatch.getArmature().getBindedTransformFor(middlePose, this.joint).mulFront(middleModelTf);
-		OpenMatrix4f currentJointTf = this.entitypatch.getArmature().getBindedTransformFor(currentPose, this.joint).mulFront(curModelTf);
+		OpenMatrix4f prevJointTf = this.entitypatch.getClientAnimator().getBindedTransformFor(0.0F, this.joint).mulFront(prvmodelTf);
+		OpenMatrix4f middleJointTf = this.entitypatch.getClientAnimator().getBindedTransformFor(0.5F, this.joint).mulFront(middleModelTf);
+		OpenMatrix4f currentJointTf = this.entitypatch.getClientAnimator().getBindedTransformFor(1.0F, this.joint).mulFront(curModelTf);
 		Vec3 prevStartPos = OpenMatrix4f.transform(prevJointTf, trailInfo.start);
 		Vec3 prevEndPos = OpenMatrix4f.transform(prevJointTf, trailInfo.end);
 		Vec3 middleStartPos = OpenMatrix4f.transform(middleJointTf, trailInfo.start);
@@ -40,7 +40,9 @@ public class PCustomHumanoidEntityRenderer<AM extends HumanoidMesh> extends Patc
 	@Override
 	protected void setJointTransforms(LivingEntityPatch<LivingEntity> entitypatch, Armature armature, Pose pose, float partialTicks) {
 		if (entitypatch.getOriginal().isBaby()) {
-			pose.getOrDefaultTransform("Head").frontResult(JointTransform.getScale(new Vec3f(1.25F, 1.25F, 1.25F)), OpenMatrix4f::mul);
+			JointTransform head = pose.getOrDefaultTransform("Head").copy();
+			head.frontResult(JointTransform.getScale(new Vec3f(1.25F, 1.25F, 1.25F)), OpenMatrix4f::mul);
+			pose.putJointData("Head", head);
 		}
 	}
 	
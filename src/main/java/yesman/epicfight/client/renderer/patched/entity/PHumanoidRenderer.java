@@ -41,7 +41,9 @@ public class PHumanoidRenderer<E extends LivingEntity, T extends LivingEntityPat
 	@Override
 	protected void setJointTransforms(T entitypatch, Armature armature, Pose pose, float partialTicks) {
 		if (entitypatch.getOriginal().isBaby()) {
-			pose.getOrDefaultTransform("Head").frontResult(JointTransform.getScale(new Vec3f(1.25F, 1.25F, 1.25F)), OpenMatrix4f::mul);
+			JointTransform head = pose.getOrDefaultTransform("Head").copy();
+			head.frontResult(JointTransform.getScale(new Vec3f(1.25F, 1.25F, 1.25F)), OpenMatrix4f::mul);
+			pose.putJointData("Head", head);
 		}
 	}
 	
@@ -25,6 +25,8 @@ public class PWitherSkeletonMinionRenderer extends PHumanoidRenderer<PathfinderM
 	@Override
 	protected void setJointTransforms(HumanoidMobPatch<PathfinderMob> entitypatch, Armature armature, Pose pose, float partialTicks) {
 		Vec3f rootScale = pose.getOrDefaultTransform("Root").scale();
-		pose.getOrDefaultTransform("Head").jointLocal(JointTransform.getScale(new Vec3f(1.0F / rootScale.x, 1.0F / rootScale.y, 1.0F / rootScale.z)), OpenMatrix4f::mul);
+		JointTransform head = pose.getOrDefaultTransform("Head").copy();
+		head.jointLocal(JointTransform.getScale(new Vec3f(1.0F / rootScale.x, 1.0F / rootScale.y, 1.0F / rootScale.z)), OpenMatrix4f::mul);
+		pose.putJointData("Head", head);
 	}
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import net.minecraftforge.client.event.RenderNameTagEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event.Result;
 import yesman.epicfight.api.animation.Pose;
+import yesman.epicfight.api.animation.TransformScratch;
 import yesman.epicfight.api.client.model.AnimatedMesh;
 import yesman.epicfight.api.client.model.MeshProvider;
 import yesman.epicfight.api.model.Armature;
@@ -49,9 +50,12 @@ public abstract class PatchedEntityRenderer<E extends LivingEntity, T extends Li
 	}
 	
 	public OpenMatrix4f[] getPoseMatrices(T entitypatch, Armature armature, float partialTicks, boolean toOrigin) {
-		Pose pose = entitypatch.getAnimator().getPose(partialTicks);
+		// The animator's pose is shared by the frame, so joint transforms are set on a copy
+		Pose pose = new Pose();
+		pose.putJointData(entitypatch.getAnimator().getPose(partialTicks));
         this.setJointTransforms(entitypatch, armature, pose, partialTicks);
-		OpenMatrix4f[] poseMatrices = armature.getPoseAsTransformMatrix(pose, toOrigin);
+		TransformScratch scratch = entitypatch.getAnimator().getTransformScratch();
+		OpenMatrix4f[] poseMatrices = armature.getPoseAsTransformMatrix(pose, toOrigin, scratch.getJointMatrices(armature.getJointNumber()), scratch);
 		
 		return poseMatrices;
 	}
@@ -62,6 +66,9 @@ public abstract class PatchedEntityRenderer<E extends LivingEntity, T extends Li
 	
 	public abstract MeshProvider<AM> getDefaultMesh();
 	
+	/**
+	 * The pose shares its joint transforms with the animator's cached pose, so replace a transform with a copy before modifying it
+	 */
 	protected void setJointTransforms(T entitypatch, Armature armature, Pose pose, float partialTicks) {
 	}
 }
\ No newline at end of file
@@ -205,6 +205,17 @@ public class WearableItemLayer<E extends LivingEntity, T extends LivingEntityPat
 		
 		if (ARMOR_MODELS.containsKey(registryName) && !ClientEngine.getInstance().renderEngine.shouldRenderVanillaModel()) {
 			return ARMOR_MODELS.get(registryName);
+		} else if (CustomModelBakery.isBaking(armorItem)) {
+			AnimatedMesh animatedMesh = CustomModelBakery.getBakedArmor(armorItem);
+			
+			if (animatedMesh == null) {
+				// Rendered with the default armor model until the model is baked
+				return this.mesh.get().getHumanoidArmorModel(slot);
+			}
+			
+			putModel(registryName, animatedMesh);
+			
+			return animatedMesh;
 		} else {
 			ResourceManager resourceManager = Minecraft.getInstance().getResourceManager();
 			ResourceLocation rl = new ResourceLocation(ForgeRegistries.ITEMS.getKey(armorItem).getNamespace(), "animmodels/armor/" + ForgeRegistries.ITEMS.getKey(armorItem).getPath() + ".json");
@@ -242,6 +253,10 @@ public class WearableItemLayer<E extends LivingEntity, T extends LivingEntityPat
 				}
 				
 				animatedMesh = CustomModelBakery.bakeArmor(entityliving, itemstack, armorItem, slot, originalModel, forgeHooksArmorModel, originalRenderer.getParentModel(), this.mesh.get());
+				
+				if (CustomModelBakery.isBaking(armorItem)) {
+					return this.mesh.get().getHumanoidArmorModel(slot);
+				}
 			}
 			
 			putModel(registryName, animatedMesh);
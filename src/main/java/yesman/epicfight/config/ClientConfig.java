@@ -27,6 +27,10 @@ public class ClientConfig {
 	public final BooleanValue showEpicFightAttributes;
 	public final BooleanValue useAnimationShader;
 	public final BooleanValue firstPersonModel;
+	public final BooleanValue animationLOD;
+	public final IntValue animationLODReducedDistance;
+	public final IntValue animationLODLowDistance;
+	public final IntValue animationLODLowInterval;
 	
 	public final ConfigValue<List<? extends String>> battleAutoSwitchItems;
 	public final ConfigValue<List<? extends String>> miningAutoSwitchItems;
@@ -71,6 +75,10 @@ public class ClientConfig {
 		this.showEpicFightAttributes = config.define("ingame.show_epicfight_attributes", () -> true);
 		this.useAnimationShader = config.define("ingame.use_animation_shader", () -> false);
 		this.firstPersonModel = config.define("ingame.first_person_model", () -> true);
+		this.animationLOD = config.define("ingame.animation_lod", () -> true);
+		this.animationLODReducedDistance = config.defineInRange("ingame.animation_lod_reduced_distance", 32, 0, 256);
+		this.animationLODLowDistance = config.defineInRange("ingame.animation_lod_low_distance", 64, 0, 256);
+		this.animationLODLowInterval = config.defineInRange("ingame.animation_lod_low_interval", 3, 1, 20);
 		
 		this.battleAutoSwitchItems = config.defineList("ingame.battle_autoswitch_items", Lists.newArrayList(), (element) -> {
 			if (element instanceof String str) {
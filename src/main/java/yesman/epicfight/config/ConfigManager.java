@@ -24,8 +24,11 @@ public class ConfigManager {
 	public static final ForgeConfigSpec.BooleanValue NO_MOBS_IN_BOSSFIGHT;
 	public static final ForgeConfigSpec.BooleanValue EPIC_DROP;
 	public static final ForgeConfigSpec.EnumValue<PlayerPatch.PlayerMode> INITIAL_PLAYER_MODE;
+	public static final ForgeConfigSpec.BooleanValue OPTIMIZE_ANIMATION_CLIPS;
 	
 	public static final ForgeConfigSpec.IntValue WEIGHT_PENALTY;
+	public static final ForgeConfigSpec.IntValue IDLE_ANIMATION_TICK_INTERVAL;
+	public static final ForgeConfigSpec.IntValue ANIMATION_TICK_BUDGET;
 	public static final ForgeConfigSpec.IntValue SKILL_BOOK_MOB_DROP_CHANCE_MODIFIER;
 	public static final ForgeConfigSpec.IntValue SKILL_BOOK_CHEST_LOOT_MODIFYER;
 	
@@ -44,10 +47,13 @@ public class ConfigManager {
 		NO_MOBS_IN_BOSSFIGHT = server.define("default_gamerule.noMobsInBossfight", true);
 		EPIC_DROP = server.define("default_gamerule.epicDrop", true);
 		WEIGHT_PENALTY = server.defineInRange("default_gamerule.weightPenalty", 100, 0, 100);
+		IDLE_ANIMATION_TICK_INTERVAL = server.comment("Ticks between the animation updates of idle mobs, deferred ticks are caught up at once when they act or get hurt").defineInRange("default_gamerule.idleAnimationTickInterval", 4, 1, 20);
+		ANIMATION_TICK_BUDGET = server.comment("Milliseconds the mob animations of a level may take in a tick before idle mobs are put off, 0 for no limit").defineInRange("default_gamerule.animationTickBudget", 10, 0, 50);
 		SKILL_BOOK_MOB_DROP_CHANCE_MODIFIER = server.defineInRange("loot.skill_book_mob_drop_chance_modifier", 0, -100, 100);
 		SKILL_BOOK_CHEST_LOOT_MODIFYER = server.defineInRange("loot.skill_book_chest_drop_chance_modifier", 0, -100, 100);
 		CAN_SWITCH_COMBAT = server.define("default_gamerule.canSwitchCombat", true);
 		INITIAL_PLAYER_MODE = server.defineEnum("default_gamerule.initialPlayerMode", PlayerPatch.PlayerMode.MINING);
+		OPTIMIZE_ANIMATION_CLIPS = server.comment("Drops redundant keyframes and shares identical joint tracks between animation clips to save memory").define("performance.optimizeAnimationClips", true);
 		
 		INGAME_CONFIG = new ClientConfig(client);
 		CLIENT_CONFIG = client.build();
@@ -34,6 +34,10 @@ public class EpicFightOptions {
 	public final IntegerOptionHandler maxStuckProjectiles;
 	public final BooleanOptionHandler useAnimationShader;
 	public final BooleanOptionHandler firstPersonModel;
+	public final BooleanOptionHandler animationLOD;
+	public final IntegerOptionHandler animationLODReducedDistance;
+	public final IntegerOptionHandler animationLODLowDistance;
+	public final IntegerOptionHandler animationLODLowInterval;
 	
 	public boolean shaderModeSwitchingLocked = false;
 	
@@ -80,6 +84,10 @@ public class EpicFightOptions {
 		this.maxStuckProjectiles = new IntegerOptionHandler(config.maxStuckProjectiles.get(), 1, 30);
 		this.useAnimationShader = new BooleanOptionHandler(config.useAnimationShader.get());
 		this.firstPersonModel = new BooleanOptionHandler(config.firstPersonModel.get());
+		this.animationLOD = new BooleanOptionHandler(config.animationLOD.get());
+		this.animationLODReducedDistance = new IntegerOptionHandler(config.animationLODReducedDistance.get(), 0, 256);
+		this.animationLODLowDistance = new IntegerOptionHandler(config.animationLODLowDistance.get(), 0, 256);
+		this.animationLODLowInterval = new IntegerOptionHandler(config.animationLODLowInterval.get(), 1, 20);
 		
 		this.battleAutoSwitchItems = config.battleAutoSwitchItems.get().stream()
 				.map(itemName -> ForgeRegistries.ITEMS.getValue(new ResourceLocation(itemName)))
@@ -126,6 +134,10 @@ public class EpicFightOptions {
 		this.noMiningInCombat.setDefaultValue();
 		this.aimingCorrection.setDefaultValue();
 		this.showEpicFightAttributes.setDefaultValue();
+		this.animationLOD.setDefaultValue();
+		this.animationLODReducedDistance.setDefaultValue();
+		this.animationLODLowDistance.setDefaultValue();
+		this.animationLODLowInterval.setDefaultValue();
 		
 		if (!this.shaderModeSwitchingLocked) {
 			this.useAnimationShader.setDefaultValue();
@@ -168,6 +180,10 @@ public class EpicFightOptions {
 		config.showEpicFightAttributes.set(this.showEpicFightAttributes.getValue());
 		config.useAnimationShader.set(this.useAnimationShader.getValue());
 		config.firstPersonModel.set(this.firstPersonModel.getValue());
+		config.animationLOD.set(this.animationLOD.getValue());
+		config.animationLODReducedDistance.set(this.animationLODReducedDistance.getValue());
+		config.animationLODLowDistance.set(this.animationLODLowDistance.getValue());
+		config.animationLODLowInterval.set(this.animationLODLowInterval.getValue());
 		
 		this.aimHelperRealColor = ColorWidget.toColorInteger(this.aimHelperColor.getValue());
 		config.battleAutoSwitchItems.set(Lists.newArrayList(this.battleAutoSwitchItems.stream().map((item) -> ForgeRegistries.ITEMS.getKey(item).toString()).iterator()));
@@ -2,24 +2,31 @@ package yesman.epicfight.events;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import com.google.common.collect.Lists;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.LootTableLoadEvent;
 import net.minecraftforge.event.OnDatapackSyncEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import yesman.epicfight.api.data.reloader.DatapackSyncCache;
 import yesman.epicfight.api.data.reloader.ItemCapabilityReloadListener;
 import yesman.epicfight.api.data.reloader.MobPatchReloadListener;
 import yesman.epicfight.api.data.reloader.SkillManager;
 import yesman.epicfight.data.loot.EpicFightLootTables;
 import yesman.epicfight.data.loot.SkillBookLootModifier;
 import yesman.epicfight.main.EpicFightMod;
+import yesman.epicfight.network.AnimationPacketBundler;
 import yesman.epicfight.network.EpicFightNetworkManager;
 import yesman.epicfight.network.server.SPChangeGamerule;
 import yesman.epicfight.network.server.SPChangeGamerule.SynchronizedGameRules;
 import yesman.epicfight.network.server.SPDatapackSync;
+import yesman.epicfight.network.server.SPDatapackSyncDelta;
 import yesman.epicfight.network.server.SPDatapackSyncSkill;
 import yesman.epicfight.skill.SkillCategory;
 import yesman.epicfight.skill.SkillContainer;
@@ -44,7 +51,7 @@ public class WorldEvents {
 			}
 			
 			if (!event.getPlayer().getServer().isSingleplayerOwner(event.getPlayer().getGameProfile())) {
-				synchronizeWorldData(event.getPlayer());
+				synchronizeWorldData(event.getPlayer(), null);
 			} else {
 				ServerPlayerPatch serverplayerpatch = EpicFightCapabilities.getEntityPatch(event.getPlayer(), ServerPlayerPatch.class);
 				CapabilitySkill skillCapability = serverplayerpatch.getSkillCapability();
@@ -57,11 +64,32 @@ public class WorldEvents {
 				}
 			}
 		} else {
-			event.getPlayerList().getPlayers().forEach(WorldEvents::synchronizeWorldData);
+			SPDatapackSyncDelta delta = DatapackSyncCache.reload();
+			event.getPlayerList().getPlayers().forEach((player) -> synchronizeWorldData(player, delta));
 		}
     }
 	
-	private static void synchronizeWorldData(ServerPlayer player) {
+	@SubscribeEvent
+	public static void onServerTick(final TickEvent.ServerTickEvent event) {
+		if (event.phase == TickEvent.Phase.END) {
+			AnimationPacketBundler.flush();
+		}
+	}
+	
+	@SubscribeEvent
+	public static void onServerStopped(final ServerStoppedEvent event) {
+		AnimationPacketBundler.clear();
+		DatapackSyncCache.invalidate();
+		WeaponTypeReloadListener.resetDelta();
+		ItemCapabilityReloadListener.resetDelta();
+		MobPatchReloadListener.resetDelta();
+	}
+	
+	/**
+	 * Logging in players are offered the whole data. After a reload, players are sent its delta and are also offered the
+	 * whole data if it needs to be resent
+	 */
+	private static void synchronizeWorldData(ServerPlayer player, @Nullable SPDatapackSyncDelta delta) {
 		ServerPlayerPatch serverplayerpatch = EpicFightCapabilities.getEntityPatch(player, ServerPlayerPatch.class);
 		CapabilitySkill skillCapability = serverplayerpatch.getSkillCapability();
 		
@@ -84,19 +112,17 @@ public class WorldEvents {
 		skillParams.forEach(skillParamsPacket::write);
 		EpicFightNetworkManager.sendToPlayer(skillParamsPacket, player);
 		
-		SPDatapackSync armorPacket = new SPDatapackSync(ItemCapabilityReloadListener.armorCount(), SPDatapackSync.Type.ARMOR);
-		SPDatapackSync weaponPacket = new SPDatapackSync(ItemCapabilityReloadListener.weaponCount(), SPDatapackSync.Type.WEAPON);
-		SPDatapackSync mobPatchPacket = new SPDatapackSync(MobPatchReloadListener.getTagCount(), SPDatapackSync.Type.MOB);
-		SPDatapackSync weaponTypePacket = new SPDatapackSync(WeaponTypeReloadListener.getTagCount(), SPDatapackSync.Type.WEAPON_TYPE);
+		if (delta == null) {
+			DatapackSyncCache.offer(player);
+			return;
+		}
 		
-		ItemCapabilityReloadListener.getArmorDataStream().forEach(armorPacket::write);
-		ItemCapabilityReloadListener.getWeaponDataStream().forEach(weaponPacket::write);
-		MobPatchReloadListener.getDataStream().forEach(mobPatchPacket::write);
-		WeaponTypeReloadListener.getWeaponTypeDataStream().forEach(weaponTypePacket::write);
+		if (!delta.isEmpty()) {
+			EpicFightNetworkManager.sendToPlayer(delta, player);
+		}
 		
-		EpicFightNetworkManager.sendToPlayer(weaponTypePacket, player);
-		EpicFightNetworkManager.sendToPlayer(armorPacket, player);
-		EpicFightNetworkManager.sendToPlayer(weaponPacket, player);
-		EpicFightNetworkManager.sendToPlayer(mobPatchPacket, player);
+		if (DatapackSyncCache.needsWholeData()) {
+			DatapackSyncCache.offer(player);
+		}
 	}
 }
\ No newline at end of file
@@ -3,8 +3,6 @@ package yesman.epicfight.gameasset;
 import java.util.List;
 import java.util.Set;
 
-import org.joml.Quaternionf;
-
 import com.google.common.collect.Lists;
 
 import it.unimi.dsi.fastutil.ints.IntIntPair;
@@ -566,7 +564,7 @@ public class Animations {
 				})
 				.addProperty(StaticAnimationProperty.POSE_MODIFIER, (self, pose, entitypatch, elapsedTime, partialTicks) -> {
 					if (entitypatch.isFirstPerson()) {
-						pose.getJointTransformData().clear();
+						pose.clear();
 					} else if (!(self.isLinkAnimation())) {
 						LivingMotion livingMotion = entitypatch.getCurrentLivingMotion();
 						Pose rawPose;
@@ -579,13 +577,13 @@ public class Animations {
 							float f = 90.0F;
 							float ratio = (f - Math.abs(entitypatch.getOriginal().getXRot())) / f;
 							float yawOffset = entitypatch.getOriginal().getVehicle() != null ? entitypatch.getOriginal().getYHeadRot() : entitypatch.getOriginal().yBodyRot;
-							rawPose.getJointTransformData().get("Chest").frontResult(
+							rawPose.get("Chest").frontResult(
 								  JointTransform.getRotation(QuaternionUtils.YP.rotationDegrees(Mth.wrapDegrees(entitypatch.getOriginal().getYHeadRot() - yawOffset) * ratio))
 								, OpenMatrix4f::mulAsOriginInverse
 							);
 						}
 
-						pose.getJointTransformData().putAll(rawPose.getJointTransformData());
+						pose.putJointData(rawPose);
 					}
 				})
 				.addProperty(StaticAnimationProperty.FIXED_HEAD_ROTATION, true);
@@ -1015,8 +1013,7 @@ public class Animations {
 					Vec3 from = entitypatch.getOriginal().position();
 					Vec3 correction = to.subtract(from).normalize().scale(2.0D);
 
-					TransformSheet correctedCoord = self.getCoord().getCorrectedModelCoord(entitypatch, from, to.add(correction), 0, 2);
-					transformSheet.readFrom(correctedCoord);
+					self.getCoord().getCorrectedModelCoord(entitypatch, from, to.add(correction), 0, 2, transformSheet);
 				})
 				.addProperty(ActionAnimationProperty.COORD_SET_TICK, null)
 				.addProperty(StaticAnimationProperty.PLAY_SPEED_MODIFIER, (self, entitypatch, speed, prevElapsedTime, elapsedTime) -> {
@@ -1142,7 +1139,7 @@ public class Animations {
 				.addProperty(ActionAnimationProperty.MOVE_TIME, TimePairList.create(0.0F, 1.35F))
 				.addProperty(ActionAnimationProperty.COORD_SET_BEGIN, (self, entitypatch, transformSheet) -> {
 					if (entitypatch instanceof EnderDragonPatch dragonpatch) {
-						TransformSheet transform = self.getCoord().copyAll();
+						TransformSheet transform = transformSheet.readFrom(self.getCoord());
 						Vec3 dragonpos = dragonpatch.getOriginal().position();
 						Vec3 targetpos = dragonpatch.getOriginal().getPhaseManager().getPhase(PatchedPhases.LANDING).getLandingPosition();
 						float horizontalDistance = (float) dragonpos.subtract(0, dragonpos.y, 0).distanceTo(targetpos.subtract(0, targetpos.y, 0));
@@ -1154,7 +1151,6 @@ public class Animations {
 						Vec3f jointCoord = OpenMatrix4f.transform3v(coordReverse, new Vec3f(jt0.translation().x, verticalDistance, horizontalDistance), null);
 						jt0.translation().set(jointCoord);
 						jt1.translation().set(MathUtils.lerpVector(jt0.translation(), jt2.translation(), transform.getKeyframes()[1].time() / transform.getKeyframes()[2].time()));
-						transformSheet.readFrom(transform);
 					}
 				})
 				.addEvents(
@@ -1397,8 +1393,7 @@ public class Animations {
 				.addProperty(ActionAnimationProperty.MOVE_VERTICAL, true)
 				.addProperty(ActionAnimationProperty.COORD_SET_BEGIN, (self, entitypatch, transformSheet) -> {
 					if (entitypatch instanceof WitherPatch witherpatch && witherpatch.getOriginal().getAlternativeTarget(0) > 0) {
-						TransformSheet transform = self.getTransfroms().get("Root").copyAll();
-						Keyframe[] keyframes = transform.getKeyframes();
+						Keyframe[] keyframes = transformSheet.readFrom(self.getTransfroms().get("Root")).getKeyframes();
 						int startFrame = 1;
 						int endFrame = 5;
 						Vec3f keyOrigin = keyframes[startFrame].transform().translation().multiply(1.0F, 1.0F, 0.0F);
@@ -1410,17 +1405,15 @@ public class Animations {
 						Vec3f prevPosition = Vec3f.sub(keyLast, keyOrigin, null);
 						Vec3f newPosition = new Vec3f(keyLast.x, verticalDistance, -horizontalDistance);
 						float scale = Math.min(newPosition.length() / prevPosition.length(), 5.0F);
-						Quaternionf rotator = Vec3f.getRotatorBetween(newPosition, keyLast);
+						OpenMatrix4f rotator = OpenMatrix4f.fromQuaternion(Vec3f.getRotatorBetween(newPosition, keyLast));
 						
 						for (int i = startFrame; i <= endFrame; i++) {
 							Vec3f translation = keyframes[i].transform().translation();
 							translation.z *= scale;
-							OpenMatrix4f.transform3v(OpenMatrix4f.fromQuaternion(rotator), translation, translation);
+							OpenMatrix4f.transform3v(rotator, translation, translation);
 						}
-						
-						transformSheet.readFrom(transform);
 					} else {
-						transformSheet.readFrom(self.getTransfroms().get("Root").copyAll());
+						transformSheet.readFrom(self.getTransfroms().get("Root"));
 					}
 				}).addProperty(ActionAnimationProperty.COORD_SET_TICK, (self, entitypatch, transformSheet) -> {})
 				.addEvents(TimeStampedEvent.create(0.4F, (entitypatch, animation, params) -> {
@@ -1674,7 +1667,7 @@ public class Animations {
 				.addProperty(ActionAnimationProperty.COORD_SET_BEGIN, (animation, entitypatch, transformSheet) -> {
 					if (entitypatch instanceof PlayerPatch<?> playerpatch) {
 						int chargingPower = SteelWhirlwindSkill.getChargingPower(playerpatch.getSkill(SkillSlots.WEAPON_INNATE));
-						transformSheet.readFrom(animation.getCoord().copyAll().extendsZCoord(0.6666F + chargingPower / 5.0F, 0, 2));
+						animation.getCoord().extendsZCoord(0.6666F + chargingPower / 5.0F, 0, 2, transformSheet);
 					} else {
 						MoveCoordFunctions.RAW_COORD.set(animation, entitypatch, transformSheet);
 					}
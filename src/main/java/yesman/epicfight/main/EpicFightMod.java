@@ -69,6 +69,7 @@ import yesman.epicfight.gameasset.EpicFightSounds;
 import yesman.epicfight.network.EpicFightDataSerializers;
 import yesman.epicfight.network.EpicFightNetworkManager;
 import yesman.epicfight.particle.EpicFightParticles;
+import yesman.epicfight.server.commands.MetricsCommand;
 import yesman.epicfight.server.commands.PlayerModeCommand;
 import yesman.epicfight.server.commands.PlayerSkillCommand;
 import yesman.epicfight.server.commands.arguments.EpicFightCommandArgumentTypes;
@@ -257,6 +258,7 @@ public class EpicFightMod {
 	private void command(final RegisterCommandsEvent event) {
 		PlayerModeCommand.register(event.getDispatcher());
 		PlayerSkillCommand.register(event.getDispatcher(), event.getBuildContext());
+		MetricsCommand.register(event.getDispatcher());
     }
 	
 	public void addPackFindersEvent(AddPackFindersEvent event) {
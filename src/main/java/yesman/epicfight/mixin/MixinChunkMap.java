@@ -0,0 +1,13 @@
+package yesman.epicfight.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.server.level.ChunkMap;
+
+@Mixin(value = ChunkMap.class)
+public interface MixinChunkMap {
+	@Accessor("entityMap")
+	public Int2ObjectMap<?> getEntityMap();
+}
\ No newline at end of file
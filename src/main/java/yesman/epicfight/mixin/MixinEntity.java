@@ -0,0 +1,24 @@
+package yesman.epicfight.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.minecraft.world.entity.Entity;
+import yesman.epicfight.world.capabilities.entitypatch.EntityPatch;
+import yesman.epicfight.world.capabilities.entitypatch.EntityPatchHolder;
+
+@Mixin(value = Entity.class)
+public abstract class MixinEntity implements EntityPatchHolder {
+	@Unique
+	private EntityPatch<?> epicfight_entitypatch;
+	
+	@Override
+	public EntityPatch<?> epicfight_getEntityPatch() {
+		return this.epicfight_entitypatch;
+	}
+	
+	@Override
+	public void epicfight_setEntityPatch(EntityPatch<?> entitypatch) {
+		this.epicfight_entitypatch = entitypatch;
+	}
+}
\ No newline at end of file
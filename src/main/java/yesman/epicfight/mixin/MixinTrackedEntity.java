@@ -0,0 +1,14 @@
+package yesman.epicfight.mixin;
+
+import java.util.Set;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.server.network.ServerPlayerConnection;
+
+@Mixin(targets = "net.minecraft.server.level.ChunkMap$TrackedEntity")
+public interface MixinTrackedEntity {
+	@Accessor("seenBy")
+	public Set<ServerPlayerConnection> getSeenBy();
+}
\ No newline at end of file
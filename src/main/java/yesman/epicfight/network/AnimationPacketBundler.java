@@ -0,0 +1,140 @@
+package yesman.epicfight.network;
+
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Maps;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerPlayerConnection;
+import net.minecraft.world.entity.Entity;
+import yesman.epicfight.mixin.MixinChunkMap;
+import yesman.epicfight.mixin.MixinTrackedEntity;
+import yesman.epicfight.network.server.SPAnimationBundle;
+
+/**
+ * Collects the animation packets sent to each player during a server tick, and sends them as one {@link SPAnimationBundle}
+ * per player at the end of the tick. Packets are kept in the order they were sent for each player. Packets that
+ * can't be bundled, or whose entity isn't tracked, are sent at once after the pending bundles of their receivers.
+ */
+public class AnimationPacketBundler {
+	private static final Map<ServerPlayer, SPAnimationBundle> BUNDLES = Maps.newIdentityHashMap();
+	
+	private static long bundledPackets;
+	private static long sentBundles;
+	private static long unbundledPackets;
+	
+	public static void sendToAllPlayerTrackingThisEntity(Object message, Entity entity, boolean withSelf) {
+		Set<ServerPlayerConnection> trackingConnections = getTrackingConnections(entity);
+		
+		if (trackingConnections == null || !SPAnimationBundle.canBundle(message)) {
+			unbundledPackets++;
+			
+			// The packets bundled earlier in this tick go first, so the receivers get them in the order they were sent
+			if (withSelf && entity instanceof ServerPlayer serverplayer) {
+				flush(serverplayer);
+			}
+			
+			if (trackingConnections != null) {
+				for (ServerPlayerConnection connection : trackingConnections) {
+					flush(connection.getPlayer());
+				}
+			}
+			
+			if (withSelf && entity instanceof ServerPlayer serverplayer) {
+				EpicFightNetworkManager.sendToAllPlayerTrackingThisEntityWithSelf(message, serverplayer);
+			} else {
+				EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(message, entity);
+			}
+			
+			return;
+		}
+		
+		if (withSelf && entity instanceof ServerPlayer serverplayer) {
+			bundle(message, serverplayer);
+		}
+		
+		for (ServerPlayerConnection connection : trackingConnections) {
+			bundle(message, connection.getPlayer());
+		}
+	}
+	
+	public static void sendToPlayer(Object message, ServerPlayer player) {
+		if (!SPAnimationBundle.canBundle(message)) {
+			unbundledPackets++;
+			flush(player);
+			EpicFightNetworkManager.sendToPlayer(message, player);
+			return;
+		}
+		
+		bundle(message, player);
+	}
+	
+	private static void bundle(Object message, ServerPlayer player) {
+		BUNDLES.computeIfAbsent(player, (key) -> new SPAnimationBundle()).add(message);
+		bundledPackets++;
+	}
+	
+	/**
+	 * Returns the connections of the players tracking the entity, or null if the entity isn't tracked by its level
+	 */
+	@Nullable
+	private static Set<ServerPlayerConnection> getTrackingConnections(Entity entity) {
+		if (entity.level() instanceof ServerLevel serverLevel) {
+			Object trackedEntity = ((MixinChunkMap)serverLevel.getChunkSource().chunkMap).getEntityMap().get(entity.getId());
+			
+			if (trackedEntity != null) {
+				return ((MixinTrackedEntity)trackedEntity).getSeenBy();
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Called at the end of the server tick
+	 */
+	public static void flush() {
+		if (BUNDLES.isEmpty()) {
+			return;
+		}
+		
+		BUNDLES.forEach(AnimationPacketBundler::send);
+		BUNDLES.clear();
+	}
+	
+	/**
+	 * Sends the pending bundle of the player ahead of the end of the tick
+	 */
+	private static void flush(ServerPlayer player) {
+		SPAnimationBundle bundle = BUNDLES.remove(player);
+		
+		if (bundle != null) {
+			send(player, bundle);
+		}
+	}
+	
+	private static void send(ServerPlayer player, SPAnimationBundle bundle) {
+		if (!player.hasDisconnected()) {
+			EpicFightNetworkManager.sendToPlayer(bundle, player);
+			sentBundles++;
+		}
+	}
+	
+	public static void clear() {
+		BUNDLES.clear();
+	}
+	
+	public static String getReport() {
+		return String.format("%d animation packets in %d bundles (%.2f per bundle), %d sent unbundled", bundledPackets, sentBundles, sentBundles == 0L ? 0.0D : (double)bundledPackets / sentBundles, unbundledPackets);
+	}
+	
+	public static void resetMetrics() {
+		bundledPackets = 0L;
+		sentBundles = 0L;
+		unbundledPackets = 0L;
+	}
+}
\ No newline at end of file
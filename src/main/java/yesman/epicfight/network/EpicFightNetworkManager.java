@@ -15,16 +15,21 @@ import yesman.epicfight.network.client.CPExecuteSkill;
 import yesman.epicfight.network.client.CPModifyEntityModelYRot;
 import yesman.epicfight.network.client.CPModifySkillData;
 import yesman.epicfight.network.client.CPPlayAnimation;
+import yesman.epicfight.network.client.CPRequestDatapackSync;
 import yesman.epicfight.network.client.CPSetPlayerTarget;
 import yesman.epicfight.network.client.CPUpdatePlayerInput;
 import yesman.epicfight.network.server.SPAddLearnedSkill;
 import yesman.epicfight.network.server.SPAddOrRemoveSkillData;
+import yesman.epicfight.network.server.SPAnimationBundle;
 import yesman.epicfight.network.server.SPChangeGamerule;
 import yesman.epicfight.network.server.SPChangeLivingMotion;
 import yesman.epicfight.network.server.SPChangePlayerMode;
 import yesman.epicfight.network.server.SPChangeSkill;
 import yesman.epicfight.network.server.SPClearSkills;
 import yesman.epicfight.network.server.SPDatapackSync;
+import yesman.epicfight.network.server.SPDatapackSyncChunk;
+import yesman.epicfight.network.server.SPDatapackSyncDelta;
+import yesman.epicfight.network.server.SPDatapackSyncHash;
 import yesman.epicfight.network.server.SPDatapackSyncSkill;
 import yesman.epicfight.network.server.SPFracture;
 import yesman.epicfight.network.server.SPModifyPlayerData;
@@ -42,7 +47,7 @@ import yesman.epicfight.network.server.SPSpawnData;
 import yesman.epicfight.network.server.SPUpdatePlayerInput;
 
 public class EpicFightNetworkManager {
-	private static final String PROTOCOL_VERSION = "1";
+	private static final String PROTOCOL_VERSION = "4";
 	public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(new ResourceLocation(EpicFightMod.MODID, "network_manager"),
 			() -> PROTOCOL_VERSION, PROTOCOL_VERSION::equals, PROTOCOL_VERSION::equals);
 
@@ -70,6 +75,21 @@ public class EpicFightNetworkManager {
 		sendToClient(message, PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> entity));
 	}
 	
+	/**
+	 * Animation packets are bundled per player and sent at the end of the server tick, see {@link AnimationPacketBundler}
+	 */
+	public static <MSG> void sendAnimationToAllPlayerTrackingThisEntity(MSG message, Entity entity) {
+		AnimationPacketBundler.sendToAllPlayerTrackingThisEntity(message, entity, false);
+	}
+	
+	public static <MSG> void sendAnimationToAllPlayerTrackingThisEntityWithSelf(MSG message, ServerPlayer entity) {
+		AnimationPacketBundler.sendToAllPlayerTrackingThisEntity(message, entity, true);
+	}
+	
+	public static <MSG> void sendAnimationToPlayer(MSG message, ServerPlayer player) {
+		AnimationPacketBundler.sendToPlayer(message, player);
+	}
+	
 	public static <MSG> void sendToAllPlayerTrackingThisChunkWithSelf(MSG message, LevelChunk chunk) {
 		sendToClient(message, PacketDistributor.TRACKING_CHUNK.with(() -> chunk));
 	}
@@ -109,5 +129,10 @@ public class EpicFightNetworkManager {
 		INSTANCE.registerMessage(id++, SPFracture.class, SPFracture::toBytes, SPFracture::fromBytes, SPFracture::handle);
 		INSTANCE.registerMessage(id++, SPUpdatePlayerInput.class, SPUpdatePlayerInput::toBytes, SPUpdatePlayerInput::fromBytes, SPUpdatePlayerInput::handle);
 		INSTANCE.registerMessage(id++, SPAddOrRemoveSkillData.class, SPAddOrRemoveSkillData::toBytes, SPAddOrRemoveSkillData::fromBytes, SPAddOrRemoveSkillData::handle);
+		INSTANCE.registerMessage(id++, SPAnimationBundle.class, SPAnimationBundle::toBytes, SPAnimationBundle::fromBytes, SPAnimationBundle::handle);
+		INSTANCE.registerMessage(id++, SPDatapackSyncHash.class, SPDatapackSyncHash::toBytes, SPDatapackSyncHash::fromBytes, SPDatapackSyncHash::handle);
+		INSTANCE.registerMessage(id++, SPDatapackSyncChunk.class, SPDatapackSyncChunk::toBytes, SPDatapackSyncChunk::fromBytes, SPDatapackSyncChunk::handle);
+		INSTANCE.registerMessage(id++, CPRequestDatapackSync.class, CPRequestDatapackSync::toBytes, CPRequestDatapackSync::fromBytes, CPRequestDatapackSync::handle);
+		INSTANCE.registerMessage(id++, SPDatapackSyncDelta.class, SPDatapackSyncDelta::toBytes, SPDatapackSyncDelta::fromBytes, SPDatapackSyncDelta::handle);
 	}
 }
\ No newline at end of file
@@ -54,10 +54,10 @@ public class CPPlayAnimation {
 				playerpatch.getAnimator().playAnimation(msg.animationId, msg.modifyTime);
 			}
 			
-			EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(new SPPlayAnimation(msg.animationId, serverPlayer.getId(), msg.modifyTime), serverPlayer);
+			EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(new SPPlayAnimation(msg.animationId, serverPlayer.getId(), msg.modifyTime), serverPlayer);
 			
 			if (msg.resendToSender) {
-				EpicFightNetworkManager.sendToPlayer(new SPPlayAnimation(msg.animationId, serverPlayer.getId(), msg.modifyTime), serverPlayer);
+				EpicFightNetworkManager.sendAnimationToPlayer(new SPPlayAnimation(msg.animationId, serverPlayer.getId(), msg.modifyTime), serverPlayer);
 			}
 		});
 		ctx.get().setPacketHandled(true);
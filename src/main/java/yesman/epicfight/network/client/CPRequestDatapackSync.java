@@ -0,0 +1,31 @@
+package yesman.epicfight.network.client;
+
+import java.util.function.Supplier;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import yesman.epicfight.api.data.reloader.DatapackSyncCache;
+
+public class CPRequestDatapackSync {
+	private final String hash;
+	
+	public CPRequestDatapackSync(String hash) {
+		this.hash = hash;
+	}
+	
+	public static CPRequestDatapackSync fromBytes(FriendlyByteBuf buf) {
+		return new CPRequestDatapackSync(buf.readUtf(64));
+	}
+	
+	public static void toBytes(CPRequestDatapackSync msg, FriendlyByteBuf buf) {
+		buf.writeUtf(msg.hash, 64);
+	}
+	
+	public static void handle(CPRequestDatapackSync msg, Supplier<NetworkEvent.Context> ctx) {
+		ctx.get().enqueueWork(() -> {
+			DatapackSyncCache.sendChunks(ctx.get().getSender(), msg.hash);
+		});
+		
+		ctx.get().setPacketHandled(true);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package yesman.epicfight.network.server;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.google.common.collect.Lists;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Animation packets sent to a player in a server tick, written in one packet. Entity ids are written as the difference
+ * to the previous entry and convert times of zero are left out.
+ */
+public class SPAnimationBundle {
+	private static final int PLAY = 0;
+	private static final int PLAY_INSTANT = 1;
+	private static final int PLAY_AND_SET_TARGET = 2;
+	private static final int MOVE_AND_PLAY = 3;
+	private static final int CHANGE_LIVING_MOTION = 4;
+	private static final int NO_CONVERT_TIME = 0x80;
+	
+	private final List<Object> messages;
+	
+	public SPAnimationBundle() {
+		this(Lists.newArrayList());
+	}
+	
+	private SPAnimationBundle(List<Object> messages) {
+		this.messages = messages;
+	}
+	
+	/**
+	 * Only the exact packet classes are bundled, subclasses may handle their arrival differently
+	 */
+	public static boolean canBundle(Object message) {
+		Class<?> messageClass = message.getClass();
+		return messageClass == SPPlayAnimation.class || messageClass == SPPlayAnimationInstant.class || messageClass == SPPlayAnimationAndSetTarget.class ||
+				messageClass == SPMoveAndPlayAnimation.class || messageClass == SPChangeLivingMotion.class;
+	}
+	
+	public void add(Object message) {
+		this.messages.add(message);
+	}
+	
+	public boolean isEmpty() {
+		return this.messages.isEmpty();
+	}
+	
+	public int size() {
+		return this.messages.size();
+	}
+	
+	public static SPAnimationBundle fromBytes(FriendlyByteBuf buf) {
+		int size = buf.readVarInt();
+		List<Object> messages = Lists.newArrayListWithCapacity(size);
+		int entityId = 0;
+		
+		for (int i = 0; i < size; i++) {
+			int type = buf.readUnsignedByte();
+			entityId += readSigned(buf);
+			
+			if ((type & ~NO_CONVERT_TIME) == CHANGE_LIVING_MOTION) {
+				messages.add(SPChangeLivingMotion.readMotions(entityId, buf));
+				continue;
+			}
+			
+			int animationId = buf.readVarInt();
+			float convertTimeModifier = (type & NO_CONVERT_TIME) != 0 ? 0.0F : buf.readFloat();
+			
+			switch (type & ~NO_CONVERT_TIME) {
+			case PLAY -> messages.add(new SPPlayAnimation(animationId, entityId, convertTimeModifier));
+			case PLAY_INSTANT -> messages.add(new SPPlayAnimationInstant(animationId, entityId, convertTimeModifier));
+			case PLAY_AND_SET_TARGET -> messages.add(new SPPlayAnimationAndSetTarget(animationId, entityId, convertTimeModifier, entityId + readSigned(buf)));
+			case MOVE_AND_PLAY -> messages.add(new SPMoveAndPlayAnimation(animationId, entityId, convertTimeModifier, entityId + readSigned(buf), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readFloat()));
+			default -> throw new IllegalArgumentException("Unknown animation packet type " + type);
+			}
+		}
+		
+		return new SPAnimationBundle(messages);
+	}
+	
+	public static void toBytes(SPAnimationBundle msg, FriendlyByteBuf buf) {
+		buf.writeVarInt(msg.messages.size());
+		int entityId = 0;
+		
+		for (Object message : msg.messages) {
+			if (message instanceof SPChangeLivingMotion changeLivingMotion) {
+				buf.writeByte(CHANGE_LIVING_MOTION);
+				writeSigned(buf, changeLivingMotion.getEntityId() - entityId);
+				entityId = changeLivingMotion.getEntityId();
+				SPChangeLivingMotion.writeMotions(changeLivingMotion, buf);
+				continue;
+			}
+			
+			SPPlayAnimation playAnimation = (SPPlayAnimation)message;
+			int type = message instanceof SPMoveAndPlayAnimation ? MOVE_AND_PLAY : message instanceof SPPlayAnimationAndSetTarget ? PLAY_AND_SET_TARGET : message instanceof SPPlayAnimationInstant ? PLAY_INSTANT : PLAY;
+			boolean noConvertTime = playAnimation.convertTimeModifier == 0.0F;
+			buf.writeByte(noConvertTime ? type | NO_CONVERT_TIME : type);
+			writeSigned(buf, playAnimation.entityId - entityId);
+			entityId = playAnimation.entityId;
+			buf.writeVarInt(playAnimation.animationId);
+			
+			if (!noConvertTime) {
+				buf.writeFloat(playAnimation.convertTimeModifier);
+			}
+			
+			if (message instanceof SPPlayAnimationAndSetTarget setTarget) {
+				// Attackers are usually spawned close to their targets
+				writeSigned(buf, setTarget.targetId - entityId);
+			}
+			
+			if (message instanceof SPMoveAndPlayAnimation moveAndPlay) {
+				buf.writeDouble(moveAndPlay.posX);
+				buf.writeDouble(moveAndPlay.posY);
+				buf.writeDouble(moveAndPlay.posZ);
+				buf.writeFloat(moveAndPlay.yRot);
+			}
+		}
+	}
+	
+	/**
+	 * Zigzag encoded so small negative differences stay short
+	 */
+	private static void writeSigned(FriendlyByteBuf buf, int value) {
+		buf.writeVarInt((value << 1) ^ (value >> 31));
+	}
+	
+	private static int readSigned(FriendlyByteBuf buf) {
+		int value = buf.readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	public static void handle(SPAnimationBundle msg, Supplier<NetworkEvent.Context> ctx) {
+		ctx.get().enqueueWork(() -> {
+			for (Object message : msg.messages) {
+				if (message instanceof SPChangeLivingMotion changeLivingMotion) {
+					changeLivingMotion.onArrive();
+				} else {
+					((SPPlayAnimation)message).onArrive();
+				}
+			}
+		});
+		
+		ctx.get().setPacketHandled(true);
+	}
+}
\ No newline at end of file
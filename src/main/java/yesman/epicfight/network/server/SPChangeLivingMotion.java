@@ -63,17 +63,53 @@ public class SPChangeLivingMotion {
 		});
 	}
 	
+	public int getEntityId() {
+		return this.entityId;
+	}
+	
+	public void onArrive() {
+		Minecraft mc = Minecraft.getInstance();
+		Entity entity = mc.player.level().getEntity(this.entityId);
+		
+		if (entity != null) {
+			if (entity.getCapability(EpicFightCapabilities.CAPABILITY_ENTITY).orElse(null) instanceof LivingEntityPatch<?> entitypatch) {
+				ClientAnimator animator = entitypatch.getClientAnimator();
+				animator.resetLivingAnimations();
+				animator.offAllLayers();
+				animator.resetMotion();
+				animator.resetCompositeMotion();
+				
+				for (int i = 0; i < this.count; i++) {
+					entitypatch.getClientAnimator().addLivingAnimation(this.motionList.get(i), this.animationList.get(i));
+				}
+				
+				if (this.setChangesAsDefault) {
+					animator.setCurrentMotionsAsDefault();
+				}
+			}
+		}
+	}
+	
 	public static SPChangeLivingMotion fromBytes(FriendlyByteBuf buf) {
-		SPChangeLivingMotion msg = new SPChangeLivingMotion(buf.readInt(), buf.readInt(), buf.readBoolean());
+		return readMotions(buf.readVarInt(), buf);
+	}
+	
+	public static void toBytes(SPChangeLivingMotion msg, FriendlyByteBuf buf) {
+		buf.writeVarInt(msg.entityId);
+		writeMotions(msg, buf);
+	}
+	
+	/**
+	 * Reads the motions without the entity id, shared with {@link SPAnimationBundle}
+	 */
+	static SPChangeLivingMotion readMotions(int entityId, FriendlyByteBuf buf) {
+		SPChangeLivingMotion msg = new SPChangeLivingMotion(entityId, buf.readVarInt(), buf.readBoolean());
 		List<LivingMotion> motionList = Lists.newArrayList();
 		List<StaticAnimation> animationList = Lists.newArrayList();
 		
 		for (int i = 0; i < msg.count; i++) {
-			motionList.add(LivingMotion.ENUM_MANAGER.getOrThrow(buf.readInt()));
-		}
-		
-		for (int i = 0; i < msg.count; i++) {
-			animationList.add(AnimationManager.getInstance().byId(buf.readInt()));
+			motionList.add(LivingMotion.ENUM_MANAGER.getOrThrow(buf.readVarInt()));
+			animationList.add(AnimationManager.getInstance().byId(buf.readVarInt()));
 		}
 		
 		msg.motionList = motionList;
@@ -82,42 +118,19 @@ public class SPChangeLivingMotion {
 		return msg;
 	}
 	
-	public static void toBytes(SPChangeLivingMotion msg, FriendlyByteBuf buf) {
-		buf.writeInt(msg.entityId);
-		buf.writeInt(msg.count);
+	static void writeMotions(SPChangeLivingMotion msg, FriendlyByteBuf buf) {
+		buf.writeVarInt(msg.count);
 		buf.writeBoolean(msg.setChangesAsDefault);
 		
-		for (LivingMotion motion : msg.motionList) {
-			buf.writeInt(motion.universalOrdinal());
-		}
-		
-		for (StaticAnimation anim : msg.animationList) {
-			buf.writeInt(anim.getId());
+		for (int i = 0; i < msg.count; i++) {
+			buf.writeVarInt(msg.motionList.get(i).universalOrdinal());
+			buf.writeVarInt(msg.animationList.get(i).getId());
 		}
 	}
 	
 	public static void handle(SPChangeLivingMotion msg, Supplier<NetworkEvent.Context> ctx) {
 		ctx.get().enqueueWork(() -> {
-			Minecraft mc = Minecraft.getInstance();
-			Entity entity = mc.player.level().getEntity(msg.entityId);
-			
-			if (entity != null) {
-				if (entity.getCapability(EpicFightCapabilities.CAPABILITY_ENTITY).orElse(null) instanceof LivingEntityPatch<?> entitypatch) {
-					ClientAnimator animator = entitypatch.getClientAnimator();
-					animator.resetLivingAnimations();
-					animator.offAllLayers();
-					animator.resetMotion();
-					animator.resetCompositeMotion();
-					
-					for (int i = 0; i < msg.count; i++) {
-						entitypatch.getClientAnimator().addLivingAnimation(msg.motionList.get(i), msg.animationList.get(i));
-					}
-					
-					if (msg.setChangesAsDefault) {
-						animator.setCurrentMotionsAsDefault();
-					}
-				}
-			}
+			msg.onArrive();
 		});
 		
 		ctx.get().setPacketHandled(true);
@@ -5,6 +5,7 @@ import java.util.function.Supplier;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
+import yesman.epicfight.api.data.reloader.DatapackSyncCache;
 import yesman.epicfight.api.data.reloader.ItemCapabilityReloadListener;
 import yesman.epicfight.api.data.reloader.MobPatchReloadListener;
 import yesman.epicfight.api.exception.DatapackException;
@@ -63,23 +64,30 @@ public class SPDatapackSync {
 	
 	public static void handle(SPDatapackSync msg, Supplier<NetworkEvent.Context> ctx) {
 		ctx.get().enqueueWork(() -> {
-			try {
-				switch (msg.getType()) {
-				case MOB -> MobPatchReloadListener.processServerPacket(msg);
-				case SKILL_PARAMS -> {/** Processed on {@link SPDatapackSyncSkill} **/}
-				case WEAPON -> ItemCapabilityReloadListener.processServerPacket(msg);
-				case ARMOR -> ItemCapabilityReloadListener.processServerPacket(msg);
-				case WEAPON_TYPE -> WeaponTypeReloadListener.processServerPacket(msg);
-				}
-			} catch (Exception e) {
-				e.printStackTrace();
-				throw new DatapackException(e.getMessage());
-			}
+			process(msg);
 		});
 		
 		ctx.get().setPacketHandled(true);
 	}
 	
+	/**
+	 * Also called for the data applied from {@link DatapackSyncCache}
+	 */
+	public static void process(SPDatapackSync msg) {
+		try {
+			switch (msg.getType()) {
+			case MOB -> MobPatchReloadListener.processServerPacket(msg);
+			case SKILL_PARAMS -> {/** Processed on {@link SPDatapackSyncSkill} **/}
+			case WEAPON -> ItemCapabilityReloadListener.processServerPacket(msg);
+			case ARMOR -> ItemCapabilityReloadListener.processServerPacket(msg);
+			case WEAPON_TYPE -> WeaponTypeReloadListener.processServerPacket(msg);
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			throw new DatapackException(e.getMessage());
+		}
+	}
+	
 	public enum Type {
 		ARMOR, WEAPON, MOB, SKILL_PARAMS, WEAPON_TYPE
 	}
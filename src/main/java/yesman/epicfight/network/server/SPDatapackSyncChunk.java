@@ -0,0 +1,40 @@
+package yesman.epicfight.network.server;
+
+import java.util.function.Supplier;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import yesman.epicfight.api.data.reloader.DatapackSyncCache;
+
+public class SPDatapackSyncChunk {
+	private final String hash;
+	private final int index;
+	private final int total;
+	private final byte[] chunk;
+	
+	public SPDatapackSyncChunk(String hash, int index, int total, byte[] chunk) {
+		this.hash = hash;
+		this.index = index;
+		this.total = total;
+		this.chunk = chunk;
+	}
+	
+	public static SPDatapackSyncChunk fromBytes(FriendlyByteBuf buf) {
+		return new SPDatapackSyncChunk(buf.readUtf(64), buf.readVarInt(), buf.readVarInt(), buf.readByteArray(DatapackSyncCache.CHUNK_SIZE));
+	}
+	
+	public static void toBytes(SPDatapackSyncChunk msg, FriendlyByteBuf buf) {
+		buf.writeUtf(msg.hash, 64);
+		buf.writeVarInt(msg.index);
+		buf.writeVarInt(msg.total);
+		buf.writeByteArray(msg.chunk);
+	}
+	
+	public static void handle(SPDatapackSyncChunk msg, Supplier<NetworkEvent.Context> ctx) {
+		ctx.get().enqueueWork(() -> {
+			DatapackSyncCache.onChunkReceived(msg.hash, msg.index, msg.total, msg.chunk);
+		});
+		
+		ctx.get().setPacketHandled(true);
+	}
+}
\ No newline at end of file
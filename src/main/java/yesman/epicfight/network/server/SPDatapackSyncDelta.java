@@ -0,0 +1,87 @@
+package yesman.epicfight.network.server;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.google.common.collect.Lists;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+import yesman.epicfight.api.data.reloader.ItemCapabilityReloadListener;
+import yesman.epicfight.api.data.reloader.MobPatchReloadListener;
+import yesman.epicfight.api.exception.DatapackException;
+
+/**
+ * Item capabilities and mob patches changed or removed by a reload, sent to the players that already have the data
+ */
+public class SPDatapackSyncDelta {
+	private final List<CompoundTag> armors;
+	private final List<CompoundTag> weapons;
+	private final List<CompoundTag> mobPatches;
+	private final List<Integer> removedItems;
+	private final List<ResourceLocation> removedMobPatches;
+	
+	public SPDatapackSyncDelta() {
+		this(Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList());
+	}
+	
+	public SPDatapackSyncDelta(List<CompoundTag> armors, List<CompoundTag> weapons, List<CompoundTag> mobPatches, List<Integer> removedItems, List<ResourceLocation> removedMobPatches) {
+		this.armors = armors;
+		this.weapons = weapons;
+		this.mobPatches = mobPatches;
+		this.removedItems = removedItems;
+		this.removedMobPatches = removedMobPatches;
+	}
+	
+	public List<CompoundTag> getArmors() {
+		return this.armors;
+	}
+	
+	public List<CompoundTag> getWeapons() {
+		return this.weapons;
+	}
+	
+	public List<CompoundTag> getMobPatches() {
+		return this.mobPatches;
+	}
+	
+	public List<Integer> getRemovedItems() {
+		return this.removedItems;
+	}
+	
+	public List<ResourceLocation> getRemovedMobPatches() {
+		return this.removedMobPatches;
+	}
+	
+	public boolean isEmpty() {
+		return this.armors.isEmpty() && this.weapons.isEmpty() && this.mobPatches.isEmpty() && this.removedItems.isEmpty() && this.removedMobPatches.isEmpty();
+	}
+	
+	public static SPDatapackSyncDelta fromBytes(FriendlyByteBuf buf) {
+		return new SPDatapackSyncDelta(buf.readList(FriendlyByteBuf::readNbt), buf.readList(FriendlyByteBuf::readNbt), buf.readList(FriendlyByteBuf::readNbt), buf.readList(FriendlyByteBuf::readVarInt), buf.readList(FriendlyByteBuf::readResourceLocation));
+	}
+	
+	public static void toBytes(SPDatapackSyncDelta msg, FriendlyByteBuf buf) {
+		buf.writeCollection(msg.armors, FriendlyByteBuf::writeNbt);
+		buf.writeCollection(msg.weapons, FriendlyByteBuf::writeNbt);
+		buf.writeCollection(msg.mobPatches, FriendlyByteBuf::writeNbt);
+		buf.writeCollection(msg.removedItems, FriendlyByteBuf::writeVarInt);
+		buf.writeCollection(msg.removedMobPatches, FriendlyByteBuf::writeResourceLocation);
+	}
+	
+	public static void handle(SPDatapackSyncDelta msg, Supplier<NetworkEvent.Context> ctx) {
+		ctx.get().enqueueWork(() -> {
+			try {
+				ItemCapabilityReloadListener.processServerDelta(msg);
+				MobPatchReloadListener.processServerDelta(msg);
+			} catch (Exception e) {
+				e.printStackTrace();
+				throw new DatapackException(e.getMessage());
+			}
+		});
+		
+		ctx.get().setPacketHandled(true);
+	}
+}
\ No newline at end of file
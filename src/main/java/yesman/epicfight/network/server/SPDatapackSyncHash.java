@@ -0,0 +1,34 @@
+package yesman.epicfight.network.server;
+
+import java.util.function.Supplier;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import yesman.epicfight.api.data.reloader.DatapackSyncCache;
+
+public class SPDatapackSyncHash {
+	private final String hash;
+	private final int size;
+	
+	public SPDatapackSyncHash(String hash, int size) {
+		this.hash = hash;
+		this.size = size;
+	}
+	
+	public static SPDatapackSyncHash fromBytes(FriendlyByteBuf buf) {
+		return new SPDatapackSyncHash(buf.readUtf(64), buf.readVarInt());
+	}
+	
+	public static void toBytes(SPDatapackSyncHash msg, FriendlyByteBuf buf) {
+		buf.writeUtf(msg.hash, 64);
+		buf.writeVarInt(msg.size);
+	}
+	
+	public static void handle(SPDatapackSyncHash msg, Supplier<NetworkEvent.Context> ctx) {
+		ctx.get().enqueueWork(() -> {
+			DatapackSyncCache.onHashReceived(msg.hash);
+		});
+		
+		ctx.get().setPacketHandled(true);
+	}
+}
\ No newline at end of file
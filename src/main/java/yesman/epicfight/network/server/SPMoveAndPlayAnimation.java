@@ -39,6 +39,11 @@ public class SPMoveAndPlayAnimation extends SPPlayAnimationAndSetTarget {
 		super.onArrive();
 		Minecraft mc = Minecraft.getInstance();
 		Entity entity = mc.player.level().getEntity(this.entityId);
+		
+		if (entity == null) {
+			return;
+		}
+		
 		entity.setPos(this.posX, this.posY, this.posZ);
 		entity.setYRot(this.yRot);
 		entity.xo = entity.getX();
@@ -51,14 +56,14 @@ public class SPMoveAndPlayAnimation extends SPPlayAnimationAndSetTarget {
 	}
 	
 	public static SPMoveAndPlayAnimation fromBytes(FriendlyByteBuf buf) {
-		return new SPMoveAndPlayAnimation(buf.readInt(), buf.readInt(), buf.readFloat(), buf.readInt(), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readFloat());
+		return new SPMoveAndPlayAnimation(buf.readVarInt(), buf.readVarInt(), buf.readFloat(), buf.readVarInt(), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readFloat());
 	}
 	
 	public static void toBytes(SPMoveAndPlayAnimation msg, FriendlyByteBuf buf) {
-		buf.writeInt(msg.animationId);
-		buf.writeInt(msg.entityId);
+		buf.writeVarInt(msg.animationId);
+		buf.writeVarInt(msg.entityId);
 		buf.writeFloat(msg.convertTimeModifier);
-		buf.writeInt(msg.targetId);
+		buf.writeVarInt(msg.targetId);
 		buf.writeDouble(msg.posX);
 		buf.writeDouble(msg.posY);
 		buf.writeDouble(msg.posZ);
@@ -2,7 +2,6 @@ package yesman.epicfight.network.server;
 
 import java.util.function.Supplier;
 
-import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.Entity;
@@ -52,12 +51,12 @@ public class SPPlayAnimation {
 	}
 	
 	public static SPPlayAnimation fromBytes(FriendlyByteBuf buf) {
-		return new SPPlayAnimation(buf.readInt(), buf.readInt(), buf.readFloat());
+		return new SPPlayAnimation(buf.readVarInt(), buf.readVarInt(), buf.readFloat());
 	}
 	
-	public static void toBytes(SPPlayAnimation msg, ByteBuf buf) {
-		buf.writeInt(msg.animationId);
-		buf.writeInt(msg.entityId);
+	public static void toBytes(SPPlayAnimation msg, FriendlyByteBuf buf) {
+		buf.writeVarInt(msg.animationId);
+		buf.writeVarInt(msg.entityId);
 		buf.writeFloat(msg.convertTimeModifier);
 	}
 	
@@ -42,14 +42,14 @@ public class SPPlayAnimationAndSetTarget extends SPPlayAnimation {
 	}
 	
 	public static SPPlayAnimationAndSetTarget fromBytes(FriendlyByteBuf buf) {
-		return new SPPlayAnimationAndSetTarget(buf.readInt(), buf.readInt(), buf.readFloat(), buf.readInt());
+		return new SPPlayAnimationAndSetTarget(buf.readVarInt(), buf.readVarInt(), buf.readFloat(), buf.readVarInt());
 	}
 
 	public static void toBytes(SPPlayAnimationAndSetTarget msg, FriendlyByteBuf buf) {
-		buf.writeInt(msg.animationId);
-		buf.writeInt(msg.entityId);
+		buf.writeVarInt(msg.animationId);
+		buf.writeVarInt(msg.entityId);
 		buf.writeFloat(msg.convertTimeModifier);
-		buf.writeInt(msg.targetId);
+		buf.writeVarInt(msg.targetId);
 	}
 
 	public static void handle(SPPlayAnimationAndSetTarget msg, Supplier<NetworkEvent.Context> ctx) {
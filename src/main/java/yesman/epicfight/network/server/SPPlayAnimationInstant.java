@@ -17,7 +17,7 @@ public class SPPlayAnimationInstant extends SPPlayAnimation {
 	}
 	
 	public static SPPlayAnimationInstant fromBytes(FriendlyByteBuf buf) {
-		return new SPPlayAnimationInstant(buf.readInt(), buf.readInt(), buf.readFloat());
+		return new SPPlayAnimationInstant(buf.readVarInt(), buf.readVarInt(), buf.readFloat());
 	}
 	
 	@Override
@@ -0,0 +1,36 @@
+package yesman.epicfight.server.commands;
+
+import java.util.function.Supplier;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import yesman.epicfight.api.animation.AnimationTickScheduler;
+import yesman.epicfight.api.collider.AttackBroadphase;
+import yesman.epicfight.network.AnimationPacketBundler;
+
+public class MetricsCommand {
+	public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("epicfight").then(Commands.literal("metrics").requires((commandSourceStack) -> commandSourceStack.hasPermission(2))
+			.then(metric("broadphase", "attack broadphase", AttackBroadphase::getReport, AttackBroadphase::resetMetrics))
+			.then(metric("animation_tick", "animation tick", AnimationTickScheduler::getReport, AnimationTickScheduler::resetMetrics))
+			.then(metric("animation_packet", "animation packet", AnimationPacketBundler::getReport, AnimationPacketBundler::resetMetrics))
+		));
+	}
+	
+	private static LiteralArgumentBuilder<CommandSourceStack> metric(String name, String description, Supplier<String> report, Runnable reset) {
+		return Commands.literal(name)
+			.executes((command) -> {
+				command.getSource().sendSuccess(() -> Component.literal(report.get()), false);
+				return 1;
+			})
+			.then(Commands.literal("reset").executes((command) -> {
+				reset.run();
+				command.getSource().sendSuccess(() -> Component.literal("Reset " + description + " metrics"), false);
+				return 1;
+			}));
+	}
+}
\ No newline at end of file
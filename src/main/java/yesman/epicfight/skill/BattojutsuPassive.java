@@ -61,7 +61,7 @@ public class BattojutsuPassive extends Skill {
 				container.getDataManager().setDataSync(SkillDataKeys.SHEATH.get(), true, serverPlayer);
 				((ServerPlayerPatch)container.getExecuter()).modifyLivingMotionByCurrentItem();
 				SPPlayAnimation msg3 = new SPPlayAnimation(Animations.BIPED_UCHIGATANA_SCRAP, serverPlayer.getId(), 0.0F);
-				EpicFightNetworkManager.sendToAllPlayerTrackingThisEntityWithSelf(msg3, serverPlayer);
+				EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntityWithSelf(msg3, serverPlayer);
 			}
 		}
 		
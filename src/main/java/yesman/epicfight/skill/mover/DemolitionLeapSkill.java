@@ -119,7 +119,7 @@ public class DemolitionLeapSkill extends Skill implements ChargeableSkill {
 		caster.getAnimator().playAnimation(this.chargingAnimation.get(), 0.0F);
 		
 		if (!caster.isLogicalClient()) {
-			EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(new SPPlayAnimation(this.chargingAnimation.get(), 0.0F, caster), caster.getOriginal());
+			EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(new SPPlayAnimation(this.chargingAnimation.get(), 0.0F, caster), caster.getOriginal());
 		}
 	}
 
@@ -9,8 +9,10 @@ import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
 import net.minecraftforge.common.capabilities.RegisterCapabilitiesEvent;
 import yesman.epicfight.world.capabilities.entitypatch.EntityPatch;
+import yesman.epicfight.world.capabilities.entitypatch.EntityPatchHolder;
 import yesman.epicfight.world.capabilities.item.CapabilityItem;
 import yesman.epicfight.world.capabilities.projectile.ProjectilePatch;
+import yesman.epicfight.world.capabilities.provider.ItemCapabilityProvider;
 import yesman.epicfight.world.capabilities.skill.CapabilitySkill;
 
 @SuppressWarnings("rawtypes")
@@ -28,23 +30,26 @@ public class EpicFightCapabilities {
 	}
 	
 	public static CapabilityItem getItemStackCapability(ItemStack stack) {
-		return stack.isEmpty() ? CapabilityItem.EMPTY : stack.getCapability(CAPABILITY_ITEM).orElse(CapabilityItem.EMPTY);
+		return getItemStackCapabilityOr(stack, CapabilityItem.EMPTY);
 	}
 	
+	/**
+	 * Item capabilities aren't attached to stacks, they're looked up by the item in {@link ItemCapabilityProvider}
+	 */
 	public static CapabilityItem getItemStackCapabilityOr(ItemStack stack, @Nullable CapabilityItem defaultCap) {
-		return stack.isEmpty() ? defaultCap : stack.getCapability(CAPABILITY_ITEM).orElse(defaultCap);
+		if (stack.isEmpty()) {
+			return defaultCap;
+		}
+		
+		CapabilityItem capability = ItemCapabilityProvider.get(stack);
+		
+		return capability == null ? defaultCap : capability;
 	}
 	
-	@SuppressWarnings("unchecked")
+	/**
+	 * Reads the entity patch from the field of {@link EntityPatchHolder}, {@link #CAPABILITY_ENTITY} is kept for other mods
+	 */
 	public static <T extends EntityPatch> T getEntityPatch(Entity entity, Class<T> type) {
-		if (entity != null) {
-			EntityPatch<?> entitypatch = entity.getCapability(EpicFightCapabilities.CAPABILITY_ENTITY).orElse(null);
-			
-			if (entitypatch != null && type.isAssignableFrom(entitypatch.getClass())) {
-				return (T)entitypatch;
-			}
-		}
-		
-		return null;
+		return entity == null ? null : ((EntityPatchHolder)entity).epicfight_getEntityPatch(type);
 	}
 }
\ No newline at end of file
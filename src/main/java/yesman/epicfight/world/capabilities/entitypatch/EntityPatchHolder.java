@@ -0,0 +1,25 @@
+package yesman.epicfight.world.capabilities.entitypatch;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by every entity through {@link yesman.epicfight.mixin.MixinEntity}. The entity patch is stored in a field
+ * when the capabilities are attached, so it's read without a capability lookup. The capability is still attached for
+ * other mods.
+ */
+public interface EntityPatchHolder {
+	@Nullable
+	EntityPatch<?> epicfight_getEntityPatch();
+	
+	void epicfight_setEntityPatch(EntityPatch<?> entitypatch);
+	
+	/**
+	 * Returns the entity patch if it's an instance of the type, otherwise null
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	default <T> T epicfight_getEntityPatch(Class<T> type) {
+		EntityPatch<?> entitypatch = this.epicfight_getEntityPatch();
+		return type.isInstance(entitypatch) ? (T)entitypatch : null;
+	}
+}
\ No newline at end of file
@@ -209,7 +209,7 @@ public abstract class HumanoidMobPatch<T extends PathfinderMob> extends MobPatch
 		
 		SPChangeLivingMotion msg = new SPChangeLivingMotion(this.original.getId());
 		msg.putEntries(this.getAnimator().getLivingAnimations().entrySet());
-		EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(msg, this.original);
+		EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(msg, this.original);
 	}
 	
 	public boolean isArmed() {
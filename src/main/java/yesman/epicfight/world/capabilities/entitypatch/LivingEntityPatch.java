@@ -159,7 +159,7 @@ public abstract class LivingEntityPatch<T extends LivingEntity> extends Hurtable
 	}
 	
 	public void poseTick(DynamicAnimation animation, Pose pose, float elapsedTime, float partialTicks) {
-		if (pose.getJointTransformData().containsKey("Head")) {
+		if (pose.hasTransform("Head")) {
 			if (animation.doesHeadRotFollowEntityHead()) {
 				float headRotO = this.original.yBodyRotO - this.original.yHeadRotO;
 				float headRot = this.original.yBodyRot - this.original.yHeadRot;
@@ -226,6 +226,10 @@ public abstract class LivingEntityPatch<T extends LivingEntity> extends Hurtable
 	}
 	
 	public AttackResult tryHurt(DamageSource damageSource, float amount) {
+		if (this.animator instanceof ServerAnimator serverAnimator) {
+			serverAnimator.catchUp();
+		}
+		
 		return AttackResult.of(this.getEntityState().attackResult(damageSource), amount);
 	}
 	
@@ -415,7 +419,7 @@ public abstract class LivingEntityPatch<T extends LivingEntity> extends Hurtable
 	
 	public void reserveAnimation(StaticAnimation animation) {
 		this.animator.reserveAnimation(animation);
-		EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(new SPPlayAnimation(animation, this.original.getId(), 0.0F), this.original);
+		EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(new SPPlayAnimation(animation, this.original.getId(), 0.0F), this.original);
 	}
 	
 	public void playAnimationSynchronized(StaticAnimation animation, float convertTimeModifier) {
@@ -424,7 +428,7 @@ public abstract class LivingEntityPatch<T extends LivingEntity> extends Hurtable
 	
 	public void playAnimationSynchronized(StaticAnimation animation, float convertTimeModifier, AnimationPacketProvider packetProvider) {
 		this.animator.playAnimation(animation, convertTimeModifier);
-		EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(packetProvider.get(animation, convertTimeModifier, this), this.original);
+		EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(packetProvider.get(animation, convertTimeModifier, this), this.original);
 	}
 	
 	@FunctionalInterface
@@ -151,7 +151,7 @@ public class EndermanPatch extends MobPatch<EnderMan> {
 	public void poseTick(DynamicAnimation animation, Pose pose, float elapsedTime, float partialTicks) {
 		super.poseTick(animation, pose, elapsedTime, partialTicks);
 		
-		if (this.isRaging() && pose.getJointTransformData().containsKey("Head_Top")) {
+		if (this.isRaging() && pose.hasTransform("Head_Top")) {
 			pose.getOrDefaultTransform("Head_Top").frontResult(JointTransform.getTranslation(new Vec3f(0.0F, 0.25F, 0.0F)), OpenMatrix4f::mul);
 		}
 	}
@@ -210,7 +210,7 @@ public class EndermanPatch extends MobPatch<EnderMan> {
 			SPChangeLivingMotion msg = new SPChangeLivingMotion(this.original.getId(), true)
 					.putPair(LivingMotions.IDLE, Animations.ENDERMAN_RAGE_IDLE)
 					.putPair(LivingMotions.WALK, Animations.ENDERMAN_RAGE_WALK);
-			EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(msg, this.original);
+			EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(msg, this.original);
 		}
 	}
 	
@@ -233,7 +233,7 @@ public class EndermanPatch extends MobPatch<EnderMan> {
 			SPChangeLivingMotion msg = new SPChangeLivingMotion(this.original.getId(), true)
 					.putPair(LivingMotions.IDLE, Animations.ENDERMAN_IDLE)
 					.putPair(LivingMotions.WALK, Animations.ENDERMAN_WALK);
-			EpicFightNetworkManager.sendToAllPlayerTrackingThisEntity(msg, this.original);
+			EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntity(msg, this.original);
 		}
 	}
 	
@@ -204,20 +204,20 @@ public class ServerPlayerPatch extends PlayerPatch<ServerPlayer> {
 			SPChangeLivingMotion msg = new SPChangeLivingMotion(this.original.getId());
 			msg.putEntries(newLivingAnimations.entrySet());
 			
-			EpicFightNetworkManager.sendToAllPlayerTrackingThisEntityWithSelf(msg, this.original);
+			EpicFightNetworkManager.sendAnimationToAllPlayerTrackingThisEntityWithSelf(msg, this.original);
 		}
 	}
 	
 	@Override
 	public void playAnimationSynchronized(StaticAnimation animation, float convertTimeModifier, AnimationPacketProvider packetProvider) {
 		super.playAnimationSynchronized(animation, convertTimeModifier, packetProvider);
-		EpicFightNetworkManager.sendToPlayer(packetProvider.get(animation, convertTimeModifier, this), this.original);
+		EpicFightNetworkManager.sendAnimationToPlayer(packetProvider.get(animation, convertTimeModifier, this), this.original);
 	}
 	
 	@Override
 	public void reserveAnimation(StaticAnimation animation) {
 		super.reserveAnimation(animation);
-		EpicFightNetworkManager.sendToPlayer(new SPPlayAnimation(animation, this.original.getId(), 0.0F), this.original);
+		EpicFightNetworkManager.sendAnimationToPlayer(new SPPlayAnimation(animation, this.original.getId(), 0.0F), this.original);
 	}
 	
 	@Override
@@ -1,15 +1,25 @@
 package yesman.epicfight.world.capabilities.item;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.mojang.datafixers.util.Pair;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import yesman.epicfight.data.conditions.Condition;
 
 public class TagBasedSeparativeCapability extends CapabilityItem {
+	/**
+	 * Tags remembered per capability, the results are forgotten at once when there are more
+	 */
+	private static final int MAX_CACHED_RESULTS = 256;
+	
 	private final List<Pair<Condition<ItemStack>, CapabilityItem>> variations;
 	private final CapabilityItem defaultCapability;
+	private final Map<CompoundTag, CapabilityItem> results = new ConcurrentHashMap<> ();
+	private volatile CapabilityItem noTagResult;
 	
 	public TagBasedSeparativeCapability(List<Pair<Condition<ItemStack>, CapabilityItem>> variations, CapabilityItem defaultCapability) {
 		super(CapabilityItem.builder().category(WeaponCategories.NOT_WEAPON));
@@ -17,8 +27,38 @@ public class TagBasedSeparativeCapability extends CapabilityItem {
 		this.defaultCapability = defaultCapability;
 	}
 	
+	/**
+	 * The conditions only read the tag of the stack, so the result is remembered for each tag
+	 */
 	@Override
 	public CapabilityItem getResult(ItemStack itemstack) {
+		CompoundTag tag = itemstack.getTag();
+		
+		if (tag == null) {
+			if (this.noTagResult == null) {
+				this.noTagResult = this.selectVariation(itemstack);
+			}
+			
+			return this.noTagResult;
+		}
+		
+		CapabilityItem result = this.results.get(tag);
+		
+		if (result == null) {
+			result = this.selectVariation(itemstack);
+			
+			if (this.results.size() >= MAX_CACHED_RESULTS) {
+				this.results.clear();
+			}
+			
+			// Keyed by a copy since the tag of the stack can be modified later
+			this.results.put(tag.copy(), result);
+		}
+		
+		return result;
+	}
+	
+	private CapabilityItem selectVariation(ItemStack itemstack) {
 		for (Pair<Condition<ItemStack>, CapabilityItem> pair : this.variations) {
 			if (pair.getFirst().predicate(itemstack)) {
 				return pair.getSecond().getResult(itemstack);
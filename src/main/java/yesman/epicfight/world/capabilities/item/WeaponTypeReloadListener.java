@@ -37,6 +37,7 @@ import yesman.epicfight.api.animation.LivingMotion;
 import yesman.epicfight.api.animation.types.StaticAnimation;
 import yesman.epicfight.api.data.reloader.ItemCapabilityReloadListener;
 import yesman.epicfight.api.data.reloader.SkillManager;
+import yesman.epicfight.api.data.reloader.ResourceDelta;
 import yesman.epicfight.api.forgeevent.WeaponCapabilityPresetRegistryEvent;
 import yesman.epicfight.data.conditions.Condition.EntityPatchCondition;
 import yesman.epicfight.data.conditions.EpicFightConditions;
@@ -76,6 +77,7 @@ public class WeaponTypeReloadListener extends SimpleJsonResourceReloadListener {
 	private static final Gson GSON = (new GsonBuilder()).create();
 	private static final Map<ResourceLocation, Function<Item, CapabilityItem.Builder>> PRESETS = Maps.newHashMap();
 	private static final Map<ResourceLocation, CompoundTag> TAGMAP = Maps.newHashMap();
+	private static final ResourceDelta<ResourceLocation> DELTA = new ResourceDelta<> ();
 	
 	public WeaponTypeReloadListener() {
 		super(GSON, DIRECTORY);
@@ -84,8 +86,11 @@ public class WeaponTypeReloadListener extends SimpleJsonResourceReloadListener {
 	@Override
 	protected void apply(Map<ResourceLocation, JsonElement> packEntry, ResourceManager resourceManager, ProfilerFiller profilerFiller) {
 		clear();
+		DELTA.begin(false);
 		
 		for (Map.Entry<ResourceLocation, JsonElement> entry : packEntry.entrySet()) {
+			// Weapon types are cheap to build, they're all rebuilt and compared to rebuild the weapons using them
+			boolean unchanged = DELTA.isUnchanged(entry.getKey(), entry.getValue());
 			CompoundTag nbt = null;
 			
 			try {
@@ -99,11 +104,31 @@ public class WeaponTypeReloadListener extends SimpleJsonResourceReloadListener {
 				
 				PRESETS.put(entry.getKey(), (itemstack) -> builder);
 				TAGMAP.put(entry.getKey(), nbt);
+				
+				if (!unchanged) {
+					DELTA.rebuilt(entry.getKey(), entry.getKey());
+				}
 			} catch (Exception e) {
 				EpicFightMod.LOGGER.warn("Error while deserializing weapon type datapack: " + entry.getKey());
 				e.printStackTrace();
 			}
 		}
+		
+		DELTA.end().forEach(TAGMAP::remove);
+	}
+	
+	/**
+	 * Called when the server stops, the client clears the shared capabilities of an integrated server on logout
+	 */
+	public static void resetDelta() {
+		DELTA.reset();
+	}
+	
+	/**
+	 * Returns true if weapon types were added, changed or removed in the last reload
+	 */
+	public static boolean hasChanged() {
+		return DELTA.hasChanges();
 	}
 	
 	public static Function<Item, CapabilityItem.Builder> getOrThrow(String typeName) {
@@ -146,6 +146,10 @@ public class EntityPatchProvider implements ICapabilityProvider, NonNullSupplier
 		CUSTOM_CAPABILITIES.put(entityType, entitypatchProvider);
 	}
 	
+	public static void removeCustomEntityPatch(EntityType<?> entityType) {
+		CUSTOM_CAPABILITIES.remove(entityType);
+	}
+	
 	public static Function<Entity, Supplier<EntityPatch<?>>> get(String registryName) {
 		ResourceLocation rl = new ResourceLocation(registryName);
 		EntityType<?> entityType = ForgeRegistries.ENTITY_TYPES.getValue(rl);
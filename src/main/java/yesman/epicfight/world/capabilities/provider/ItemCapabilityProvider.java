@@ -3,9 +3,10 @@ package yesman.epicfight.world.capabilities.provider;
 import java.util.Map;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import com.google.common.collect.Maps;
 
-import net.minecraft.core.Direction;
 import net.minecraft.world.item.ArmorItem;
 import net.minecraft.world.item.AxeItem;
 import net.minecraft.world.item.BowItem;
@@ -18,21 +19,18 @@ import net.minecraft.world.item.PickaxeItem;
 import net.minecraft.world.item.ShieldItem;
 import net.minecraft.world.item.ShovelItem;
 import net.minecraft.world.item.SwordItem;
-import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.capabilities.ICapabilityProvider;
-import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.common.util.NonNullSupplier;
 import net.minecraftforge.registries.ForgeRegistries;
-import yesman.epicfight.world.capabilities.EpicFightCapabilities;
 import yesman.epicfight.world.capabilities.item.ArmorCapability;
 import yesman.epicfight.world.capabilities.item.CapabilityItem;
 import yesman.epicfight.world.capabilities.item.MapCapability;
-import yesman.epicfight.world.capabilities.item.TagBasedSeparativeCapability;
 import yesman.epicfight.world.capabilities.item.WeaponCapabilityPresets;
 
-public class ItemCapabilityProvider implements ICapabilityProvider, NonNullSupplier<CapabilityItem> {
+/**
+ * Capabilities are shared by the items instead of being attached to each item stack
+ */
+public class ItemCapabilityProvider {
 	private static final Map<Class<? extends Item>, Function<Item, CapabilityItem.Builder>> CAPABILITY_BY_CLASS = Maps.newHashMap();
-	private static final Map<Item, CapabilityItem> CAPABILITIES = Maps.newHashMap();
+	private static final Map<Item, CapabilityItem> CAPABILITIES = Maps.newIdentityHashMap();
 	
 	public static void registerWeaponTypesByClass() {
 		CAPABILITY_BY_CLASS.put(ArmorItem.class, (item) -> ArmorCapability.builder().item(item));
@@ -51,10 +49,25 @@ public class ItemCapabilityProvider implements ICapabilityProvider, NonNullSuppl
 		CAPABILITIES.put(item, cap);
 	}
 	
+	/**
+	 * Returns the capability of the stack without attaching a provider to it, the variation of a tag based
+	 * capability is selected by the current tag of the stack
+	 */
+	@Nullable
+	public static CapabilityItem get(ItemStack itemstack) {
+		CapabilityItem capability = CAPABILITIES.get(itemstack.getItem());
+		
+		return capability == null ? null : capability.getResult(itemstack);
+	}
+	
 	public static CapabilityItem get(Item item) {
 		return CAPABILITIES.getOrDefault(item, CAPABILITY_BY_CLASS.containsKey(item.getClass()) ? CAPABILITY_BY_CLASS.get(item.getClass()).apply(item).build() : null);
 	}
 	
+	public static void remove(Item item) {
+		CAPABILITIES.remove(item);
+	}
+	
 	public static void clear() {
 		CAPABILITIES.clear();
 	}
@@ -77,29 +90,4 @@ public class ItemCapabilityProvider implements ICapabilityProvider, NonNullSuppl
 			}
 		}
 	}
-	
-	private CapabilityItem capability;
-	private final LazyOptional<CapabilityItem> optional = LazyOptional.of(this);
-	
-	public ItemCapabilityProvider(ItemStack itemstack) {
-		this.capability = CAPABILITIES.get(itemstack.getItem());
-		
-		if (this.capability instanceof TagBasedSeparativeCapability) {
-			this.capability = this.capability.getResult(itemstack);
-		}
-	}
-	
-	public boolean hasCapability() {
-		return this.capability != null;
-	}
-	
-	@Override
-	public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
-		return cap == EpicFightCapabilities.CAPABILITY_ITEM ? this.optional.cast() : LazyOptional.empty();
-	}
-	
-	@Override
-	public CapabilityItem get() {
-		return this.capability;
-	}
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ public class EpicFightGamerules {
 	public static GameRules.Key<GameRules.BooleanValue> NO_MOBS_IN_BOSSFIGHT;
 	public static GameRules.Key<GameRules.IntegerValue> INITIAL_PLAYER_MODE;
 	public static GameRules.Key<GameRules.BooleanValue> EPIC_DROP;
+	public static GameRules.Key<GameRules.IntegerValue> IDLE_ANIMATION_TICK_INTERVAL;
+	public static GameRules.Key<GameRules.IntegerValue> ANIMATION_TICK_BUDGET;
 	
 	public static void registerRules() {
 		DO_VANILLA_ATTACK = GameRules.register("doVanillaAttack", GameRules.Category.PLAYER, GameRules.BooleanValue.create(ConfigManager.DO_VANILLA_ATTACK.get()));
@@ -47,5 +49,7 @@ public class EpicFightGamerules {
 			EpicFightNetworkManager.sendToAll(new SPChangeGamerule(SynchronizedGameRules.INITIAL_PLAYER_MODE, value.get()));
 		}));
 		EPIC_DROP = GameRules.register("epicDrop", GameRules.Category.DROPS, GameRules.BooleanValue.create(ConfigManager.EPIC_DROP.get()));
+		IDLE_ANIMATION_TICK_INTERVAL = GameRules.register("idleAnimationTickInterval", GameRules.Category.MOBS, GameRules.IntegerValue.create(ConfigManager.IDLE_ANIMATION_TICK_INTERVAL.get()));
+		ANIMATION_TICK_BUDGET = GameRules.register("animationTickBudget", GameRules.Category.MOBS, GameRules.IntegerValue.create(ConfigManager.ANIMATION_TICK_BUDGET.get()));
 	}
 }
\ No newline at end of file